@@ -8,6 +8,7 @@ package org.hibernate.persister.common.internal;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -24,6 +25,7 @@ import org.hibernate.persister.embeddable.EmbeddablePersister;
 import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.spi.ImprovedEntityPersister;
+import org.hibernate.sql.JoinType;
 import org.hibernate.sql.convert.spi.NotYetImplementedException;
 import org.hibernate.sqm.domain.PluralAttributeReference.CollectionClassification;
 import org.hibernate.sqm.domain.PluralAttributeElementReference.ElementClassification;
@@ -54,6 +56,8 @@ public class Helper {
 	private final Method subclassPropertyTableNumberMethod;
 	private final Method subclassPropertyColumnsMethod;
 	private final Method subclassPropertyFormulasMethod;
+	private final Method subclassTableJoinTypeMethod;
+	private final Method subclassTableKeyColumnsMethod;
 
 	/**
 	 * Singleton access
@@ -61,21 +65,28 @@ public class Helper {
 	public static final Helper INSTANCE = new Helper();
 
 	private Helper() {
-		try {
-			subclassTableSpanMethod = AbstractEntityPersister.class.getDeclaredMethod( "getSubclassTableSpan" );
-			subclassTableSpanMethod.setAccessible( true );
-
-			subclassPropertyTableNumberMethod = AbstractEntityPersister.class.getDeclaredMethod( "getSubclassPropertyTableNumber", int.class );
-			subclassPropertyTableNumberMethod.setAccessible( true );
-
-			subclassPropertyColumnsMethod = AbstractEntityPersister.class.getDeclaredMethod( "getSubclassPropertyColumnReaderClosure" );
-			subclassPropertyColumnsMethod.setAccessible( true );
+		subclassTableSpanMethod = locateMethod( "getSubclassTableSpan" );
+		subclassPropertyTableNumberMethod = locateMethod( "getSubclassPropertyTableNumber", int.class );
+		subclassPropertyColumnsMethod = locateMethod( "getSubclassPropertyColumnReaderClosure" );
+		subclassPropertyFormulasMethod = locateMethod( "getSubclassPropertyFormulaTemplateClosure" );
+		subclassTableJoinTypeMethod = locateMethod(
+				"determineSubclassTableJoinType",
+				int.class,
+				boolean.class,
+				boolean.class,
+				Set.class
+		);
+		subclassTableKeyColumnsMethod = locateMethod( "getSubclassTableKeyColumns", int.class );
+	}
 
-			subclassPropertyFormulasMethod = AbstractEntityPersister.class.getDeclaredMethod( "getSubclassPropertyFormulaTemplateClosure" );
-			subclassPropertyFormulasMethod.setAccessible( true );
+	private static Method locateMethod(String name, Class<?>... parameterTypes) {
+		try {
+			final Method method = AbstractEntityPersister.class.getDeclaredMethod( name, parameterTypes );
+			method.setAccessible( true );
+			return method;
 		}
 		catch (Exception e) {
-			throw new HibernateException( "Unable to initialize access to AbstractEntityPersister#getSubclassTableSpan", e );
+			throw new HibernateException( "Unable to initialize access to AbstractEntityPersister#" + name, e );
 		}
 	}
 
@@ -153,6 +164,54 @@ public class Helper {
 		}
 	}
 
+	/**
+	 * Determine how the given subclass table would be joined by the persister itself
+	 * when subclasses are included: {@link JoinType#INNER_JOIN} for tables which always
+	 * have a row (the class and superclass tables, non-optional secondary tables),
+	 * {@link JoinType#LEFT_OUTER_JOIN} for subclass tables and optional secondary tables.
+	 */
+	public JoinType getSubclassTableJoinType(EntityPersister persister, int subclassTableNumber) {
+		try {
+			return (JoinType) subclassTableJoinTypeMethod.invoke(
+					persister,
+					subclassTableNumber,
+					true,
+					true,
+					Collections.emptySet()
+			);
+		}
+		catch (InvocationTargetException e) {
+			throw new HibernateException(
+					"Unable to access AbstractEntityPersister#determineSubclassTableJoinType [" + persister.toString() + "]",
+					e.getTargetException()
+			);
+		}
+		catch (Exception e) {
+			throw new HibernateException(
+					"Unable to access AbstractEntityPersister#determineSubclassTableJoinType [" + persister.toString() + "]",
+					e
+			);
+		}
+	}
+
+	public String[] getSubclassTableKeyColumns(EntityPersister persister, int subclassTableNumber) {
+		try {
+			return (String[]) subclassTableKeyColumnsMethod.invoke( persister, subclassTableNumber );
+		}
+		catch (InvocationTargetException e) {
+			throw new HibernateException(
+					"Unable to access AbstractEntityPersister#getSubclassTableKeyColumns [" + persister.toString() + "]",
+					e.getTargetException()
+			);
+		}
+		catch (Exception e) {
+			throw new HibernateException(
+					"Unable to access AbstractEntityPersister#getSubclassTableKeyColumns [" + persister.toString() + "]",
+					e
+			);
+		}
+	}
+
 	public static Column[] makeValues(
 			SessionFactoryImplementor factory,
 			AbstractTable containingTable,
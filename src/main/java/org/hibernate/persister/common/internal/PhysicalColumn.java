@@ -43,6 +43,11 @@ public class PhysicalColumn implements Column {
 		return identificationVariable + '.' + name;
 	}
 
+	@Override
+	public void render(String identificationVariable, StringBuilder sqlBuffer) {
+		sqlBuffer.append( identificationVariable ).append( '.' ).append( name );
+	}
+
 	@Override
 	public String toLoggableString() {
 		return "PhysicalColumn(" + name + ");";
@@ -21,4 +21,14 @@ public interface Column {
 	String toLoggableString();
 
 	String render(String identificationVariable);
+
+	/**
+	 * Render this column, as {@link #render(String)} does, directly into the given buffer.
+	 *
+	 * @param identificationVariable The identification variable (alias) of the table reference
+	 * @param sqlBuffer The buffer to render into
+	 */
+	default void render(String identificationVariable, StringBuilder sqlBuffer) {
+		sqlBuffer.append( render( identificationVariable ) );
+	}
 }
@@ -54,8 +54,13 @@ public class ImprovedEntityPersisterImpl implements ImprovedEntityPersister {
 	private final EntityPersister persister;
 
 	private AbstractTable[] tables;
+	// for each (non-root) table, whether its join can be omitted if its columns are not referenced
+	private boolean[] optionalTables;
+	// for each (non-root) table, the columns joined to the root table's id columns
+	private Column[][] tableKeyColumns;
 
 	private ImprovedEntityPersister superType;
+	private Column[] idColumns;
 	private IdentifierDescriptor identifierDescriptor;
 
 	private final Map<String, AbstractAttributeImpl> attributeMap = new HashMap<>();
@@ -85,20 +90,35 @@ public class ImprovedEntityPersisterImpl implements ImprovedEntityPersister {
 		if ( persister instanceof UnionSubclassEntityPersister ) {
 			tables = new AbstractTable[1];
 			tables[0] =  makeTableReference( databaseModel, ((UnionSubclassEntityPersister) persister).getTableName() );
+			optionalTables = new boolean[1];
+			tableKeyColumns = new Column[1][];
 		}
 		else {
 			// for now we treat super, self and sub attributes here just as EntityPersister does
 			// ultimately would be better to split that across the specific persister impls and link them imo
 			final int subclassTableCount = Helper.INSTANCE.extractSubclassTableCount( persister );
 			this.tables = new AbstractTable[subclassTableCount];
+			this.optionalTables = new boolean[subclassTableCount];
+			this.tableKeyColumns = new Column[subclassTableCount][];
 
 			tables[0] = makeTableReference( databaseModel, queryable.getSubclassTableName( 0 ) );
 			for ( int i = 1; i < subclassTableCount; i++ ) {
 				tables[i] = makeTableReference( databaseModel, queryable.getSubclassTableName( i ) );
+				// tables the persister itself outer joins (subclass tables, optional secondary
+				// tables) do not influence the rows returned
+				optionalTables[i] = Helper.INSTANCE.getSubclassTableJoinType( persister, i )
+						!= org.hibernate.sql.JoinType.INNER_JOIN;
+				tableKeyColumns[i] = Helper.makeValues(
+						domainMetamodel.getSessionFactory(),
+						tables[i],
+						persister.getIdentifierType(),
+						Helper.INSTANCE.getSubclassTableKeyColumns( persister, i ),
+						null
+				);
 			}
 		}
 
-		final Column[] idColumns = Helper.makeValues(
+		idColumns = Helper.makeValues(
 				domainMetamodel.getSessionFactory(),
 				tables[0],
 				persister.getIdentifierType(),
@@ -222,22 +242,13 @@ public class ImprovedEntityPersisterImpl implements ImprovedEntityPersister {
 			SqlAliasBaseManager sqlAliasBaseManager,
 			FromClauseIndex fromClauseIndex) {
 
-		// todo : limit inclusion of subclass tables.
-		// 		we should only include subclass tables in very specific circumstances (such
-		// 		as handling persister reference in select clause, JPQL TYPE cast, subclass attribute
-		// 		de-reference, etc).  In other cases it is an unnecessary overhead to include those
-		// 		table joins
-		//
-		// however... the easiest way to accomplish this is during the SQM building to have each FromElement
-		//		keep track of all needed subclass references.  The problem is that that gets tricky with the
-		// 		design goal of having SQM be completely independent from ORM.  It basically means we will end
-		// 		up needing to expose more model and mapping information in the org.hibernate.sqm.domain.ModelMetadata
-		// 		contracts
+		// Joins to subclass tables (and optional secondary tables) are added as optional
+		// TableJoins.  As the SQM is interpreted, resolving a column binding against the
+		// group "registers" the use of that column's table; only optional joins to tables
+		// so referenced are rendered (see TableGroup#getRequiredTableJoins).  A reference
+		// to the entity as a whole (e.g. in the select clause) keeps all of them.
 		//
-		// Another option would be to have exposed methods on TableSpecificationGroup to "register"
-		//		path dereferences as we interpret SQM.  The idea being that we'd capture the need for
-		//		certain subclasses as we interpret the SQM into SQL-AST via this registration.  However
-		//		since
+		// todo : TREAT should limit that to the tables of the treated subtype once SQM exposes it
 
 		final EntityTableGroup group = new EntityTableGroup(
 				tableSpace,
@@ -251,17 +262,43 @@ public class ImprovedEntityPersisterImpl implements ImprovedEntityPersister {
 		final TableBinding drivingTableBinding = new TableBinding( tables[0], group.getAliasBase() );
 		group.setRootTableBinding( drivingTableBinding );
 
-		// todo : determine proper join type
-		JoinType joinType = JoinType.LEFT;
-		addNonRootTables( group, joinType, 0, drivingTableBinding );
+		addNonRootTables( group, JoinType.INNER, 0, drivingTableBinding );
 
 		return group;
 	}
 
+	/**
+	 * Adds the joins to the entity's non-root tables.  Tables which always have a row for
+	 * the entity (superclass tables, non-optional secondary tables) are joined using the
+	 * given join type; subclass tables and optional secondary tables are always (optionally)
+	 * left joined.
+	 * <p/>
+	 * Note that {@link #buildTableGroup} passes an inner join even if the entity is itself
+	 * outer joined.  That is correct because a table group's table joins are rendered
+	 * directly after its root table, ahead of the predicate joining the group itself - a
+	 * nested join - so an outer join of the group applies to all of its tables as a whole.
+	 */
 	private void addNonRootTables(AbstractTableGroup group, JoinType joinType, int baseAdjust, TableBinding entityRootTableBinding) {
 		for ( int i = 1; i < tables.length; i++ ) {
 			final TableBinding tableBinding = new TableBinding( tables[i], group.getAliasBase() + '_' + (i + (baseAdjust-1)) );
-			group.addTableSpecificationJoin( new TableJoin( joinType, tableBinding, null ) );
+			final Junction joinPredicate = new Junction( Junction.Nature.CONJUNCTION );
+			for ( int c = 0; c < idColumns.length; c++ ) {
+				joinPredicate.add(
+						new RelationalPredicate(
+								RelationalPredicate.Operator.EQUAL,
+								new ColumnBindingExpression( new ColumnBinding( idColumns[c], entityRootTableBinding ) ),
+								new ColumnBindingExpression( new ColumnBinding( tableKeyColumns[i][c], tableBinding ) )
+						)
+				);
+			}
+			group.addTableSpecificationJoin(
+					new TableJoin(
+							optionalTables[i] ? JoinType.LEFT : joinType,
+							tableBinding,
+							joinPredicate,
+							optionalTables[i]
+					)
+			);
 		}
 	}
 
@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed;
+
+import java.util.Locale;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+
+/**
+ * How literals specified in a query are rendered into the SQL, outside of its SELECT
+ * clause (where literals are always rendered inline).  See {@link QuerySettings#LITERAL_HANDLING_MODE}.
+ *
+ * @author Steve Ebersole
+ */
+@Incubating
+public enum LiteralHandlingMode {
+	/**
+	 * Numeric, boolean and enum literals are rendered inline, making their values visible
+	 * to the database's query planner; all other literals are bound as JDBC parameters.
+	 */
+	AUTO,
+	/**
+	 * Literals are bound as JDBC parameters.
+	 */
+	BIND,
+	/**
+	 * Literals are rendered inline wherever their Type renders them in a fixed format: besides
+	 * the literals inlined for {@link #AUTO}, temporal, duration and UUID literals.  Character
+	 * literals are still bound, as rendering them inline would require escaping them.
+	 */
+	INLINE;
+
+	/**
+	 * Interpret the value of the {@link QuerySettings#LITERAL_HANDLING_MODE} setting.
+	 *
+	 * @param setting The setting value: a LiteralHandlingMode, its (case-insensitive) name, or {@code null}
+	 *
+	 * @return The LiteralHandlingMode; {@link #BIND} if none was specified
+	 */
+	public static LiteralHandlingMode interpret(Object setting) {
+		if ( setting == null ) {
+			return BIND;
+		}
+		if ( setting instanceof LiteralHandlingMode ) {
+			return (LiteralHandlingMode) setting;
+		}
+
+		final String name = setting.toString().trim();
+		if ( name.isEmpty() ) {
+			return BIND;
+		}
+		try {
+			return valueOf( name.toUpperCase( Locale.ROOT ) );
+		}
+		catch (IllegalArgumentException e) {
+			throw new HibernateException(
+					"Unrecognized " + QuerySettings.LITERAL_HANDLING_MODE + " value : " + setting
+			);
+		}
+	}
+}
@@ -79,9 +79,7 @@ public interface Query<R> extends TypedQuery<R>, CommonQueryContract {
 	Iterator<R> iterate();
 
 	/**
-	 * Return the query results as <tt>ScrollableResults</tt>. The
-	 * scrollability of the returned results depends upon JDBC driver
-	 * support for scrollable <tt>ResultSet</tt>s.<br>
+	 * Return the query results as forward-only <tt>ScrollableResults</tt>.<br>
 	 *
 	 * @see ScrollableResults
 	 *
@@ -90,13 +88,15 @@ public interface Query<R> extends TypedQuery<R>, CommonQueryContract {
 	ScrollableResults scroll();
 
 	/**
-	 * Return the query results as ScrollableResults. The scrollability of the returned results
-	 * depends upon JDBC driver support for scrollable ResultSets.
+	 * Return the query results as ScrollableResults.  Only {@link ScrollMode#FORWARD_ONLY} is
+	 * supported for now.
 	 *
 	 * @param scrollMode The scroll mode
 	 *
 	 * @return the result iterator
 	 *
+	 * @throws UnsupportedOperationException for any other ScrollMode
+	 *
 	 * @see ScrollableResults
 	 * @see ScrollMode
 	 *
@@ -551,6 +551,16 @@ public interface Query<R> extends TypedQuery<R>, CommonQueryContract {
 	 */
 	Query<R> setProperties(Map bean);
 
+	/**
+	 * Unbind the values bound to all parameters of the query, so that it can be bound and
+	 * executed again.  Executing the same Query instance repeatedly (bind, execute, clear)
+	 * rather than creating a new one for each execution avoids re-creating the parameter
+	 * metadata and bindings, and re-resolving the query plan.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	Query<R> clearParameterBindings();
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// deprecations
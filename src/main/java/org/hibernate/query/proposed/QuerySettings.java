@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed;
+
+import org.hibernate.Incubating;
+
+/**
+ * Names of the configuration settings understood by the query support.  Meant to
+ * be folded into {@link org.hibernate.cfg.AvailableSettings} eventually.
+ *
+ * @author Steve Ebersole
+ */
+@Incubating
+public interface QuerySettings {
+	/**
+	 * Should the values bound to a multi-valued (IN list) parameter be rendered as
+	 * a number of JDBC parameters rounded up to the next power of two, repeating the
+	 * last value to fill the remaining slots?  This bounds the number of distinct SQL
+	 * strings produced for IN lists of varying size.
+	 * <p/>
+	 * Default is {@code false}.
+	 */
+	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
+
+	/**
+	 * The maximum number of SQL queries executed concurrently for a polymorphic query
+	 * which is split into one query per concrete implementor.  Values greater than 1
+	 * allow the queries of a read-only execution outside of a transaction, selecting only
+	 * basic values, to run in parallel, each using its own (temporary) session and JDBC
+	 * connection.  The SessionFactory uses at most {@code parallelism - 1} threads (and so
+	 * additional JDBC connections) for this, shared by all polymorphic queries.
+	 * <p/>
+	 * Default is {@code 1}, meaning the queries are executed one after another.
+	 */
+	String POLYMORPHIC_QUERY_PARALLELISM = "hibernate.query.polymorphic_query_parallelism";
+
+	/**
+	 * Should the List returned by Query#list for a query selecting a single {@code Long}
+	 * or {@code Integer} value (e.g. {@code select e.id from Entity e}) store the values
+	 * in a primitive {@code long[]} / {@code int[]} rather than as boxed objects?  The
+	 * values are boxed as they are accessed.
+	 * <p/>
+	 * Default is {@code false}.
+	 */
+	String PRIMITIVE_RESULT_LISTS = "hibernate.query.primitive_result_lists";
+
+	/**
+	 * Should ScrollableResults (and Streams) read every row into the same {@code Object[]}
+	 * rather than allocating one per row?  A row obtained from {@code ScrollableResults#get()}
+	 * is then only valid until the ScrollableResults is moved to the next row, and must be
+	 * copied to be kept beyond that.
+	 * <p/>
+	 * Default is {@code false}.
+	 */
+	String REUSE_SCROLLED_ROWS = "hibernate.query.reuse_scrolled_rows";
+
+	/**
+	 * Should executions of INSERT, UPDATE and DELETE queries be added to the session's JDBC
+	 * batch rather than executed immediately?  Only has an effect when JDBC batching is enabled
+	 * ({@link org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE} greater than 1), which
+	 * also determines the number of executions sent to the database at once, and only within
+	 * a transaction (outside of one every execution is immediate).  Consecutive executions of
+	 * the same statement are batched together; the batch is executed once full, when a
+	 * different statement is executed, when a query is executed, when the session is flushed
+	 * and, at the latest, before the transaction completes.  It is discarded when the
+	 * transaction is rolled back.
+	 * <p/>
+	 * The number of affected rows is not known for a batched execution, which therefore
+	 * reports {@link java.sql.Statement#SUCCESS_NO_INFO}.
+	 * <p/>
+	 * Default is {@code false}.
+	 */
+	String BATCH_DML_QUERIES = "hibernate.query.batch_dml_queries";
+
+	/**
+	 * The maximum number of PreparedStatements kept open per session for reuse by later
+	 * executions of the same SQL, which then only re-bind the parameters.
+	 * The statements are closed when the connection is released.  Not applied with the
+	 * {@code AFTER_STATEMENT} connection release mode.
+	 * <p/>
+	 * Default is {@code 0}, meaning statements are not kept.
+	 */
+	String PREPARED_STATEMENT_CACHE_SIZE = "hibernate.query.prepared_statement_cache_size";
+
+	/**
+	 * How literals specified in a query are rendered into the SQL outside of its SELECT clause,
+	 * as a {@link LiteralHandlingMode} or its name.  {@code auto} renders numeric, boolean and enum
+	 * literals inline (so that the database can plan the query for those values, e.g. against a
+	 * skewed column) while binding the others; {@code bind} binds all of them as JDBC parameters;
+	 * {@code inline} additionally renders temporal, duration and UUID literals inline (character
+	 * literals are never inlined, as that would require escaping them).
+	 * <p/>
+	 * Default is {@code bind}.
+	 */
+	String LITERAL_HANDLING_MODE = "hibernate.query.literal_handling_mode";
+
+	/**
+	 * Should each thread keep the SqlTreeWalker (and the buffer it renders SQL into) it used
+	 * to render a query, for rendering its next query?  This avoids allocating (and growing)
+	 * the rendering state anew for every query whose SQL is not already cached.  The walker
+	 * holds on to no query or SessionFactory state between renderings.
+	 * <p/>
+	 * Default is {@code false}.
+	 */
+	String POOL_SQL_TREE_WALKERS = "hibernate.query.pool_sql_tree_walkers";
+}
@@ -0,0 +1,309 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.query.proposed.spi.ScrollableResultsImplementor;
+
+/**
+ * Base support for ScrollableResults which can only move forward, one row at a time.
+ * Row numbers are zero-based, {@code -1} meaning "before the first row".
+ * <p/>
+ * {@link #isLast()} (and so {@link #last()}) reads one row ahead: the values of the current
+ * row are copied and the underlying results are moved on to the next row, which then only
+ * becomes the current row on the following {@link #next()}.
+ *
+ * @author Steve Ebersole
+ */
+@Incubating
+public abstract class AbstractForwardOnlyScrollableResults implements ScrollableResultsImplementor {
+	private int rowNumber = -1;
+	private boolean afterLast;
+	private boolean closed;
+
+	// the (copied) current row while the underlying results were moved on to the next one
+	private Object[] lookAheadRow;
+	private boolean lookAheadHasNext;
+
+	/**
+	 * Move to the next row.
+	 *
+	 * @return {@code true} if there was a next row; {@code false} if the results are exhausted
+	 */
+	protected abstract boolean advance();
+
+	/**
+	 * The values of the current row
+	 */
+	protected abstract Object[] getCurrentRow();
+
+	/**
+	 * Release the resources backing these results
+	 */
+	protected abstract void release();
+
+	@Override
+	public boolean next() {
+		if ( closed ) {
+			throw new HibernateException( "ScrollableResults is closed" );
+		}
+		if ( afterLast ) {
+			return false;
+		}
+		if ( lookAheadRow != null ) {
+			lookAheadRow = null;
+			if ( lookAheadHasNext ) {
+				rowNumber++;
+				return true;
+			}
+			afterLast = true;
+			return false;
+		}
+		if ( advance() ) {
+			rowNumber++;
+			return true;
+		}
+		afterLast = true;
+		return false;
+	}
+
+	@Override
+	public boolean scroll(int positions) {
+		if ( positions < 0 ) {
+			throw movingBackwards();
+		}
+		boolean onRow = rowNumber >= 0 && !afterLast;
+		for ( int i = 0; i < positions; i++ ) {
+			onRow = next();
+			if ( !onRow ) {
+				break;
+			}
+		}
+		return onRow;
+	}
+
+	@Override
+	public boolean setRowNumber(int rowNumber) {
+		if ( rowNumber < this.rowNumber ) {
+			throw movingBackwards();
+		}
+		return scroll( rowNumber - this.rowNumber );
+	}
+
+	@Override
+	public boolean previous() {
+		throw movingBackwards();
+	}
+
+	@Override
+	public boolean first() {
+		if ( rowNumber == 0 && !afterLast ) {
+			return true;
+		}
+		if ( rowNumber == -1 ) {
+			return next();
+		}
+		throw movingBackwards();
+	}
+
+	@Override
+	public void beforeFirst() {
+		if ( rowNumber != -1 ) {
+			throw movingBackwards();
+		}
+	}
+
+	@Override
+	public boolean last() {
+		if ( afterLast ) {
+			if ( rowNumber == -1 ) {
+				// there are no rows
+				return false;
+			}
+			throw movingBackwards();
+		}
+		if ( rowNumber == -1 && !next() ) {
+			return false;
+		}
+		while ( !isLast() ) {
+			next();
+		}
+		return true;
+	}
+
+	@Override
+	public void afterLast() {
+		while ( next() ) {
+			// just move forward
+		}
+	}
+
+	@Override
+	public boolean isFirst() {
+		return rowNumber == 0 && !afterLast;
+	}
+
+	@Override
+	public boolean isLast() {
+		if ( closed ) {
+			throw new HibernateException( "ScrollableResults is closed" );
+		}
+		if ( rowNumber < 0 || afterLast ) {
+			return false;
+		}
+		if ( lookAheadRow == null ) {
+			// the subclass may reuse the array of the current row when advancing
+			lookAheadRow = getCurrentRow().clone();
+			lookAheadHasNext = advance();
+		}
+		return !lookAheadHasNext;
+	}
+
+	@Override
+	public int getRowNumber() {
+		return rowNumber;
+	}
+
+	private static UnsupportedOperationException movingBackwards() {
+		return new UnsupportedOperationException( "Forward-only ScrollableResults cannot move backwards" );
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		release();
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public Object[] get() {
+		if ( closed ) {
+			throw new HibernateException( "ScrollableResults is closed" );
+		}
+		if ( rowNumber < 0 || afterLast ) {
+			throw new HibernateException( "ScrollableResults is not positioned on a row" );
+		}
+		return lookAheadRow != null ? lookAheadRow : getCurrentRow();
+	}
+
+	@Override
+	public Object get(int col) {
+		return get()[col];
+	}
+
+	@Override
+	public Integer getInteger(int col) {
+		return (Integer) get( col );
+	}
+
+	@Override
+	public Long getLong(int col) {
+		return (Long) get( col );
+	}
+
+	@Override
+	public Float getFloat(int col) {
+		return (Float) get( col );
+	}
+
+	@Override
+	public Boolean getBoolean(int col) {
+		return (Boolean) get( col );
+	}
+
+	@Override
+	public Double getDouble(int col) {
+		return (Double) get( col );
+	}
+
+	@Override
+	public Short getShort(int col) {
+		return (Short) get( col );
+	}
+
+	@Override
+	public Byte getByte(int col) {
+		return (Byte) get( col );
+	}
+
+	@Override
+	public Character getCharacter(int col) {
+		return (Character) get( col );
+	}
+
+	@Override
+	public byte[] getBinary(int col) {
+		return (byte[]) get( col );
+	}
+
+	@Override
+	public String getText(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public Blob getBlob(int col) {
+		return (Blob) get( col );
+	}
+
+	@Override
+	public Clob getClob(int col) {
+		return (Clob) get( col );
+	}
+
+	@Override
+	public String getString(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int col) {
+		return (BigDecimal) get( col );
+	}
+
+	@Override
+	public BigInteger getBigInteger(int col) {
+		return (BigInteger) get( col );
+	}
+
+	@Override
+	public Date getDate(int col) {
+		return (Date) get( col );
+	}
+
+	@Override
+	public Locale getLocale(int col) {
+		return (Locale) get( col );
+	}
+
+	@Override
+	public Calendar getCalendar(int col) {
+		return (Calendar) get( col );
+	}
+
+	@Override
+	public TimeZone getTimeZone(int col) {
+		return (TimeZone) get( col );
+	}
+}
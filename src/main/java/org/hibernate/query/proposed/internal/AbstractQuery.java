@@ -1190,6 +1190,12 @@ public abstract class AbstractQuery<R> implements QueryImplementor<R> {
 		return this;
 	}
 
+	@Override
+	public QueryImplementor<R> clearParameterBindings() {
+		queryParameterBindings().clearBindings();
+		return this;
+	}
+
 	protected void afterQuery() {
 		if ( sessionFlushMode != null ) {
 			executionContext.setHibernateFlushMode( sessionFlushMode );
@@ -1281,7 +1287,8 @@ public abstract class AbstractQuery<R> implements QueryImplementor<R> {
 
 	@Override
 	public ScrollableResultsImplementor scroll() {
-		return scroll( getProducer().getFactory().getJdbcServices().getJdbcEnvironment().getDialect().defaultScrollMode() );
+		// only forward-only scrolling is supported, whatever the Dialect's default
+		return scroll( ScrollMode.FORWARD_ONLY );
 	}
 
 	@Override
@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.internal;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.proposed.internal.sqm.AggregatedQueryExecutor;
+import org.hibernate.query.proposed.spi.ResolvedQuerySettings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+
+/**
+ * Initiates the SessionFactory's {@link AggregatedQueryExecutor}.
+ *
+ * @author Steve Ebersole
+ */
+public class AggregatedQueryExecutorInitiator implements SessionFactoryServiceInitiator<AggregatedQueryExecutor> {
+	/**
+	 * Singleton access
+	 */
+	public static final AggregatedQueryExecutorInitiator INSTANCE = new AggregatedQueryExecutorInitiator();
+
+	@Override
+	public Class<AggregatedQueryExecutor> getServiceInitiated() {
+		return AggregatedQueryExecutor.class;
+	}
+
+	@Override
+	public AggregatedQueryExecutor initiateService(
+			SessionFactoryImplementor sessionFactory,
+			SessionFactoryOptions sessionFactoryOptions,
+			ServiceRegistryImplementor registry) {
+		return new AggregatedQueryExecutor(
+				registry.getService( ResolvedQuerySettings.class ).getPolymorphicQueryParallelism()
+		);
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.internal;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.query.proposed.spi.NonSelectQueryPlan;
+import org.hibernate.query.proposed.spi.QueryInterpretations;
+import org.hibernate.query.proposed.spi.SelectQueryPlan;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Standard QueryInterpretations implementation.  Plans are held in bounded,
+ * segmented (lock-striped) maps using LIRS eviction, so that applications building
+ * dynamic queries cannot grow the cache without limit and concurrent lookups do
+ * not contend on a single lock.
+ * <p/>
+ * The maximum number of select and non-select plans (each) is controlled by
+ * {@link AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE}.
+ * <p/>
+ * This is the implementation of the SessionFactory's QueryInterpretations service, see
+ * {@link QueryInterpretationsInitiator}.
+ *
+ * @author Steve Ebersole
+ */
+public class QueryInterpretationsImpl implements QueryInterpretations {
+	private static final Logger log = Logger.getLogger( QueryInterpretationsImpl.class );
+
+	/**
+	 * The default maximum number of plans (of each kind) to cache
+	 */
+	public static final int DEFAULT_MAX_SIZE = 2048;
+
+	private static final int CONCURRENCY_LEVEL = 20;
+
+	private final int maxSize;
+
+	private final BoundedConcurrentHashMap<Key, SelectQueryPlan> selectQueryPlanMap;
+	private final BoundedConcurrentHashMap<Key, NonSelectQueryPlan> nonSelectQueryPlanMap;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * Builds a QueryInterpretationsImpl, reading the maximum size from the given
+	 * configuration settings.
+	 *
+	 * @param configurationSettings The configuration settings
+	 *
+	 * @return The QueryInterpretationsImpl
+	 */
+	public static QueryInterpretationsImpl from(Map configurationSettings) {
+		return new QueryInterpretationsImpl(
+				ConfigurationHelper.getInt(
+						AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE,
+						configurationSettings,
+						DEFAULT_MAX_SIZE
+				)
+		);
+	}
+
+	public QueryInterpretationsImpl() {
+		this( DEFAULT_MAX_SIZE );
+	}
+
+	public QueryInterpretationsImpl(int maxSize) {
+		if ( maxSize <= 0 ) {
+			throw new IllegalArgumentException( "QueryInterpretations max size must be greater than zero : " + maxSize );
+		}
+		this.maxSize = maxSize;
+
+		log.debugf( "Creating QueryInterpretations with max size [%s]", maxSize );
+
+		this.selectQueryPlanMap = new BoundedConcurrentHashMap<>(
+				maxSize,
+				CONCURRENCY_LEVEL,
+				BoundedConcurrentHashMap.Eviction.LIRS,
+				new EvictionCounter<>()
+		);
+		this.nonSelectQueryPlanMap = new BoundedConcurrentHashMap<>(
+				maxSize,
+				CONCURRENCY_LEVEL,
+				BoundedConcurrentHashMap.Eviction.LIRS,
+				new EvictionCounter<>()
+		);
+	}
+
+	@Override
+	public SelectQueryPlan getSelectQueryPlan(Key key) {
+		return countLookup( selectQueryPlanMap.get( key ) );
+	}
+
+	@Override
+	public void cacheSelectQueryPlan(Key key, SelectQueryPlan plan) {
+		selectQueryPlanMap.putIfAbsent( key, plan );
+	}
+
+	@Override
+	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
+		return countLookup( nonSelectQueryPlanMap.get( key ) );
+	}
+
+	@Override
+	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
+		nonSelectQueryPlanMap.putIfAbsent( key, plan );
+	}
+
+	private <P> P countLookup(P plan) {
+		if ( plan == null ) {
+			missCount.increment();
+		}
+		else {
+			hitCount.increment();
+		}
+		return plan;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public int getSelectQueryPlanCount() {
+		return selectQueryPlanMap.size();
+	}
+
+	public int getNonSelectQueryPlanCount() {
+		return nonSelectQueryPlanMap.size();
+	}
+
+	/**
+	 * The number of plan lookups which found a cached plan.
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * The number of plan lookups which did not find a cached plan.
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * The number of plans removed from the cache to keep it within its max size.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * Clears all cached plans.  Statistics are not reset.
+	 */
+	public void clear() {
+		selectQueryPlanMap.clear();
+		nonSelectQueryPlanMap.clear();
+	}
+
+	private class EvictionCounter<V> implements BoundedConcurrentHashMap.EvictionListener<Key, V> {
+		@Override
+		public void onEntryEviction(Map<Key, V> evicted) {
+			evictionCount.add( evicted.size() );
+		}
+
+		@Override
+		public void onEntryChosenForEviction(V internalCacheEntry) {
+		}
+	}
+}
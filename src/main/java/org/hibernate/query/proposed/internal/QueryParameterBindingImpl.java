@@ -51,6 +51,18 @@ public class QueryParameterBindingImpl<T> implements QueryParameterBinding<T> {
 		return bindType;
 	}
 
+	@Override
+	public void clear() {
+		this.isBound = false;
+		this.isMultiValued = false;
+
+		this.bindValue = null;
+		this.bindValues = null;
+
+		// forget any Type inferred from (or clarified for) the bound value(s)
+		this.bindType = queryParameter.getHibernateType();
+	}
+
 	@Override
 	public boolean allowsMultiValued() {
 		return queryParameter.allowsMultiValuedBinding();
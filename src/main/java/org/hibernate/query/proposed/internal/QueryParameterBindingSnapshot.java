@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import javax.persistence.TemporalType;
+
+import org.hibernate.query.proposed.spi.QueryParameterBinding;
+import org.hibernate.type.Type;
+
+/**
+ * An immutable copy of a QueryParameterBinding, see {@link QueryParameterBindingsImpl#makeSnapshot()}
+ *
+ * @author Steve Ebersole
+ */
+class QueryParameterBindingSnapshot<T> implements QueryParameterBinding<T> {
+	private final boolean isBound;
+	private final boolean allowsMultiValued;
+	private final boolean isMultiValued;
+	private final Type bindType;
+	private final T bindValue;
+	private final Collection<T> bindValues;
+
+	QueryParameterBindingSnapshot(QueryParameterBinding<T> binding) {
+		this.isBound = binding.isBound();
+		this.allowsMultiValued = binding.allowsMultiValued();
+		this.isMultiValued = binding.isMultiValued();
+		this.bindType = binding.getBindType();
+		// a binding only allows access to the value(s) of its kind
+		this.bindValue = isMultiValued ? null : binding.getBindValue();
+		this.bindValues = isMultiValued && binding.getBindValues() != null
+				? Collections.unmodifiableList( new ArrayList<>( binding.getBindValues() ) )
+				: null;
+	}
+
+	@Override
+	public boolean isBound() {
+		return isBound;
+	}
+
+	@Override
+	public boolean allowsMultiValued() {
+		return allowsMultiValued;
+	}
+
+	@Override
+	public boolean isMultiValued() {
+		return isMultiValued;
+	}
+
+	@Override
+	public Type getBindType() {
+		return bindType;
+	}
+
+	@Override
+	public T getBindValue() {
+		return bindValue;
+	}
+
+	@Override
+	public Collection<T> getBindValues() {
+		return bindValues;
+	}
+
+	@Override
+	public void clear() {
+		throw immutable();
+	}
+
+	@Override
+	public void setBindValue(T value) {
+		throw immutable();
+	}
+
+	@Override
+	public void setBindValue(T value, Type clarifiedType) {
+		throw immutable();
+	}
+
+	@Override
+	public void setBindValue(T value, TemporalType clarifiedTemporalType) {
+		throw immutable();
+	}
+
+	@Override
+	public void setBindValues(Collection<T> values) {
+		throw immutable();
+	}
+
+	@Override
+	public void setBindValues(Collection<T> values, Type clarifiedType) {
+		throw immutable();
+	}
+
+	@Override
+	public void setBindValues(Collection<T> values, TemporalType clarifiedTemporalType) {
+		throw immutable();
+	}
+
+	private UnsupportedOperationException immutable() {
+		return new UnsupportedOperationException( "QueryParameterBinding snapshot cannot be changed" );
+	}
+}
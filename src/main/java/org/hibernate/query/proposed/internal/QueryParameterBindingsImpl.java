@@ -6,7 +6,9 @@
  */
 package org.hibernate.query.proposed.internal;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 import org.hibernate.QueryException;
@@ -20,6 +22,10 @@ import org.hibernate.query.proposed.spi.QueryParameterBindings;
 import org.jboss.logging.Logger;
 
 /**
+ * The bindings are indexed by parameter name and by parameter position as they are registered,
+ * so that resolving a binding by name or position (as happens for every parameter occurrence
+ * when the SQL is rendered) does not mean scanning all of them.
+ *
  * @author Steve Ebersole
  */
 public class QueryParameterBindingsImpl implements QueryParameterBindings {
@@ -38,7 +44,13 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 	private final QueryParameterBindingTypeResolver resolver;
 	private final ParameterMetadata parameterMetadata;
 
+	// positions beyond this are indexed by the (sparse) map rather than the (dense) array
+	private static final int MAX_INDEXED_POSITION = 1024;
+
 	private final Map<QueryParameter, QueryParameterBinding> bindingMap = new HashMap<>();
+	private final Map<String, QueryParameterBinding> bindingByName = new HashMap<>();
+	private QueryParameterBinding[] bindingByPosition = new QueryParameterBinding[0];
+	private Map<Integer, QueryParameterBinding> bindingBySparsePosition;
 
 	private QueryParameterBindingsImpl(QueryParameterBindingTypeResolver resolver, ParameterMetadata parameterMetadata) {
 		this.resolver = resolver;
@@ -49,6 +61,31 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	private QueryParameterBindingsImpl(QueryParameterBindingsImpl original) {
+		this.resolver = original.resolver;
+		this.parameterMetadata = original.parameterMetadata;
+
+		// keep the name and position lookups pointing to the same (copied) bindings
+		final Map<QueryParameterBinding, QueryParameterBinding> snapshots = new IdentityHashMap<>();
+		for ( Map.Entry<QueryParameter, QueryParameterBinding> entry : original.bindingMap.entrySet() ) {
+			bindingMap.put( entry.getKey(), snapshots.computeIfAbsent( entry.getValue(), QueryParameterBindingSnapshot::new ) );
+		}
+		for ( Map.Entry<String, QueryParameterBinding> entry : original.bindingByName.entrySet() ) {
+			bindingByName.put( entry.getKey(), snapshots.get( entry.getValue() ) );
+		}
+		bindingByPosition = new QueryParameterBinding[ original.bindingByPosition.length ];
+		for ( int i = 0; i < bindingByPosition.length; i++ ) {
+			bindingByPosition[i] = snapshots.get( original.bindingByPosition[i] );
+		}
+		if ( original.bindingBySparsePosition != null ) {
+			bindingBySparsePosition = new HashMap<>();
+			for ( Map.Entry<Integer, QueryParameterBinding> entry : original.bindingBySparsePosition.entrySet() ) {
+				bindingBySparsePosition.put( entry.getKey(), snapshots.get( entry.getValue() ) );
+			}
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private QueryParameterBinding makeBinding(QueryParameter queryParameter) {
 		assert queryParameter != null;
@@ -73,6 +110,18 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 		}
 	}
 
+	@Override
+	public QueryParameterBindings makeSnapshot() {
+		return new QueryParameterBindingsImpl( this );
+	}
+
+	@Override
+	public void clearBindings() {
+		for ( QueryParameterBinding binding : bindingMap.values() ) {
+			binding.clear();
+		}
+	}
+
 	@Override
 	public boolean isBound(QueryParameter parameter) {
 		final QueryParameterBinding binding = locateBinding( parameter );
@@ -95,8 +144,9 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 	@SuppressWarnings("unchecked")
 	protected  <T> QueryParameterBinding<T> locateBinding(QueryParameter<T> parameter) {
 		// see if this exact instance is known as a key
-		if ( bindingMap.containsKey( parameter ) ) {
-			return bindingMap.get( parameter );
+		final QueryParameterBinding<T> knownBinding = bindingMap.get( parameter );
+		if ( knownBinding != null ) {
+			return knownBinding;
 		}
 
 		// if the incoming parameter has a name, try to find it by name
@@ -131,13 +181,7 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 
 	@SuppressWarnings("unchecked")
 	protected <T> QueryParameterBinding<T> locateBinding(String name) {
-		for ( Map.Entry<QueryParameter, QueryParameterBinding> entry : bindingMap.entrySet() ) {
-			if ( name.equals( entry.getKey().getName() ) ) {
-				return entry.getValue();
-			}
-		}
-
-		return null;
+		return bindingByName.get( name );
 	}
 
 	@Override
@@ -153,16 +197,12 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 
 	@SuppressWarnings("unchecked")
 	protected <T> QueryParameterBinding<T> locateBinding(int position) {
-		for ( Map.Entry<QueryParameter, QueryParameterBinding> entry : bindingMap.entrySet() ) {
-			if ( entry.getKey().getPosition() == null ) {
-				continue;
-			}
-
-			if ( entry.getKey().getPosition() == position ) {
-				return entry.getValue();
-			}
+		if ( position >= 0 && position < bindingByPosition.length ) {
+			return bindingByPosition[position];
+		}
+		if ( bindingBySparsePosition != null ) {
+			return bindingBySparsePosition.get( position );
 		}
-
 		return null;
 	}
 
@@ -170,6 +210,28 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 	protected void registerBinding(QueryParameter queryParameter, QueryParameterBinding binding) {
 		log.debugf( "Registering parameter binding : [%s] -> [%s]", queryParameter, binding );
 		bindingMap.put( queryParameter, binding );
+
+		if ( queryParameter.getName() != null ) {
+			bindingByName.putIfAbsent( queryParameter.getName(), binding );
+		}
+
+		final Integer position = queryParameter.getPosition();
+		if ( position != null ) {
+			if ( position >= 0 && position <= MAX_INDEXED_POSITION ) {
+				if ( position >= bindingByPosition.length ) {
+					bindingByPosition = Arrays.copyOf( bindingByPosition, position + 1 );
+				}
+				if ( bindingByPosition[position] == null ) {
+					bindingByPosition[position] = binding;
+				}
+			}
+			else {
+				if ( bindingBySparsePosition == null ) {
+					bindingBySparsePosition = new HashMap<>();
+				}
+				bindingBySparsePosition.putIfAbsent( position, binding );
+			}
+		}
 	}
 
 	/**
@@ -0,0 +1,25 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.internal;
+
+import org.hibernate.service.spi.SessionFactoryServiceContributor;
+import org.hibernate.service.spi.SessionFactoryServiceRegistryBuilder;
+
+/**
+ * Contributes the SessionFactory-scoped services of the query support (discovered through
+ * the Java ServiceLoader mechanism).
+ *
+ * @author Steve Ebersole
+ */
+public class QueryServiceContributor implements SessionFactoryServiceContributor {
+	@Override
+	public void contribute(SessionFactoryServiceRegistryBuilder serviceRegistryBuilder) {
+		serviceRegistryBuilder.addInitiator( QueryInterpretationsInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( ResolvedQuerySettingsInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( AggregatedQueryExecutorInitiator.INSTANCE );
+	}
+}
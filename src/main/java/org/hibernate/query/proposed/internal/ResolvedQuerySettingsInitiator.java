@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.internal;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.proposed.spi.ResolvedQuerySettings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+
+/**
+ * Initiates the SessionFactory's {@link ResolvedQuerySettings}.
+ *
+ * @author Steve Ebersole
+ */
+public class ResolvedQuerySettingsInitiator implements SessionFactoryServiceInitiator<ResolvedQuerySettings> {
+	/**
+	 * Singleton access
+	 */
+	public static final ResolvedQuerySettingsInitiator INSTANCE = new ResolvedQuerySettingsInitiator();
+
+	@Override
+	public Class<ResolvedQuerySettings> getServiceInitiated() {
+		return ResolvedQuerySettings.class;
+	}
+
+	@Override
+	public ResolvedQuerySettings initiateService(
+			SessionFactoryImplementor sessionFactory,
+			SessionFactoryOptions sessionFactoryOptions,
+			ServiceRegistryImplementor registry) {
+		return new ResolvedQuerySettings( registry.getService( ConfigurationService.class ).getSettings() );
+	}
+}
@@ -36,11 +36,13 @@ public class ScrollableResultsIterator<T> implements CloseableIterator {
 	@Override
 	@SuppressWarnings("unchecked")
 	public T next() {
-		if ( scrollableResults.getNumberOfTypes() == 1 ) {
-			return (T) scrollableResults.get()[0];
+		// a row transformed into something other than an Object[] is exposed as a single-valued row
+		final Object[] row = scrollableResults.get();
+		if ( row.length == 1 ) {
+			return (T) row[0];
 		}
 		else {
-			return (T) scrollableResults.get();
+			return (T) row;
 		}
 	}
 }
@@ -0,0 +1,227 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.internal.sqm;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.IntFunction;
+
+import org.hibernate.HibernateException;
+import org.hibernate.query.proposed.spi.CloseableIterator;
+
+/**
+ * Iterator over the results of a number of (aggregated) query plans.
+ * <p/>
+ * Without a Comparator the results of each plan are iterated in turn, only obtaining
+ * (executing) the next plan's results once the previous ones are exhausted.  With a
+ * Comparator all of them are obtained up front and merged (k-way), which preserves
+ * the ordering of the individually ordered results.
+ * <p/>
+ * The first/max rows of the query are applied to the aggregated results, the plans having
+ * been executed without them.
+ *
+ * @author Steve Ebersole
+ */
+public class AggregatedIterator<R> implements CloseableIterator<R> {
+	private final int numberOfSources;
+	private final IntFunction<Iterator<R>> sourceProducer;
+
+	// concatenation
+	private Iterator<R> currentSource;
+	private int nextSourceNumber;
+
+	// merging
+	private final PriorityQueue<Head<R>> heads;
+	private final List<Iterator<R>> openSources;
+
+	// limit
+	private int rowsToSkip;
+	private int remainingRows;
+
+	private boolean closed;
+
+	/**
+	 * @param firstSource The (already obtained) results of the first plan
+	 * @param numberOfSources The total number of plans
+	 * @param sourceProducer Obtains the results of the plan with the given (zero-based) number
+	 * @param comparator The Comparator for merging ordered results, or {@code null} to concatenate
+	 */
+	public AggregatedIterator(
+			Iterator<R> firstSource,
+			int numberOfSources,
+			IntFunction<Iterator<R>> sourceProducer,
+			Comparator<Object> comparator) {
+		this( firstSource, numberOfSources, sourceProducer, comparator, 0, Integer.MAX_VALUE );
+	}
+
+	/**
+	 * @param firstSource The (already obtained) results of the first plan
+	 * @param numberOfSources The total number of plans
+	 * @param sourceProducer Obtains the results of the plan with the given (zero-based) number
+	 * @param comparator The Comparator for merging ordered results, or {@code null} to concatenate
+	 * @param firstRow The number of aggregated results to skip
+	 * @param maxRows The maximum number of aggregated results to return
+	 */
+	public AggregatedIterator(
+			Iterator<R> firstSource,
+			int numberOfSources,
+			IntFunction<Iterator<R>> sourceProducer,
+			Comparator<Object> comparator,
+			int firstRow,
+			int maxRows) {
+		this.numberOfSources = numberOfSources;
+		this.sourceProducer = sourceProducer;
+		this.rowsToSkip = firstRow;
+		this.remainingRows = maxRows;
+
+		if ( comparator == null ) {
+			this.currentSource = firstSource;
+			this.nextSourceNumber = 1;
+			this.heads = null;
+			this.openSources = null;
+		}
+		else {
+			// ties are broken by source number, keeping the merge stable
+			this.heads = new PriorityQueue<>(
+					numberOfSources,
+					(head, other) -> {
+						final int comparison = comparator.compare( head.value, other.value );
+						return comparison != 0 ? comparison : Integer.compare( head.sourceNumber, other.sourceNumber );
+					}
+			);
+			this.openSources = new ArrayList<>( numberOfSources );
+
+			try {
+				addHead( 0, firstSource );
+				for ( int i = 1; i < numberOfSources; i++ ) {
+					addHead( i, sourceProducer.apply( i ) );
+				}
+			}
+			catch (RuntimeException e) {
+				close();
+				throw e;
+			}
+		}
+	}
+
+	private void addHead(int sourceNumber, Iterator<R> source) {
+		openSources.add( source );
+		if ( source.hasNext() ) {
+			heads.add( new Head<>( sourceNumber, source, source.next() ) );
+		}
+		else {
+			closeSource( source );
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( remainingRows <= 0 ) {
+			// no need to hold on to the remaining results
+			close();
+			return false;
+		}
+
+		while ( rowsToSkip > 0 && hasNextAggregated() ) {
+			nextAggregated();
+			rowsToSkip--;
+		}
+		return hasNextAggregated();
+	}
+
+	@Override
+	public R next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+
+		remainingRows--;
+		return nextAggregated();
+	}
+
+	private boolean hasNextAggregated() {
+		if ( closed ) {
+			return false;
+		}
+
+		if ( heads != null ) {
+			return !heads.isEmpty();
+		}
+
+		while ( !currentSource.hasNext() ) {
+			closeSource( currentSource );
+			if ( nextSourceNumber >= numberOfSources ) {
+				return false;
+			}
+			currentSource = sourceProducer.apply( nextSourceNumber++ );
+		}
+		return true;
+	}
+
+	private R nextAggregated() {
+		if ( heads == null ) {
+			return currentSource.next();
+		}
+
+		final Head<R> head = heads.poll();
+		final R value = head.value;
+		if ( head.source.hasNext() ) {
+			head.value = head.source.next();
+			heads.add( head );
+		}
+		else {
+			closeSource( head.source );
+		}
+		return value;
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+
+		if ( heads == null ) {
+			closeSource( currentSource );
+		}
+		else {
+			heads.clear();
+			openSources.forEach( AggregatedIterator::closeSource );
+		}
+	}
+
+	static void closeSource(Object source) {
+		if ( source instanceof AutoCloseable ) {
+			try {
+				( (AutoCloseable) source ).close();
+			}
+			catch (RuntimeException e) {
+				throw e;
+			}
+			catch (Exception e) {
+				throw new HibernateException( "Unable to close aggregated query results", e );
+			}
+		}
+	}
+
+	private static class Head<R> {
+		private final int sourceNumber;
+		private final Iterator<R> source;
+		private R value;
+
+		private Head(int sourceNumber, Iterator<R> source, R value) {
+			this.sourceNumber = sourceNumber;
+			this.source = source;
+			this.value = value;
+		}
+	}
+}
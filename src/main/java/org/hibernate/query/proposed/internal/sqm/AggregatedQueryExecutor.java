@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.internal.sqm;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.proposed.QuerySettings;
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Runs the aggregated query plans of polymorphic queries concurrently, see
+ * {@link QuerySettings#POLYMORPHIC_QUERY_PARALLELISM}.  Scoped to the SessionFactory: its
+ * threads are shared by all polymorphic queries and are stopped along with the
+ * SessionFactory.  The number of threads is bounded by the configured parallelism less one
+ * (the calling thread takes part in every execution), which also bounds the number of JDBC
+ * connections obtained in addition to those of the calling sessions.  Work is never queued:
+ * when no thread is available the calling thread does the work itself.
+ *
+ * @author Steve Ebersole
+ */
+public class AggregatedQueryExecutor implements Service, Stoppable {
+	/**
+	 * Access to the AggregatedQueryExecutor of the given SessionFactory
+	 *
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @return The AggregatedQueryExecutor
+	 */
+	public static AggregatedQueryExecutor from(SessionFactoryImplementor sessionFactory) {
+		return sessionFactory.getServiceRegistry().getService( AggregatedQueryExecutor.class );
+	}
+
+	// idle threads are discarded after this many seconds
+	private static final long KEEP_ALIVE = 60;
+
+	private final ThreadPoolExecutor executor;
+
+	public AggregatedQueryExecutor(int parallelism) {
+		if ( parallelism <= 1 ) {
+			this.executor = null;
+		}
+		else {
+			this.executor = new ThreadPoolExecutor(
+					parallelism - 1,
+					parallelism - 1,
+					KEEP_ALIVE,
+					TimeUnit.SECONDS,
+					new SynchronousQueue<>(),
+					new ThreadFactory(),
+					new ThreadPoolExecutor.AbortPolicy()
+			);
+			this.executor.allowCoreThreadTimeOut( true );
+		}
+	}
+
+	/**
+	 * Run the given work on one of the threads, if one is available.
+	 *
+	 * @param work The work to run
+	 *
+	 * @return The Future of the work, or {@code null} if no thread is available (or the
+	 * executor was stopped)
+	 */
+	public Future<?> trySubmit(Runnable work) {
+		if ( executor == null ) {
+			return null;
+		}
+
+		try {
+			return executor.submit( work );
+		}
+		catch (RejectedExecutionException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public void stop() {
+		if ( executor != null ) {
+			executor.shutdownNow();
+		}
+	}
+
+	private static class ThreadFactory implements java.util.concurrent.ThreadFactory {
+		private final AtomicInteger threadNumber = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable, "hibernate-aggregated-query-" + threadNumber.incrementAndGet() );
+			thread.setDaemon( true );
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.internal.sqm;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntFunction;
+
+import org.hibernate.query.proposed.internal.AbstractForwardOnlyScrollableResults;
+import org.hibernate.query.proposed.spi.ScrollableResultsImplementor;
+import org.hibernate.type.Type;
+
+/**
+ * Forward-only ScrollableResults over the (forward-only) results of a number of
+ * (aggregated) query plans.
+ * <p/>
+ * Without a Comparator the results of each plan are scrolled in turn, only obtaining
+ * (executing) the next plan's results once the previous ones are exhausted, so that
+ * only one JDBC ResultSet is open at a time.  With a Comparator all of them are
+ * obtained up front and merged (k-way), which preserves the ordering of the
+ * individually ordered results.
+ * <p/>
+ * The first/max rows of the query are applied to the aggregated results, the plans having
+ * been executed without them.
+ *
+ * @author Steve Ebersole
+ */
+public class AggregatedScrollableResults extends AbstractForwardOnlyScrollableResults {
+	private final int numberOfSources;
+	private final IntFunction<ScrollableResultsImplementor> sourceProducer;
+	private final Type[] types;
+
+	// concatenation
+	private ScrollableResultsImplementor currentSource;
+	private int nextSourceNumber;
+
+	// merging
+	private final PriorityQueue<Source> sources;
+	private final List<ScrollableResultsImplementor> openSources;
+	private Source currentMergeSource;
+
+	// limit
+	private int rowsToSkip;
+	private int remainingRows;
+
+	/**
+	 * @param firstSource The (already obtained) results of the first plan
+	 * @param numberOfSources The total number of plans
+	 * @param sourceProducer Obtains the results of the plan with the given (zero-based) number
+	 * @param comparator The Comparator for merging ordered results, or {@code null} to concatenate
+	 */
+	public AggregatedScrollableResults(
+			ScrollableResultsImplementor firstSource,
+			int numberOfSources,
+			IntFunction<ScrollableResultsImplementor> sourceProducer,
+			Comparator<Object> comparator) {
+		this( firstSource, numberOfSources, sourceProducer, comparator, 0, Integer.MAX_VALUE );
+	}
+
+	/**
+	 * @param firstSource The (already obtained) results of the first plan
+	 * @param numberOfSources The total number of plans
+	 * @param sourceProducer Obtains the results of the plan with the given (zero-based) number
+	 * @param comparator The Comparator for merging ordered results, or {@code null} to concatenate
+	 * @param firstRow The number of aggregated rows to skip
+	 * @param maxRows The maximum number of aggregated rows to scroll through
+	 */
+	public AggregatedScrollableResults(
+			ScrollableResultsImplementor firstSource,
+			int numberOfSources,
+			IntFunction<ScrollableResultsImplementor> sourceProducer,
+			Comparator<Object> comparator,
+			int firstRow,
+			int maxRows) {
+		this.numberOfSources = numberOfSources;
+		this.sourceProducer = sourceProducer;
+		this.rowsToSkip = firstRow;
+		this.remainingRows = maxRows;
+
+		this.types = new Type[ firstSource.getNumberOfTypes() ];
+		for ( int i = 0; i < types.length; i++ ) {
+			types[i] = firstSource.getType( i );
+		}
+
+		if ( comparator == null ) {
+			this.currentSource = firstSource;
+			this.nextSourceNumber = 1;
+			this.sources = null;
+			this.openSources = null;
+		}
+		else {
+			// ties are broken by source number, keeping the merge stable
+			this.sources = new PriorityQueue<>(
+					numberOfSources,
+					(source, other) -> {
+						final int comparison = comparator.compare( source.results.get(), other.results.get() );
+						return comparison != 0 ? comparison : Integer.compare( source.sourceNumber, other.sourceNumber );
+					}
+			);
+			this.openSources = new ArrayList<>( numberOfSources );
+
+			try {
+				addSource( 0, firstSource );
+				for ( int i = 1; i < numberOfSources; i++ ) {
+					addSource( i, sourceProducer.apply( i ) );
+				}
+			}
+			catch (RuntimeException e) {
+				close();
+				throw e;
+			}
+		}
+	}
+
+	private void addSource(int sourceNumber, ScrollableResultsImplementor results) {
+		openSources.add( results );
+		if ( results.next() ) {
+			sources.add( new Source( sourceNumber, results ) );
+		}
+		else {
+			results.close();
+		}
+	}
+
+	@Override
+	protected boolean advance() {
+		if ( remainingRows <= 0 ) {
+			return false;
+		}
+
+		while ( rowsToSkip > 0 ) {
+			if ( !advanceAggregated() ) {
+				return false;
+			}
+			rowsToSkip--;
+		}
+		if ( !advanceAggregated() ) {
+			return false;
+		}
+		remainingRows--;
+		return true;
+	}
+
+	private boolean advanceAggregated() {
+		if ( sources == null ) {
+			while ( !currentSource.next() ) {
+				currentSource.close();
+				if ( nextSourceNumber >= numberOfSources ) {
+					return false;
+				}
+				currentSource = sourceProducer.apply( nextSourceNumber++ );
+			}
+			return true;
+		}
+
+		// the current source is only moved on now, its row having been consumed
+		if ( currentMergeSource != null ) {
+			if ( currentMergeSource.results.next() ) {
+				sources.add( currentMergeSource );
+			}
+			else {
+				currentMergeSource.results.close();
+			}
+		}
+		currentMergeSource = sources.poll();
+		return currentMergeSource != null;
+	}
+
+	@Override
+	protected Object[] getCurrentRow() {
+		return sources == null ? currentSource.get() : currentMergeSource.results.get();
+	}
+
+	@Override
+	protected void release() {
+		if ( sources == null ) {
+			currentSource.close();
+		}
+		else {
+			sources.clear();
+			for ( ScrollableResultsImplementor openSource : openSources ) {
+				if ( !openSource.isClosed() ) {
+					openSource.close();
+				}
+			}
+		}
+	}
+
+	@Override
+	public Type getType(int i) {
+		return types[i];
+	}
+
+	@Override
+	public int getNumberOfTypes() {
+		return types.length;
+	}
+
+	private static class Source {
+		private final int sourceNumber;
+		private final ScrollableResultsImplementor results;
+
+		private Source(int sourceNumber, ScrollableResultsImplementor results) {
+			this.sourceNumber = sourceNumber;
+			this.results = results;
+		}
+	}
+}
@@ -7,25 +7,82 @@
 package org.hibernate.query.proposed.internal.sqm;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.ScrollMode;
+import org.hibernate.engine.spi.ExceptionConverter;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.proposed.Limit;
 import org.hibernate.query.proposed.QueryOptions;
+import org.hibernate.query.proposed.QuerySettings;
+import org.hibernate.query.proposed.ResultListTransformer;
+import org.hibernate.query.proposed.TupleTransformer;
 import org.hibernate.query.proposed.spi.ExecutionContext;
+import org.hibernate.query.proposed.spi.QueryInterpretations;
 import org.hibernate.query.proposed.spi.QueryParameterBindings;
 import org.hibernate.query.proposed.spi.ScrollableResultsImplementor;
 import org.hibernate.query.proposed.spi.SelectQueryPlan;
+import org.hibernate.sql.exec.spi.PreparedStatementCache;
+import org.hibernate.type.Type;
+
+import org.jboss.logging.Logger;
 
 /**
+ * SelectQueryPlan for a polymorphic query which is split into one query (plan) per
+ * concrete implementor.
+ * <p/>
+ * By default the aggregated plans are executed one after another.  When
+ * {@link QuerySettings#POLYMORPHIC_QUERY_PARALLELISM} allows it, a read-only execution
+ * outside of a transaction runs them concurrently instead: the calling thread works
+ * through the plans using the calling session while up to {@code parallelism - 1} threads
+ * of the SessionFactory's {@link AggregatedQueryExecutor} do the same, each using a
+ * temporary stateless session (and so its own JDBC connection).  The other threads only see
+ * an immutable copy of the parameter bindings and of the state of the ExecutionContext.
+ * The creator of the plan is expected to only allow parallelism for queries selecting
+ * basic values, as any entity resolved by a temporary session is detached from the calling
+ * session.
+ * <p/>
+ * When the ordering of the query can be reproduced exactly (see {@link ConcreteSqmSelectQueryPlan#getResultComparator})
+ * the individually ordered results of the aggregated plans are merged; otherwise they are
+ * concatenated in the order of the aggregated plans.  Iterating or scrolling the results
+ * obtains each plan's results lazily when concatenating, so that only one JDBC ResultSet is
+ * open at a time; merging needs all of them open at once.  Scrolling is always forward-only.
+ * <p/>
+ * The first/max rows of the query (its {@link Limit}) apply to the aggregated results, not to
+ * the results of each plan: the plans are executed without them and they are applied while
+ * merging or concatenating the plans' results, as the legacy HQLQueryPlan does.
+ *
  * @author Steve Ebersole
  */
 public class AggregatedSelectQueryPlanImpl<R> implements SelectQueryPlan<R> {
+	private static final Logger log = Logger.getLogger( AggregatedSelectQueryPlanImpl.class );
+
 	private final SelectQueryPlan<R>[] aggregatedQueryPlans;
+	private final int parallelism;
+	private final AggregatedQueryExecutor executor;
 
 	public AggregatedSelectQueryPlanImpl(SelectQueryPlan<R>[] aggregatedQueryPlans) {
+		this( aggregatedQueryPlans, 1, null );
+	}
+
+	public AggregatedSelectQueryPlanImpl(
+			SelectQueryPlan<R>[] aggregatedQueryPlans,
+			int parallelism,
+			AggregatedQueryExecutor executor) {
 		this.aggregatedQueryPlans = aggregatedQueryPlans;
+		this.parallelism = executor == null ? 1 : Math.min( Math.max( parallelism, 1 ), aggregatedQueryPlans.length );
+		this.executor = executor;
 	}
 
 	@Override
@@ -34,24 +91,415 @@ public class AggregatedSelectQueryPlanImpl<R> implements SelectQueryPlan<R> {
 			ExecutionContext executionContext,
 			QueryOptions queryOptions,
 			QueryParameterBindings inputParameterBindings) {
-		final List<R> overallResults = new ArrayList<>();
+		final boolean applyLimit = isLimitAppliedToAggregatedResults( queryOptions );
+		final QueryOptions planQueryOptions = applyLimit ? new UnlimitedQueryOptions( queryOptions ) : queryOptions;
+
+		final List<R>[] results;
+		if ( canExecuteInParallel( executionContext, queryOptions ) ) {
+			results = performListInParallel( persistenceContext, executionContext, planQueryOptions, inputParameterBindings );
+		}
+		else {
+			results = performListSequentially( persistenceContext, executionContext, planQueryOptions, inputParameterBindings );
+		}
+
+		final int firstRow = applyLimit ? queryOptions.getLimit().getFirstRowJpa() : 0;
+		final int maxRows = applyLimit ? queryOptions.getLimit().getMaxRowsJpa() : Integer.MAX_VALUE;
 
-		for ( SelectQueryPlan<R> aggregatedQueryPlan : aggregatedQueryPlans ) {
-			overallResults.addAll(
-					aggregatedQueryPlan.performList( persistenceContext, executionContext, queryOptions, inputParameterBindings )
+		int size = 0;
+		for ( List<R> result : results ) {
+			size += result.size();
+		}
+		final List<R> overallResults = new ArrayList<>( Math.min( Math.max( size - firstRow, 0 ), maxRows ) );
+
+		final Comparator<Object> resultComparator = determineResultComparator();
+		if ( resultComparator == null && !applyLimit ) {
+			for ( List<R> result : results ) {
+				overallResults.addAll( result );
+			}
+		}
+		else {
+			final AggregatedIterator<R> aggregatedIterator = new AggregatedIterator<>(
+					results[0].iterator(),
+					results.length,
+					i -> results[i].iterator(),
+					resultComparator,
+					firstRow,
+					maxRows
 			);
+			aggregatedIterator.forEachRemaining( overallResults::add );
 		}
 
 		return overallResults;
 	}
 
+	/**
+	 * Should the first/max rows of the query be applied to the aggregated results, rather than
+	 * by each plan?  A single plan applies them itself (in the SQL, through the Dialect).
+	 */
+	private boolean isLimitAppliedToAggregatedResults(QueryOptions queryOptions) {
+		if ( aggregatedQueryPlans.length == 1 ) {
+			return false;
+		}
+		final Limit limit = queryOptions.getLimit();
+		return limit != null && ( limit.getFirstRowJpa() > 0 || limit.getMaxRows() != null );
+	}
+
+	private Comparator<Object> determineResultComparator() {
+		// the aggregated plans only differ in the entity they query, so the first one tells
+		if ( aggregatedQueryPlans[0] instanceof ConcreteSqmSelectQueryPlan ) {
+			return ( (ConcreteSqmSelectQueryPlan) aggregatedQueryPlans[0] ).getResultComparator();
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<R>[] performListSequentially(
+			SharedSessionContractImplementor persistenceContext,
+			ExecutionContext executionContext,
+			QueryOptions queryOptions,
+			QueryParameterBindings inputParameterBindings) {
+		final List<R>[] results = new List[ aggregatedQueryPlans.length ];
+		performLists( persistenceContext, executionContext, queryOptions, inputParameterBindings, new AtomicInteger(), results );
+		return results;
+	}
+
+	private boolean canExecuteInParallel(ExecutionContext executionContext, QueryOptions queryOptions) {
+		if ( parallelism <= 1 ) {
+			return false;
+		}
+
+		// the temporary sessions use their own connections: they would neither see the changes
+		// made in a transaction in progress nor share its isolation
+		if ( executionContext.isTransactionInProgress() ) {
+			return false;
+		}
+
+		final Boolean readOnly = queryOptions.isReadOnly();
+		if ( readOnly == null ? !executionContext.isDefaultReadOnly() : !readOnly ) {
+			return false;
+		}
+
+		final LockMode lockMode = queryOptions.getLockOptions().findGreatestLockMode();
+		return lockMode == null || !lockMode.greaterThan( LockMode.READ );
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<R>[] performListInParallel(
+			SharedSessionContractImplementor persistenceContext,
+			ExecutionContext executionContext,
+			QueryOptions queryOptions,
+			QueryParameterBindings inputParameterBindings) {
+		log.debugf(
+				"Executing %s aggregated query plans using up to %s concurrent queries",
+				aggregatedQueryPlans.length,
+				parallelism
+		);
+
+		final List<R>[] results = new List[ aggregatedQueryPlans.length ];
+		final AtomicInteger nextPlan = new AtomicInteger();
+
+		// the other threads get nothing the calling session (or the query) may change
+		final QueryParameterBindings parameterBindings = inputParameterBindings.makeSnapshot();
+
+		final List<Worker> workers = new ArrayList<>( parallelism - 1 );
+		for ( int i = 1; i < parallelism; i++ ) {
+			final Worker worker = new Worker(
+					persistenceContext,
+					executionContext,
+					queryOptions,
+					parameterBindings,
+					nextPlan,
+					results
+			);
+			if ( !worker.submit( executor ) ) {
+				// no thread available, the calling thread does the remaining work
+				break;
+			}
+			workers.add( worker );
+		}
+
+		RuntimeException failure = null;
+		try {
+			performLists( persistenceContext, executionContext, queryOptions, parameterBindings, nextPlan, results );
+		}
+		catch (RuntimeException e) {
+			failure = e;
+			// have the workers stop picking up plans
+			nextPlan.set( aggregatedQueryPlans.length );
+		}
+
+		for ( Worker worker : workers ) {
+			// all plans have been picked up by now; a worker which did not get going yet
+			// (e.g. is still waiting for a JDBC connection) is not waited for
+			if ( worker.abandon() ) {
+				continue;
+			}
+
+			try {
+				worker.future.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				nextPlan.set( aggregatedQueryPlans.length );
+				for ( Worker other : workers ) {
+					other.future.cancel( true );
+				}
+				if ( failure == null ) {
+					failure = new HibernateException( "Interrupted while waiting for aggregated query plan execution", e );
+				}
+				break;
+			}
+			catch (ExecutionException e) {
+				if ( failure == null ) {
+					failure = e.getCause() instanceof RuntimeException
+							? (RuntimeException) e.getCause()
+							: new HibernateException( "Error executing aggregated query plan", e.getCause() );
+				}
+			}
+		}
+
+		if ( failure != null ) {
+			throw failure;
+		}
+
+		return results;
+	}
+
+	private void performLists(
+			SharedSessionContractImplementor session,
+			ExecutionContext executionContext,
+			QueryOptions queryOptions,
+			QueryParameterBindings inputParameterBindings,
+			AtomicInteger nextPlan,
+			List<R>[] results) {
+		int planNumber;
+		while ( ( planNumber = nextPlan.getAndIncrement() ) < aggregatedQueryPlans.length ) {
+			results[planNumber] = aggregatedQueryPlans[planNumber].performList(
+					session,
+					executionContext,
+					queryOptions,
+					inputParameterBindings
+			);
+		}
+	}
+
+	/**
+	 * Works through the aggregated plans on another thread, using a temporary stateless session
+	 */
+	private class Worker implements Runnable {
+		private static final int PENDING = 0;
+		private static final int RUNNING = 1;
+		private static final int ABANDONED = 2;
+
+		private final SessionFactoryImplementor sessionFactory;
+		private final String tenantIdentifier;
+		private final FlushMode flushMode;
+		private final CacheMode cacheMode;
+		private final boolean defaultReadOnly;
+		private final QueryInterpretations queryInterpretations;
+		private final QueryOptions queryOptions;
+		private final QueryParameterBindings parameterBindings;
+		private final AtomicInteger nextPlan;
+		private final List<R>[] results;
+
+		private final AtomicInteger state = new AtomicInteger( PENDING );
+		private Future<?> future;
+
+		private Worker(
+				SharedSessionContractImplementor persistenceContext,
+				ExecutionContext executionContext,
+				QueryOptions queryOptions,
+				QueryParameterBindings parameterBindings,
+				AtomicInteger nextPlan,
+				List<R>[] results) {
+			this.sessionFactory = persistenceContext.getFactory();
+			this.tenantIdentifier = persistenceContext.getTenantIdentifier();
+			this.flushMode = executionContext.getHibernateFlushMode();
+			this.cacheMode = executionContext.getCacheMode();
+			this.defaultReadOnly = executionContext.isDefaultReadOnly();
+			this.queryInterpretations = executionContext.getQueryInterpretations();
+			this.queryOptions = queryOptions;
+			this.parameterBindings = parameterBindings;
+			this.nextPlan = nextPlan;
+			this.results = results;
+		}
+
+		private boolean submit(AggregatedQueryExecutor executor) {
+			future = executor.trySubmit( this );
+			return future != null;
+		}
+
+		/**
+		 * Give up on this worker, unless it already started working through the plans.
+		 *
+		 * @return {@code true} if the worker was abandoned
+		 */
+		private boolean abandon() {
+			if ( state.compareAndSet( PENDING, ABANDONED ) ) {
+				future.cancel( true );
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void run() {
+			final SharedSessionContractImplementor session = (SharedSessionContractImplementor) sessionFactory
+					.withStatelessOptions()
+					.tenantIdentifier( tenantIdentifier )
+					.openStatelessSession();
+			try {
+				// obtain the JDBC connection before picking up any plan, so that the calling
+				// thread never waits on a worker which is waiting for a connection
+				session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+				if ( !state.compareAndSet( PENDING, RUNNING ) ) {
+					return;
+				}
+
+				try {
+					performLists(
+							session,
+							new WorkerExecutionContext( session, flushMode, cacheMode, defaultReadOnly, queryInterpretations ),
+							queryOptions,
+							parameterBindings,
+							nextPlan,
+							results
+					);
+				}
+				catch (RuntimeException e) {
+					nextPlan.set( aggregatedQueryPlans.length );
+					throw e;
+				}
+			}
+			finally {
+				session.close();
+			}
+		}
+	}
+
+	/**
+	 * The ExecutionContext of a Worker: the state of the calling ExecutionContext as it was
+	 * when the execution started, and the Worker's own session.
+	 */
+	private static class WorkerExecutionContext implements ExecutionContext {
+		private final SharedSessionContractImplementor session;
+		private final FlushMode flushMode;
+		private final CacheMode cacheMode;
+		private final boolean defaultReadOnly;
+		private final QueryInterpretations queryInterpretations;
+		private final PreparedStatementCache preparedStatementCache;
+
+		private WorkerExecutionContext(
+				SharedSessionContractImplementor session,
+				FlushMode flushMode,
+				CacheMode cacheMode,
+				boolean defaultReadOnly,
+				QueryInterpretations queryInterpretations) {
+			this.session = session;
+			this.flushMode = flushMode;
+			this.cacheMode = cacheMode;
+			this.defaultReadOnly = defaultReadOnly;
+			this.queryInterpretations = queryInterpretations;
+			this.preparedStatementCache = new PreparedStatementCache( session.getFactory() );
+		}
+
+		@Override
+		public Type resolveParameterBindType(Object bindValue) {
+			throw new UnsupportedOperationException( "Parameter bindings cannot be changed during aggregated query plan execution" );
+		}
+
+		@Override
+		public Type resolveParameterBindType(Class clazz) {
+			throw new UnsupportedOperationException( "Parameter bindings cannot be changed during aggregated query plan execution" );
+		}
+
+		@Override
+		public FlushMode getHibernateFlushMode() {
+			return flushMode;
+		}
+
+		@Override
+		public void setHibernateFlushMode(FlushMode effectiveFlushMode) {
+			throw new UnsupportedOperationException( "FlushMode cannot be changed during aggregated query plan execution" );
+		}
+
+		@Override
+		public CacheMode getCacheMode() {
+			return cacheMode;
+		}
+
+		@Override
+		public void setCacheMode(CacheMode effectiveCacheMode) {
+			throw new UnsupportedOperationException( "CacheMode cannot be changed during aggregated query plan execution" );
+		}
+
+		@Override
+		public boolean isDefaultReadOnly() {
+			return defaultReadOnly;
+		}
+
+		@Override
+		public ExceptionConverter getExceptionConverter() {
+			return session.getExceptionConverter();
+		}
+
+		@Override
+		public boolean isTransactionInProgress() {
+			// aggregated plans are only executed concurrently outside of a transaction
+			return false;
+		}
+
+		@Override
+		public void checkOpen(boolean rollbackIfNot) {
+			session.checkOpen( rollbackIfNot );
+		}
+
+		@Override
+		public void prepareForQueryExecution(boolean requiresTxn) {
+			session.checkOpen();
+		}
+
+		@Override
+		public QueryInterpretations getQueryInterpretations() {
+			return queryInterpretations;
+		}
+
+		@Override
+		public PreparedStatementCache getPreparedStatementCache() {
+			// the Worker's temporary session has its own statements
+			return preparedStatementCache;
+		}
+	}
+
 	@Override
 	public Iterator<R> performIterate(
 			SharedSessionContractImplementor persistenceContext,
 			ExecutionContext executionContext,
 			QueryOptions queryOptions,
 			QueryParameterBindings inputParameterBindings) {
-		return null;
+		final boolean applyLimit = isLimitAppliedToAggregatedResults( queryOptions );
+		final QueryOptions planQueryOptions = applyLimit ? new UnlimitedQueryOptions( queryOptions ) : queryOptions;
+
+		final Iterator<R> firstResults = aggregatedQueryPlans[0].performIterate(
+				persistenceContext,
+				executionContext,
+				planQueryOptions,
+				inputParameterBindings
+		);
+
+		return new AggregatedIterator<>(
+				firstResults,
+				aggregatedQueryPlans.length,
+				i -> aggregatedQueryPlans[i].performIterate(
+						persistenceContext,
+						executionContext,
+						planQueryOptions,
+						inputParameterBindings
+				),
+				determineResultComparator(),
+				applyLimit ? queryOptions.getLimit().getFirstRowJpa() : 0,
+				applyLimit ? queryOptions.getLimit().getMaxRowsJpa() : Integer.MAX_VALUE
+		);
 	}
 
 	@Override
@@ -61,6 +509,110 @@ public class AggregatedSelectQueryPlanImpl<R> implements SelectQueryPlan<R> {
 			QueryOptions queryOptions,
 			QueryParameterBindings inputParameterBindings,
 			ScrollMode scrollMode) {
-		return null;
+		ConcreteSqmSelectQueryPlan.verifyScrollMode( scrollMode );
+
+		final boolean applyLimit = isLimitAppliedToAggregatedResults( queryOptions );
+		final QueryOptions planQueryOptions = applyLimit ? new UnlimitedQueryOptions( queryOptions ) : queryOptions;
+
+		final ScrollableResultsImplementor firstResults = aggregatedQueryPlans[0].performScroll(
+				persistenceContext,
+				executionContext,
+				planQueryOptions,
+				inputParameterBindings,
+				ScrollMode.FORWARD_ONLY
+		);
+
+		return new AggregatedScrollableResults(
+				firstResults,
+				aggregatedQueryPlans.length,
+				i -> aggregatedQueryPlans[i].performScroll(
+						persistenceContext,
+						executionContext,
+						planQueryOptions,
+						inputParameterBindings,
+						ScrollMode.FORWARD_ONLY
+				),
+				determineResultComparator(),
+				applyLimit ? queryOptions.getLimit().getFirstRowJpa() : 0,
+				applyLimit ? queryOptions.getLimit().getMaxRowsJpa() : Integer.MAX_VALUE
+		);
+	}
+
+	/**
+	 * The options of the query, except for its first/max rows, for the execution of the
+	 * aggregated plans
+	 */
+	private static class UnlimitedQueryOptions implements QueryOptions {
+		private final QueryOptions queryOptions;
+		private final Limit limit = new Limit();
+
+		private UnlimitedQueryOptions(QueryOptions queryOptions) {
+			this.queryOptions = queryOptions;
+		}
+
+		@Override
+		public Limit getLimit() {
+			return limit;
+		}
+
+		@Override
+		public Integer getFetchSize() {
+			return queryOptions.getFetchSize();
+		}
+
+		@Override
+		public String getComment() {
+			return queryOptions.getComment();
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return queryOptions.getLockOptions();
+		}
+
+		@Override
+		public List<String> getDatabaseHints() {
+			return queryOptions.getDatabaseHints();
+		}
+
+		@Override
+		public Integer getTimeout() {
+			return queryOptions.getTimeout();
+		}
+
+		@Override
+		public FlushMode getFlushMode() {
+			return queryOptions.getFlushMode();
+		}
+
+		@Override
+		public Boolean isReadOnly() {
+			return queryOptions.isReadOnly();
+		}
+
+		@Override
+		public CacheMode getCacheMode() {
+			return queryOptions.getCacheMode();
+		}
+
+		@Override
+		public Boolean isResultCachingEnabled() {
+			return queryOptions.isResultCachingEnabled();
+		}
+
+		@Override
+		public String getResultCacheRegionName() {
+			return queryOptions.getResultCacheRegionName();
+		}
+
+		@Override
+		public TupleTransformer getTupleTransformer() {
+			return queryOptions.getTupleTransformer();
+		}
+
+		@Override
+		public ResultListTransformer getResultListTransformer() {
+			return queryOptions.getResultListTransformer();
+		}
 	}
 }
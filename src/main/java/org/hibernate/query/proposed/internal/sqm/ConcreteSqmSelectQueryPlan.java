@@ -7,13 +7,13 @@
 package org.hibernate.query.proposed.internal.sqm;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import javax.persistence.Tuple;
 import javax.persistence.TupleElement;
 
 import org.hibernate.ScrollMode;
-import org.hibernate.cfg.NotYetImplementedException;
 import org.hibernate.engine.query.spi.EntityGraphQueryHint;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.streams.StingArrayCollector;
@@ -28,10 +28,11 @@ import org.hibernate.query.proposed.spi.SelectQueryPlan;
 import org.hibernate.sql.ast.SelectQuery;
 import org.hibernate.sql.convert.spi.Callback;
 import org.hibernate.sql.convert.spi.SelectStatementInterpreter;
+import org.hibernate.sql.convert.spi.SqlSelectInterpretation;
+import org.hibernate.sql.convert.spi.SqlTreeWalker;
 import org.hibernate.sql.exec.internal.PreparedStatementCreatorScrollableForwardOnlyImpl;
-import org.hibernate.sql.exec.internal.PreparedStatementCreatorScrollableInsensitiveImpl;
-import org.hibernate.sql.exec.internal.PreparedStatementCreatorScrollableSensitiveImpl;
 import org.hibernate.sql.exec.internal.PreparedStatementCreatorStandardImpl;
+import org.hibernate.sql.exec.internal.PreparedStatementExecutorIteratorImpl;
 import org.hibernate.sql.exec.internal.PreparedStatementExecutorNormalImpl;
 import org.hibernate.sql.exec.internal.PreparedStatementExecutorScrollableImpl;
 import org.hibernate.sql.exec.internal.RowTransformerPassThruImpl;
@@ -40,7 +41,6 @@ import org.hibernate.sql.exec.internal.RowTransformerTupleImpl;
 import org.hibernate.sql.exec.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.exec.internal.SqlTreeExecutorImpl;
 import org.hibernate.sql.exec.internal.TupleElementImpl;
-import org.hibernate.sql.exec.spi.PreparedStatementCreator;
 import org.hibernate.sql.exec.spi.RowTransformer;
 import org.hibernate.sqm.domain.DomainMetamodel;
 import org.hibernate.sqm.query.SqmSelectStatement;
@@ -55,6 +55,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final EntityGraphQueryHint entityGraphHint;
 	private final RowTransformer<R> rowTransformer;
 
+	// the rendered form of the SQM, built on first execution and reused as long as
+	// the bindings in effect for an execution render the same SQL
+	private volatile SqlSelectInterpretation sqlSelectInterpretation;
+
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement sqm,
 			DomainMetamodel domainMetamodel,
@@ -160,6 +164,30 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 		final Callback callback = new Callback() {};
 
+		return (List<R>) new SqlTreeExecutorImpl().executeSelect(
+				resolveSqlSelectInterpretation( persistenceContext, queryOptions, inputParameterBindings, callback ),
+				PreparedStatementCreatorStandardImpl.INSTANCE,
+				PreparedStatementExecutorNormalImpl.INSTANCE,
+				queryOptions,
+				inputParameterBindings,
+				rowTransformer,
+				callback,
+				persistenceContext,
+				executionContext
+		);
+	}
+
+	private SqlSelectInterpretation resolveSqlSelectInterpretation(
+			SharedSessionContractImplementor persistenceContext,
+			QueryOptions queryOptions,
+			QueryParameterBindings inputParameterBindings,
+			Callback callback) {
+		SqlSelectInterpretation interpretation = sqlSelectInterpretation;
+		if ( interpretation != null
+				&& interpretation.isCompatibleWith( queryOptions, inputParameterBindings, persistenceContext.getFactory() ) ) {
+			return interpretation;
+		}
+
 		// todo : SelectStatementInterpreter needs to account for the EntityGraph hint
 		final SelectQuery sqlTree = SelectStatementInterpreter.interpret(
 				sqm,
@@ -168,17 +196,36 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				queryOptions,
 				callback
 		);
-		return (List<R>) new SqlTreeExecutorImpl().executeSelect(
+		interpretation = SqlTreeWalker.interpret(
 				sqlTree,
-				PreparedStatementCreatorStandardImpl.INSTANCE,
-				PreparedStatementExecutorNormalImpl.INSTANCE,
+				persistenceContext.getFactory(),
 				queryOptions,
-				inputParameterBindings,
-				rowTransformer,
-				callback,
-				persistenceContext,
-				executionContext
+				inputParameterBindings
 		);
+
+		// a concurrent execution may have done the same; both interpretations are equivalent
+		sqlSelectInterpretation = interpretation;
+		return interpretation;
+	}
+
+	/**
+	 * A Comparator reproducing the query's ORDER BY over the results of this plan, used to
+	 * merge the results of the plans aggregated for a polymorphic query.  Only known once the
+	 * plan has been executed, and only available when the results are the selected values
+	 * themselves (no Tuple or TupleTransformer).
+	 *
+	 * @return The Comparator, or {@code null}
+	 */
+	public Comparator<Object> getResultComparator() {
+		final SqlSelectInterpretation interpretation = sqlSelectInterpretation;
+		if ( interpretation == null ) {
+			return null;
+		}
+		if ( rowTransformer != RowTransformerPassThruImpl.INSTANCE
+				&& rowTransformer != RowTransformerSingularReturnImpl.INSTANCE ) {
+			return null;
+		}
+		return interpretation.getRowComparator();
 	}
 
 	private void verifyQueryIsSelect() {
@@ -190,6 +237,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public Iterator<R> performIterate(
 			SharedSessionContractImplementor persistenceContext,
 			ExecutionContext executionContext,
@@ -197,8 +245,21 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			QueryParameterBindings inputParameterBindings) {
 		verifyQueryIsSelect();
 
-		// todo : implement
-		throw new NotYetImplementedException( "Query#iterate not yet implemented" );
+		final Callback callback = new Callback() {};
+
+		// rows are read from the open ResultSet as the Iterator is walked
+		// 		todo : shallow (id-only) selection of entity returns, followed by batch loading, once entity returns are read
+		return (Iterator<R>) new SqlTreeExecutorImpl().executeSelect(
+				resolveSqlSelectInterpretation( persistenceContext, queryOptions, inputParameterBindings, callback ),
+				PreparedStatementCreatorScrollableForwardOnlyImpl.INSTANCE,
+				PreparedStatementExecutorIteratorImpl.INSTANCE,
+				queryOptions,
+				inputParameterBindings,
+				rowTransformer,
+				callback,
+				persistenceContext,
+				executionContext
+		);
 	}
 
 	@Override
@@ -210,32 +271,13 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			QueryParameterBindings inputParameterBindings,
 			ScrollMode scrollMode) {
 		verifyQueryIsSelect();
+		verifyScrollMode( scrollMode );
 
 		final Callback callback = new Callback() {};
 
-		// todo : SelectStatementInterpreter needs to account for the EntityGraph hint
-		final SelectQuery sqlTree = SelectStatementInterpreter.interpret(
-				sqm,
-				persistenceContext.getFactory(),
-				domainMetamodel,
-				queryOptions,
-				callback
-		);
-
-		final PreparedStatementCreator creator;
-		if ( scrollMode == ScrollMode.FORWARD_ONLY ) {
-			creator = PreparedStatementCreatorScrollableForwardOnlyImpl.INSTANCE;
-		}
-		else if ( scrollMode == ScrollMode.SCROLL_SENSITIVE ) {
-			creator = PreparedStatementCreatorScrollableSensitiveImpl.INSTANCE;
-		}
-		else {
-			creator = PreparedStatementCreatorScrollableInsensitiveImpl.INSTANCE;
-		}
-
 		return (ScrollableResultsImplementor) new SqlTreeExecutorImpl().executeSelect(
-				sqlTree,
-				creator,
+				resolveSqlSelectInterpretation( persistenceContext, queryOptions, inputParameterBindings, callback ),
+				PreparedStatementCreatorScrollableForwardOnlyImpl.INSTANCE,
 				PreparedStatementExecutorScrollableImpl.INSTANCE,
 				queryOptions,
 				inputParameterBindings,
@@ -245,4 +287,16 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				executionContext
 		);
 	}
+
+	/**
+	 * The results are read as the ScrollableResults is moved forward, which does not (yet)
+	 * allow moving backwards
+	 */
+	static void verifyScrollMode(ScrollMode scrollMode) {
+		if ( scrollMode != ScrollMode.FORWARD_ONLY ) {
+			throw new UnsupportedOperationException(
+					"Only ScrollMode.FORWARD_ONLY is supported for scrolling query results, not " + scrollMode
+			);
+		}
+	}
 }
@@ -20,6 +20,7 @@ import org.hibernate.cfg.NotYetImplementedException;
 import org.hibernate.engine.query.spi.EntityGraphQueryHint;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jpa.graph.internal.EntityGraphImpl;
+import org.hibernate.persister.common.spi.OrmTypeExporter;
 import org.hibernate.query.proposed.ParameterMetadata;
 import org.hibernate.query.proposed.Query;
 import org.hibernate.query.proposed.QueryOptions;
@@ -36,6 +37,7 @@ import org.hibernate.query.proposed.spi.NonSelectQueryPlan;
 import org.hibernate.query.proposed.spi.QueryInterpretations;
 import org.hibernate.query.proposed.spi.QueryParameterBindings;
 import org.hibernate.query.proposed.spi.QueryProducerImplementor;
+import org.hibernate.query.proposed.spi.ResolvedQuerySettings;
 import org.hibernate.query.proposed.spi.ScrollableResultsImplementor;
 import org.hibernate.query.proposed.spi.SelectQueryPlan;
 import org.hibernate.sqm.QuerySplitter;
@@ -43,6 +45,8 @@ import org.hibernate.sqm.domain.DomainMetamodel;
 import org.hibernate.sqm.query.SqmSelectStatement;
 import org.hibernate.sqm.query.SqmStatement;
 import org.hibernate.sqm.query.SqmStatementNonSelect;
+import org.hibernate.sqm.query.select.SqmSelection;
+import org.hibernate.type.Type;
 
 /**
  * {@link Query} implementation based on an SQM
@@ -63,6 +67,12 @@ public class QuerySqmImpl<R> extends AbstractQuery<R> {
 
 	private EntityGraphQueryHint entityGraphQueryHint;
 
+	// the SelectQueryPlan resolved by the previous execution, and the key it was resolved for;
+	// reused as long as the key does not change, e.g. when executing the query repeatedly with
+	// different parameter values
+	private QueryInterpretations.Key selectQueryPlanKey;
+	private SelectQueryPlan<R> selectQueryPlan;
+
 	public QuerySqmImpl(
 			String sourceQueryString,
 			SqmStatement sqmStatement,
@@ -261,6 +271,9 @@ public class QuerySqmImpl<R> extends AbstractQuery<R> {
 
 		final QueryInterpretations.Key cacheKey = SqmInterpretationsKey.generateFrom( this );
 		if ( cacheKey != null ) {
+			if ( cacheKey.equals( selectQueryPlanKey ) ) {
+				return selectQueryPlan;
+			}
 			queryPlan = getExecutionContext().getQueryInterpretations().getSelectQueryPlan( cacheKey );
 		}
 
@@ -271,6 +284,9 @@ public class QuerySqmImpl<R> extends AbstractQuery<R> {
 			}
 		}
 
+		this.selectQueryPlanKey = cacheKey;
+		this.selectQueryPlan = queryPlan;
+
 		return queryPlan;
 	}
 
@@ -304,7 +320,33 @@ public class QuerySqmImpl<R> extends AbstractQuery<R> {
 			);
 		}
 
-		return new AggregatedSelectQueryPlanImpl( aggregatedQueryPlans );
+		final int parallelism = selectsBasicValuesOnly( concreteSqmStatements[0] )
+				? ResolvedQuerySettings.from( persistenceContext.getFactory() ).getPolymorphicQueryParallelism()
+				: 1;
+
+		return new AggregatedSelectQueryPlanImpl(
+				aggregatedQueryPlans,
+				parallelism,
+				AggregatedQueryExecutor.from( persistenceContext.getFactory() )
+		);
+	}
+
+	// the aggregated plans may only be executed concurrently if nothing is selected which the
+	// temporary sessions used for that would resolve: an entity (or collection) resolved by a
+	// temporary session would be detached from this session
+	private static boolean selectsBasicValuesOnly(SqmSelectStatement sqm) {
+		for ( SqmSelection selection : sqm.getQuerySpec().getSelectClause().getSelections() ) {
+			final Object expressionType = selection.getExpression().getExpressionType();
+			if ( !( expressionType instanceof OrmTypeExporter ) ) {
+				return false;
+			}
+
+			final Type ormType = ( (OrmTypeExporter) expressionType ).getOrmType();
+			if ( ormType == null || ormType.isAssociationType() || ormType.isComponentType() ) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	private SelectQueryPlan<R> buildConcreteSelectQueryPlan(
@@ -6,70 +6,70 @@
  */
 package org.hibernate.query.proposed.internal.sqm;
 
+import java.util.HashMap;
+import java.util.Map;
+import javax.persistence.EntityGraph;
+
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.engine.query.spi.EntityGraphQueryHint;
 import org.hibernate.query.proposed.Limit;
-import org.hibernate.query.proposed.ParameterMetadata;
 import org.hibernate.query.proposed.QueryOptions;
 import org.hibernate.query.proposed.QueryParameter;
 import org.hibernate.query.proposed.ResultListTransformer;
 import org.hibernate.query.proposed.TupleTransformer;
 import org.hibernate.query.proposed.spi.QueryInterpretations;
+import org.hibernate.query.proposed.spi.QueryParameterBinding;
+import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.query.proposed.spi.ResolvedQuerySettings;
+import org.hibernate.sql.convert.spi.Helper;
 import org.hibernate.sqm.query.SqmStatement;
 
 /**
+ * Cache key for the QueryPlans of SQM-backed queries.  Besides the SQM statement
+ * itself the key accounts for the options and bindings which influence the shape of
+ * the generated SQL: whether a first-row and/or max-rows limit is applied (but not
+ * the limit values), the lock options, the EntityGraph and the number of values each
+ * multi-valued parameter is rendered as.
+ *
  * @author Steve Ebersole
  */
 class SqmInterpretationsKey implements QueryInterpretations.Key {
 	static SqmInterpretationsKey generateFrom(QuerySqmImpl query) {
-		if ( !isCacheable( query ) ) {
-			return null;
-		}
-
 		return new SqmInterpretationsKey(
 				query.getSqmStatement(),
 				query.getResultType(),
-				query.getQueryOptions()
+				query.getQueryOptions(),
+				query.getEntityGraphHint(),
+				determineInListValueCounts( query )
 		);
 	}
 
-	@SuppressWarnings("RedundantIfStatement")
-	private static boolean isCacheable(QuerySqmImpl query) {
-		if ( query.getEntityGraphHint() != null ) {
-			return false;
-		}
-
-		if ( hasMultiValuedParameters( query.getParameterMetadata() ) ) {
-			return false;
-		}
+	private static Map<String, Integer> determineInListValueCounts(QuerySqmImpl query) {
+		final QueryParameterBindings parameterBindings = query.getQueryParameterBindings();
+		final boolean padding = ResolvedQuerySettings.from( query.getProducer().getFactory() ).isInClauseParameterPaddingEnabled();
 
-		if ( hasLimit( query.getQueryOptions().getLimit() ) ) {
-			return false;
-		}
+		Map<String, Integer> valueCounts = null;
+		for ( QueryParameter<?> queryParameter : query.getParameterMetadata().collectAllParameters() ) {
+			if ( !queryParameter.allowsMultiValuedBinding() ) {
+				continue;
+			}
 
-		if ( definesLocking( query.getQueryOptions().getLockOptions() ) ) {
-			return false;
-		}
+			final QueryParameterBinding<?> binding = parameterBindings.getBinding( queryParameter );
+			final int renderedValueCount = binding != null && binding.isMultiValued()
+					? Helper.determineInListRenderedValueCount( binding.getBindValues().size(), padding )
+					: -1;
 
-		return true;
-	}
-
-	private static boolean hasMultiValuedParameters(ParameterMetadata parameterMetadata) {
-		for ( QueryParameter<?> queryParameter : parameterMetadata.collectAllParameters() ) {
-			if ( queryParameter.allowsMultiValuedBinding() ) {
-				return true;
+			if ( valueCounts == null ) {
+				valueCounts = new HashMap<>();
 			}
+			valueCounts.put(
+					queryParameter.getName() != null ? queryParameter.getName() : "?" + queryParameter.getPosition(),
+					renderedValueCount
+			);
 		}
-		return false;
-	}
-
-	private static boolean hasLimit(Limit limit) {
-		return limit.getFirstRow() != null || limit.getMaxRows() != null;
-	}
 
-	private static boolean definesLocking(LockOptions lockOptions) {
-		final LockMode mostRestrictiveLockMode = lockOptions.findGreatestLockMode();
-		return mostRestrictiveLockMode.greaterThan( LockMode.READ );
+		return valueCounts;
 	}
 
 
@@ -78,14 +78,54 @@ class SqmInterpretationsKey implements QueryInterpretations.Key {
 	private final TupleTransformer tupleTransformer;
 	private final ResultListTransformer resultListTransformer;
 
+	private final boolean hasFirstRow;
+	private final boolean hasMaxRows;
+	private final LockMode lockMode;
+	private final Map<String, LockMode> aliasSpecificLockModes;
+	private final int lockTimeOut;
+	private final Boolean followOnLocking;
+	private final String entityGraphHintName;
+	private final EntityGraph<?> entityGraph;
+	private final Map<String, Integer> inListValueCounts;
+
 	private SqmInterpretationsKey(
 			SqmStatement sqmStatement,
 			Class resultType,
-			QueryOptions queryOptions) {
+			QueryOptions queryOptions,
+			EntityGraphQueryHint entityGraphHint,
+			Map<String, Integer> inListValueCounts) {
 		this.sqmStatement = sqmStatement;
 		this.resultType = resultType;
 		this.tupleTransformer = queryOptions.getTupleTransformer();
 		this.resultListTransformer = queryOptions.getResultListTransformer();
+
+		final Limit limit = queryOptions.getLimit();
+		this.hasFirstRow = limit.getFirstRow() != null;
+		this.hasMaxRows = limit.getMaxRows() != null;
+
+		final LockOptions lockOptions = queryOptions.getLockOptions();
+		this.lockMode = lockOptions.getLockMode();
+		this.aliasSpecificLockModes = extractAliasSpecificLockModes( lockOptions );
+		this.lockTimeOut = lockOptions.getTimeOut();
+		this.followOnLocking = lockOptions.getFollowOnLocking();
+
+		// EntityGraph does not define equality, so graphs are matched by identity
+		this.entityGraphHintName = entityGraphHint == null ? null : entityGraphHint.getHintName();
+		this.entityGraph = entityGraphHint == null ? null : entityGraphHint.getOriginEntityGraph();
+
+		this.inListValueCounts = inListValueCounts;
+	}
+
+	private static Map<String, LockMode> extractAliasSpecificLockModes(LockOptions lockOptions) {
+		if ( !lockOptions.hasAliasSpecificLockModes() ) {
+			return null;
+		}
+
+		final Map<String, LockMode> aliasSpecificLockModes = new HashMap<>();
+		for ( Map.Entry<String, LockMode> entry : lockOptions.getAliasSpecificLocks() ) {
+			aliasSpecificLockModes.put( entry.getKey(), entry.getValue() );
+		}
+		return aliasSpecificLockModes;
 	}
 
 	@Override
@@ -101,7 +141,16 @@ class SqmInterpretationsKey implements QueryInterpretations.Key {
 		return sqmStatement.equals( that.sqmStatement )
 				&& areEqual( resultType, that.resultType )
 				&& areEqual( tupleTransformer, that.tupleTransformer )
-				&& areEqual( resultListTransformer, that.resultListTransformer );
+				&& areEqual( resultListTransformer, that.resultListTransformer )
+				&& hasFirstRow == that.hasFirstRow
+				&& hasMaxRows == that.hasMaxRows
+				&& lockMode == that.lockMode
+				&& areEqual( aliasSpecificLockModes, that.aliasSpecificLockModes )
+				&& lockTimeOut == that.lockTimeOut
+				&& areEqual( followOnLocking, that.followOnLocking )
+				&& areEqual( entityGraphHintName, that.entityGraphHintName )
+				&& entityGraph == that.entityGraph
+				&& areEqual( inListValueCounts, that.inListValueCounts );
 	}
 
 	private <T> boolean areEqual(T o1, T o2) {
@@ -119,6 +168,13 @@ class SqmInterpretationsKey implements QueryInterpretations.Key {
 		result = 31 * result + ( resultType != null ? resultType.hashCode() : 0 );
 		result = 31 * result + ( tupleTransformer != null ? tupleTransformer.hashCode() : 0 );
 		result = 31 * result + ( resultListTransformer != null ? resultListTransformer.hashCode() : 0 );
+		result = 31 * result + ( hasFirstRow ? 1 : 0 );
+		result = 31 * result + ( hasMaxRows ? 1 : 0 );
+		result = 31 * result + ( lockMode != null ? lockMode.hashCode() : 0 );
+		result = 31 * result + ( aliasSpecificLockModes != null ? aliasSpecificLockModes.hashCode() : 0 );
+		result = 31 * result + lockTimeOut;
+		result = 31 * result + ( entityGraph != null ? System.identityHashCode( entityGraph ) : 0 );
+		result = 31 * result + ( inListValueCounts != null ? inListValueCounts.hashCode() : 0 );
 		return result;
 	}
 }
@@ -9,6 +9,7 @@ package org.hibernate.query.proposed.spi;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.engine.spi.ExceptionConverter;
+import org.hibernate.sql.exec.spi.PreparedStatementCache;
 
 /**
  * A context for Query execution.
@@ -38,4 +39,9 @@ public interface ExecutionContext extends QueryParameterBindingTypeResolver {
 	void prepareForQueryExecution(boolean requiresTxn);
 
 	QueryInterpretations getQueryInterpretations();
+
+	/**
+	 * The PreparedStatements kept for reuse by the session (and only by it)
+	 */
+	PreparedStatementCache getPreparedStatementCache();
 }
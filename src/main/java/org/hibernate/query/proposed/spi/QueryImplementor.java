@@ -48,6 +48,9 @@ public interface QueryImplementor<R> extends Query<R> {
 	@Override
 	QueryImplementor<R> setHibernateFlushMode(FlushMode flushMode);
 
+	@Override
+	QueryImplementor<R> clearParameterBindings();
+
 	@Override
 	QueryImplementor<R> setCacheMode(CacheMode cacheMode);
 
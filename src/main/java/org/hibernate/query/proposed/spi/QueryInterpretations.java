@@ -6,13 +6,18 @@
  */
 package org.hibernate.query.proposed.spi;
 
+import org.hibernate.service.Service;
+
 /**
  * Acts as a cache for QueryPlans used (and produced) by the translation
  * and execution of a query.
+ * <p/>
+ * Available as a SessionFactory-scoped service, see
+ * {@link org.hibernate.query.proposed.internal.QueryInterpretationsInitiator}.
  *
  * @author Steve Ebersole
  */
-public interface QueryInterpretations {
+public interface QueryInterpretations extends Service {
 	interface Key {
 	}
 
@@ -22,6 +22,11 @@ import org.hibernate.type.Type;
 public interface QueryParameterBinding<T> {
 	boolean isBound();
 
+	/**
+	 * Reset the binding to its unbound state, as originally created.
+	 */
+	void clear();
+
 	boolean allowsMultiValued();
 
 	boolean isMultiValued();
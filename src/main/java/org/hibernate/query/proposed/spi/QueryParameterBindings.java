@@ -59,4 +59,18 @@ public interface QueryParameterBindings {
 	 * Validate the bindings.  Called just before execution
 	 */
 	void validate();
+
+	/**
+	 * Make an immutable copy of the current bindings, which can safely be handed to
+	 * other threads.  Changing the bindings of the copy is not supported.
+	 *
+	 * @return The copy
+	 */
+	QueryParameterBindings makeSnapshot();
+
+	/**
+	 * Reset all bindings to their unbound state, allowing the bindings (and the query they
+	 * belong to) to be reused for another execution.
+	 */
+	void clearBindings();
 }
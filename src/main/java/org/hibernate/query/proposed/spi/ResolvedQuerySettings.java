@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.spi;
+
+import java.util.Map;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.query.proposed.LiteralHandlingMode;
+import org.hibernate.query.proposed.QuerySettings;
+import org.hibernate.service.Service;
+
+/**
+ * The values of the {@link QuerySettings} in effect for a SessionFactory, interpreted once
+ * (as a SessionFactory-scoped service) rather than whenever a query is rendered or executed.
+ *
+ * @author Steve Ebersole
+ */
+@Incubating
+public class ResolvedQuerySettings implements Service {
+	/**
+	 * Access to the settings of the given SessionFactory
+	 *
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @return Its resolved query settings
+	 */
+	public static ResolvedQuerySettings from(SessionFactoryImplementor sessionFactory) {
+		return sessionFactory.getServiceRegistry().getService( ResolvedQuerySettings.class );
+	}
+
+	private final boolean inClauseParameterPadding;
+	private final int polymorphicQueryParallelism;
+	private final boolean primitiveResultLists;
+	private final boolean reuseScrolledRows;
+	private final boolean batchDmlQueries;
+	private final int preparedStatementCacheSize;
+	private final LiteralHandlingMode literalHandlingMode;
+	private final boolean poolSqlTreeWalkers;
+
+	public ResolvedQuerySettings(Map configurationSettings) {
+		this.inClauseParameterPadding = ConfigurationHelper.getBoolean(
+				QuerySettings.IN_CLAUSE_PARAMETER_PADDING,
+				configurationSettings,
+				false
+		);
+		this.polymorphicQueryParallelism = ConfigurationHelper.getInt(
+				QuerySettings.POLYMORPHIC_QUERY_PARALLELISM,
+				configurationSettings,
+				1
+		);
+		this.primitiveResultLists = ConfigurationHelper.getBoolean(
+				QuerySettings.PRIMITIVE_RESULT_LISTS,
+				configurationSettings,
+				false
+		);
+		this.reuseScrolledRows = ConfigurationHelper.getBoolean(
+				QuerySettings.REUSE_SCROLLED_ROWS,
+				configurationSettings,
+				false
+		);
+		this.batchDmlQueries = ConfigurationHelper.getBoolean(
+				QuerySettings.BATCH_DML_QUERIES,
+				configurationSettings,
+				false
+		);
+		this.preparedStatementCacheSize = ConfigurationHelper.getInt(
+				QuerySettings.PREPARED_STATEMENT_CACHE_SIZE,
+				configurationSettings,
+				0
+		);
+		this.literalHandlingMode = LiteralHandlingMode.interpret(
+				configurationSettings.get( QuerySettings.LITERAL_HANDLING_MODE )
+		);
+		this.poolSqlTreeWalkers = ConfigurationHelper.getBoolean(
+				QuerySettings.POOL_SQL_TREE_WALKERS,
+				configurationSettings,
+				false
+		);
+	}
+
+	/**
+	 * @see QuerySettings#IN_CLAUSE_PARAMETER_PADDING
+	 */
+	public boolean isInClauseParameterPaddingEnabled() {
+		return inClauseParameterPadding;
+	}
+
+	/**
+	 * @see QuerySettings#POLYMORPHIC_QUERY_PARALLELISM
+	 */
+	public int getPolymorphicQueryParallelism() {
+		return polymorphicQueryParallelism;
+	}
+
+	/**
+	 * @see QuerySettings#PRIMITIVE_RESULT_LISTS
+	 */
+	public boolean isPrimitiveResultListsEnabled() {
+		return primitiveResultLists;
+	}
+
+	/**
+	 * @see QuerySettings#REUSE_SCROLLED_ROWS
+	 */
+	public boolean isReuseScrolledRowsEnabled() {
+		return reuseScrolledRows;
+	}
+
+	/**
+	 * @see QuerySettings#BATCH_DML_QUERIES
+	 */
+	public boolean isBatchDmlQueriesEnabled() {
+		return batchDmlQueries;
+	}
+
+	/**
+	 * @see QuerySettings#PREPARED_STATEMENT_CACHE_SIZE
+	 */
+	public int getPreparedStatementCacheSize() {
+		return preparedStatementCacheSize;
+	}
+
+	/**
+	 * @see QuerySettings#LITERAL_HANDLING_MODE
+	 */
+	public LiteralHandlingMode getLiteralHandlingMode() {
+		return literalHandlingMode;
+	}
+
+	/**
+	 * @see QuerySettings#POOL_SQL_TREE_WALKERS
+	 */
+	public boolean isSqlTreeWalkerPoolingEnabled() {
+		return poolSqlTreeWalkers;
+	}
+}
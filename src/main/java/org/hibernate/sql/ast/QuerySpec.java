@@ -6,6 +6,11 @@
  */
 package org.hibernate.sql.ast;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.sql.ast.expression.Expression;
 import org.hibernate.sql.ast.from.FromClause;
 import org.hibernate.sql.ast.predicate.Predicate;
 import org.hibernate.sql.ast.select.SelectClause;
@@ -18,8 +23,8 @@ public class QuerySpec {
 	private final SelectClause selectClause = new SelectClause();
 
 	private Predicate whereClauseRestrictions;
-
-	// where clause, etc
+	private List<Expression> groupByExpressions;
+	private Predicate havingClauseRestrictions;
 
 	public FromClause getFromClause() {
 		return fromClause;
@@ -39,4 +44,31 @@ public class QuerySpec {
 		}
 		this.whereClauseRestrictions = whereClauseRestrictions;
 	}
+
+	public List<Expression> getGroupByExpressions() {
+		if ( groupByExpressions == null ) {
+			return Collections.emptyList();
+		}
+		else {
+			return Collections.unmodifiableList( groupByExpressions );
+		}
+	}
+
+	public void addGroupByExpression(Expression groupByExpression) {
+		if ( groupByExpressions == null ) {
+			groupByExpressions = new ArrayList<>();
+		}
+		groupByExpressions.add( groupByExpression );
+	}
+
+	public Predicate getHavingClauseRestrictions() {
+		return havingClauseRestrictions;
+	}
+
+	public void setHavingClauseRestrictions(Predicate havingClauseRestrictions) {
+		if ( this.havingClauseRestrictions != null ) {
+			throw new UnsupportedOperationException( "Cannot set having-clause restrictions after already set" );
+		}
+		this.havingClauseRestrictions = havingClauseRestrictions;
+	}
 }
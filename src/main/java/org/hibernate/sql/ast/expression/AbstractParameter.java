@@ -8,9 +8,12 @@ package org.hibernate.sql.ast.expression;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Iterator;
 
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.proposed.spi.QueryParameterBinding;
+import org.hibernate.query.proposed.spi.QueryParameterBindings;
 import org.hibernate.sql.convert.spi.ParameterSpec;
 import org.hibernate.sql.spi.ParameterBinder;
 import org.hibernate.type.Type;
@@ -43,6 +46,84 @@ public abstract class AbstractParameter extends SelfReadingExpressionSupport imp
 		return this;
 	}
 
+	/**
+	 * Resolve the Type to use for binding this parameter, given the current bindings.
+	 *
+	 * @param bindings The current parameter bindings
+	 *
+	 * @return The resolved bind Type
+	 */
+	public abstract Type resolveBindType(QueryParameterBindings bindings);
+
+	/**
+	 * Locate the binding for this parameter.
+	 *
+	 * @param bindings The current parameter bindings
+	 *
+	 * @return The binding, or {@code null} if there is none
+	 */
+	public abstract QueryParameterBinding resolveBinding(QueryParameterBindings bindings);
+
+	/**
+	 * Get a ParameterBinder for binding this parameter as rendered for the given Type.  The
+	 * Type (and how to bind it) is resolved once, up front, rather than on every binding.
+	 *
+	 * @param bindType The Type this parameter was rendered for
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @return The binder
+	 */
+	public ParameterBinder getParameterBinder(Type bindType, SessionFactoryImplementor sessionFactory) {
+		return new ResolvedParameterBinder( this, bindType, -1, sessionFactory );
+	}
+
+	/**
+	 * Get a ParameterBinder for binding the values of a multi-valued binding of this
+	 * parameter, rendered as the given number of values.  If fewer values are bound
+	 * the last one is repeated to fill the remaining (padded) positions.
+	 *
+	 * @param renderedValueCount The number of values rendered into the SQL
+	 * @param bindType The Type this parameter was rendered for
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @return The binder
+	 */
+	public ParameterBinder getMultiValuedParameterBinder(
+			int renderedValueCount,
+			Type bindType,
+			SessionFactoryImplementor sessionFactory) {
+		return new ResolvedParameterBinder( this, bindType, renderedValueCount, sessionFactory );
+	}
+
+	@SuppressWarnings("unchecked")
+	protected int bindParameterValues(
+			PreparedStatement statement,
+			int startPosition,
+			QueryParameterBinding valueBinding,
+			int renderedValueCount,
+			SharedSessionContractImplementor session) throws SQLException {
+		final Type bindType = valueBinding.getBindType() == null ? inferredType : valueBinding.getBindType();
+		if ( bindType == null ) {
+			unresolvedType();
+		}
+		assert bindType != null;
+
+		final int columnSpan = bindType.getColumnSpan( session.getFactory() );
+
+		int position = startPosition;
+		Object bindValue = null;
+		final Iterator<Object> values = valueBinding.getBindValues().iterator();
+		for ( int i = 0; i < renderedValueCount; i++ ) {
+			if ( values.hasNext() ) {
+				bindValue = values.next();
+			}
+			bindType.nullSafeSet( statement, bindValue, position, session );
+			position += columnSpan;
+		}
+
+		return position - startPosition;
+	}
+
 	protected int bindParameterValue(
 			PreparedStatement statement,
 			int startPosition,
@@ -13,6 +13,7 @@ import org.hibernate.QueryException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.proposed.spi.QueryParameterBinding;
 import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.sql.convert.spi.Helper;
 import org.hibernate.sql.convert.spi.SqlTreeWalker;
 import org.hibernate.type.Type;
 
@@ -47,6 +48,16 @@ public class NamedParameter extends AbstractParameter {
 		return bindParameterValue( statement, startPosition, binding, session );
 	}
 
+	@Override
+	public QueryParameterBinding resolveBinding(QueryParameterBindings bindings) {
+		return bindings.getBinding( name );
+	}
+
+	@Override
+	public Type resolveBindType(QueryParameterBindings bindings) {
+		return Helper.resolveType( this, bindings );
+	}
+
 	@Override
 	protected void warnNoBinding() {
 		log.debugf( "Query defined named parameter [%s], but no binding was found (setParameter not called)", getName() );
@@ -13,6 +13,7 @@ import org.hibernate.QueryException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.proposed.spi.QueryParameterBinding;
 import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.sql.convert.spi.Helper;
 import org.hibernate.sql.convert.spi.SqlTreeWalker;
 import org.hibernate.type.Type;
 
@@ -45,6 +46,16 @@ public class PositionalParameter extends AbstractParameter {
 		return bindParameterValue(  statement, startPosition, binding, session );
 	}
 
+	@Override
+	public QueryParameterBinding resolveBinding(QueryParameterBindings bindings) {
+		return bindings.getBinding( position );
+	}
+
+	@Override
+	public Type resolveBindType(QueryParameterBindings bindings) {
+		return Helper.resolveType( this, bindings );
+	}
+
 	@Override
 	protected void warnNoBinding() {
 		log.debugf( "Query defined positional parameter [%s], but no binding was found (setParameter not called)", getPosition() );
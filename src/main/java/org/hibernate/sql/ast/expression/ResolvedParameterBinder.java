@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.ast.expression;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.proposed.spi.QueryParameterBinding;
+import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.sql.spi.ParameterBinder;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+
+/**
+ * ParameterBinder for a parameter as rendered into one particular SQL string.  The Type
+ * the parameter was rendered for is resolved once, along with its column span and, for a
+ * single-column basic Type, the ValueBinder of its (Dialect-remapped) SqlTypeDescriptor;
+ * binding the parameter then only has to locate its value(s).
+ * <p/>
+ * Should an execution bind the parameter using some other Type (of the same column span,
+ * see {@link org.hibernate.sql.convert.spi.SqlSelectInterpretation#isCompatibleWith})
+ * binding falls back to resolving that Type.
+ *
+ * @author Steve Ebersole
+ */
+class ResolvedParameterBinder implements ParameterBinder {
+	private final AbstractParameter parameter;
+	private final Type bindType;
+	private final int columnSpan;
+	private final int renderedValueCount;
+	private final ValueBinder valueBinder;
+
+	/**
+	 * @param parameter The parameter being bound
+	 * @param bindType The Type the parameter was rendered for
+	 * @param renderedValueCount The number of values rendered for a multi-valued binding,
+	 * or {@code -1} for a single-valued one
+	 * @param sessionFactory The SessionFactory
+	 */
+	ResolvedParameterBinder(
+			AbstractParameter parameter,
+			Type bindType,
+			int renderedValueCount,
+			SessionFactoryImplementor sessionFactory) {
+		this.parameter = parameter;
+		this.bindType = bindType;
+		this.columnSpan = bindType.getColumnSpan( sessionFactory );
+		this.renderedValueCount = renderedValueCount;
+		this.valueBinder = columnSpan == 1 ? resolveValueBinder( bindType, sessionFactory ) : null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ValueBinder resolveValueBinder(Type bindType, SessionFactoryImplementor sessionFactory) {
+		if ( !( bindType instanceof AbstractStandardBasicType ) ) {
+			return null;
+		}
+		final AbstractStandardBasicType basicType = (AbstractStandardBasicType) bindType;
+
+		// the same remapping the Session applies for AbstractStandardBasicType#nullSafeSet
+		SqlTypeDescriptor sqlTypeDescriptor = basicType.getSqlTypeDescriptor();
+		if ( sqlTypeDescriptor.canBeRemapped() ) {
+			final SqlTypeDescriptor remapped = sessionFactory.getDialect().remapSqlTypeDescriptor( sqlTypeDescriptor );
+			if ( remapped != null ) {
+				sqlTypeDescriptor = remapped;
+			}
+		}
+		return sqlTypeDescriptor.getBinder( basicType.getJavaTypeDescriptor() );
+	}
+
+	@Override
+	public int bindParameterValue(
+			PreparedStatement statement,
+			int startPosition,
+			QueryParameterBindings queryParameterBindings,
+			SharedSessionContractImplementor session) throws SQLException {
+		final QueryParameterBinding binding = parameter.resolveBinding( queryParameterBindings );
+		if ( binding == null || resolveBindType( binding ) != bindType ) {
+			if ( renderedValueCount < 0 ) {
+				return parameter.bindParameterValue( statement, startPosition, binding, session );
+			}
+			return parameter.bindParameterValues( statement, startPosition, binding, renderedValueCount, session );
+		}
+
+		if ( renderedValueCount < 0 ) {
+			final Object bindValue = binding.getBindValue();
+			if ( bindValue == null ) {
+				parameter.warnNullBindValue();
+			}
+			bind( statement, bindValue, startPosition, session );
+			return columnSpan;
+		}
+
+		// as with AbstractParameter#bindParameterValues, the last value fills any padded positions
+		int position = startPosition;
+		Object bindValue = null;
+		final Iterator<Object> values = binding.getBindValues().iterator();
+		for ( int i = 0; i < renderedValueCount; i++ ) {
+			if ( values.hasNext() ) {
+				bindValue = values.next();
+			}
+			bind( statement, bindValue, position, session );
+			position += columnSpan;
+		}
+		return position - startPosition;
+	}
+
+	private Type resolveBindType(QueryParameterBinding binding) {
+		return binding.getBindType() == null ? parameter.getInferredType() : binding.getBindType();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void bind(
+			PreparedStatement statement,
+			Object bindValue,
+			int position,
+			SharedSessionContractImplementor session) throws SQLException {
+		if ( valueBinder != null ) {
+			valueBinder.bind( statement, bindValue, position, session );
+		}
+		else {
+			bindType.nullSafeSet( statement, bindValue, position, session );
+		}
+	}
+}
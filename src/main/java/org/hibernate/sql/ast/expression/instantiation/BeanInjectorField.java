@@ -6,25 +6,39 @@
  */
 package org.hibernate.sql.ast.expression.instantiation;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 
 /**
+ * Injects the value directly into the field, through a setter MethodHandle resolved up front.
+ *
  * @author Steve Ebersole
  */
 class BeanInjectorField<T> implements BeanInjector<T> {
-	private final Field field;
+	private final MethodHandle fieldSetter;
 
 	public BeanInjectorField(Field field) {
-		this.field = field;
+		try {
+			this.fieldSetter = MethodHandles.lookup().unreflectSetter( field )
+					.asType( MethodType.methodType( void.class, Object.class, Object.class ) );
+		}
+		catch (IllegalAccessException e) {
+			throw new InstantiationException( "Unable to access field for dynamic instantiation : " + field, e );
+		}
 	}
 
 	@Override
 	public void inject(T target, Object value) {
 		try {
-			field.set( target, value );
+			fieldSetter.invokeExact( (Object) target, value );
+		}
+		catch (Error e) {
+			throw e;
 		}
-		catch (Exception e) {
-			throw new InstantiationException( "Error performing the dynamic instantiation", e );
+		catch (Throwable t) {
+			throw new InstantiationException( "Error performing the dynamic instantiation", t );
 		}
 	}
 }
@@ -6,29 +6,39 @@
  */
 package org.hibernate.sql.ast.expression.instantiation;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
 /**
+ * Injects the value through the setter, resolved into a MethodHandle up front.
+ *
  * @author Steve Ebersole
  */
 class BeanInjectorSetter<T> implements BeanInjector<T> {
-	private final Method setter;
+	private final MethodHandle setter;
 
 	public BeanInjectorSetter(Method setter) {
-		this.setter = setter;
+		try {
+			this.setter = MethodHandles.lookup().unreflect( setter )
+					.asType( MethodType.methodType( void.class, Object.class, Object.class ) );
+		}
+		catch (IllegalAccessException e) {
+			throw new InstantiationException( "Unable to access setter for dynamic instantiation : " + setter, e );
+		}
 	}
 
 	@Override
 	public void inject(T target, Object value) {
 		try {
-			setter.invoke( target, value );
+			setter.invokeExact( (Object) target, value );
 		}
-		catch (InvocationTargetException e) {
-			throw new InstantiationException( "Error performing the dynamic instantiation", e.getCause() );
+		catch (Error e) {
+			throw e;
 		}
-		catch (Exception e) {
-			throw new InstantiationException( "Error performing the dynamic instantiation", e );
+		catch (Throwable t) {
+			throw new InstantiationException( "Error performing the dynamic instantiation", t );
 		}
 	}
 }
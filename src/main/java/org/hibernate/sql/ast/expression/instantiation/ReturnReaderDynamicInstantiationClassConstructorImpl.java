@@ -6,22 +6,36 @@
  */
 package org.hibernate.sql.ast.expression.instantiation;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.sql.SQLException;
 import java.util.List;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.exec.results.internal.ReturnReaderScalarImpl;
 import org.hibernate.sql.exec.results.spi.ResultSetProcessingOptions;
 import org.hibernate.sql.exec.results.spi.ReturnReader;
 import org.hibernate.sql.exec.results.spi.RowProcessingState;
+import org.hibernate.type.SingleColumnType;
 
 /**
+ * Dynamic instantiation through a matching constructor.  The constructor is resolved into a
+ * MethodHandle up front, rather than being called reflectively for every row.
+ * <p/>
+ * Arguments for {@code long}, {@code int} and {@code double} constructor parameters which are
+ * read from a single column are read through the primitive accessors of {@link RowProcessingState}
+ * rather than through their Type.
+ *
  * @author Steve Ebersole
  */
 public class ReturnReaderDynamicInstantiationClassConstructorImpl implements ReturnReader {
 	private final Constructor constructor;
+	private final Class[] parameterTypes;
+	private final MethodHandle instantiator;
 	private final List<AliasedReturnReader> argumentReaders;
+	private final ReturnReaderScalarImpl[] primitiveArgumentReaders;
 	private final int numberOfColumnsRead;
 
 	public ReturnReaderDynamicInstantiationClassConstructorImpl(
@@ -29,8 +43,50 @@ public class ReturnReaderDynamicInstantiationClassConstructorImpl implements Ret
 			List<AliasedReturnReader> argumentReaders,
 			int numberOfColumnsRead) {
 		this.constructor = constructor;
+		this.parameterTypes = constructor.getParameterTypes();
 		this.argumentReaders = argumentReaders;
 		this.numberOfColumnsRead = numberOfColumnsRead;
+		this.instantiator = resolveInstantiator( constructor );
+		this.primitiveArgumentReaders = resolvePrimitiveArgumentReaders( parameterTypes, argumentReaders );
+	}
+
+	private static ReturnReaderScalarImpl[] resolvePrimitiveArgumentReaders(
+			Class[] parameterTypes,
+			List<AliasedReturnReader> argumentReaders) {
+		final ReturnReaderScalarImpl[] primitiveArgumentReaders = new ReturnReaderScalarImpl[ parameterTypes.length ];
+		for ( int i = 0; i < parameterTypes.length; i++ ) {
+			final ReturnReader argumentReader = argumentReaders.get( i ).getReturnReader();
+			if ( argumentReader instanceof ReturnReaderScalarImpl
+					&& isPrimitiveRead( parameterTypes[i], (ReturnReaderScalarImpl) argumentReader ) ) {
+				primitiveArgumentReaders[i] = (ReturnReaderScalarImpl) argumentReader;
+			}
+		}
+		return primitiveArgumentReaders;
+	}
+
+	private static boolean isPrimitiveRead(Class parameterType, ReturnReaderScalarImpl argumentReader) {
+		if ( !( argumentReader.getReturnType() instanceof SingleColumnType ) ) {
+			return false;
+		}
+		final Class valueType = argumentReader.getReturnedJavaType();
+		return ( parameterType == long.class && valueType == Long.class )
+				|| ( parameterType == int.class && valueType == Integer.class )
+				|| ( parameterType == double.class && valueType == Double.class );
+	}
+
+	private static MethodHandle resolveInstantiator(Constructor constructor) {
+		try {
+			// (Object[])Object, so that it can be invoked exactly regardless of the argument types
+			return MethodHandles.lookup().unreflectConstructor( constructor )
+					.asSpreader( Object[].class, constructor.getParameterCount() )
+					.asType( MethodType.methodType( Object.class, Object[].class ) );
+		}
+		catch (IllegalAccessException e) {
+			throw new InstantiationException(
+					"Unable to access constructor for dynamic instantiation : " + constructor.getDeclaringClass().getName(),
+					e
+			);
+		}
 	}
 
 	@Override
@@ -57,18 +113,47 @@ public class ReturnReaderDynamicInstantiationClassConstructorImpl implements Ret
 			ResultSetProcessingOptions options) throws SQLException {
 		Object[] args = new Object[ argumentReaders.size() ];
 		for ( int i = 0; i < argumentReaders.size(); i++ ) {
-			args[i] = argumentReaders.get( i ).getReturnReader().assemble( processingState, options );
+			if ( primitiveArgumentReaders[i] != null ) {
+				args[i] = readPrimitiveArgument( i, processingState );
+			}
+			else {
+				args[i] = argumentReaders.get( i ).getReturnReader().assemble( processingState, options );
+			}
 		}
 
 		try {
-			return constructor.newInstance( args );
+			return (Object) instantiator.invokeExact( args );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable t) {
+			throw new InstantiationException( "Error performing dynamic instantiation : " + constructor.getDeclaringClass().getName(), t );
+		}
+	}
+
+	private Object readPrimitiveArgument(int position, RowProcessingState processingState) throws SQLException {
+		final ReturnReaderScalarImpl argumentReader = primitiveArgumentReaders[position];
+		final Class parameterType = parameterTypes[position];
+
+		final Object value;
+		if ( parameterType == long.class ) {
+			value = argumentReader.readLong( processingState );
 		}
-		catch (InvocationTargetException e) {
-			throw new InstantiationException( "Error performing dynamic instantiation : " + constructor.getDeclaringClass().getName(), e.getCause() );
+		else if ( parameterType == int.class ) {
+			value = argumentReader.readInt( processingState );
 		}
-		catch (Exception e) {
-			throw new InstantiationException( "Error performing dynamic instantiation : " + constructor.getDeclaringClass().getName(), e );
+		else {
+			value = argumentReader.readDouble( processingState );
+		}
+
+		if ( processingState.wasNull() ) {
+			throw new InstantiationException(
+					"Null value for primitive constructor parameter [" + position + "] of dynamic instantiation : "
+							+ constructor.getDeclaringClass().getName()
+			);
 		}
+		return value;
 	}
 
 	@Override
@@ -7,6 +7,10 @@
 package org.hibernate.sql.ast.expression.instantiation;
 
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -20,10 +24,15 @@ import org.hibernate.sql.exec.results.spi.RowProcessingState;
 import org.hibernate.sqm.query.expression.Compatibility;
 
 /**
+ * Dynamic instantiation through the no-arg constructor, followed by injection of the values
+ * through setters or fields.  The constructor, setters and fields are resolved into
+ * MethodHandles up front, rather than being accessed reflectively for every row.
+ *
  * @author Steve Ebersole
  */
 public class ReturnReaderDynamicInstantiationClassInjectionImpl<T> implements ReturnReader<T> {
 	private final Class<T> target;
+	private final MethodHandle instantiator;
 	private final List<BeanInjection> beanInjections;
 	private final int numberOfColumnsConsumed;
 
@@ -34,6 +43,7 @@ public class ReturnReaderDynamicInstantiationClassInjectionImpl<T> implements Re
 			int numberOfColumnsConsumed) {
 		this.target = target;
 		this.numberOfColumnsConsumed = numberOfColumnsConsumed;
+		this.instantiator = resolveInstantiator( target );
 
 		this.beanInjections = new ArrayList<>();
 
@@ -91,6 +101,21 @@ public class ReturnReaderDynamicInstantiationClassInjectionImpl<T> implements Re
 		assert aliasedArgumentReaders.size() == beanInjections.size();
 	}
 
+	private static MethodHandle resolveInstantiator(Class<?> target) {
+		try {
+			final Constructor<?> constructor = target.getDeclaredConstructor();
+			constructor.setAccessible( true );
+			return MethodHandles.lookup().unreflectConstructor( constructor )
+					.asType( MethodType.methodType( Object.class ) );
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new InstantiationException(
+					"Unable to access no-arg constructor for dynamic instantiation : " + target.getName(),
+					e
+			);
+		}
+	}
+
 	private Field findField(Class<T> declaringClass, String name, Class javaType) {
 		try {
 			Field field = declaringClass.getDeclaredField( name );
@@ -129,20 +154,24 @@ public class ReturnReaderDynamicInstantiationClassInjectionImpl<T> implements Re
 	public T assemble(
 			RowProcessingState processingState,
 			ResultSetProcessingOptions options) throws SQLException {
+		final T result;
 		try {
-			final T result = target.newInstance();
-
-			for ( BeanInjection beanInjection : beanInjections ) {
-				beanInjection.getBeanInjector().inject(
-						result,
-						beanInjection.getValueReader().assemble( processingState, options )
-				);
-			}
-			return result;
+			result = (T) (Object) instantiator.invokeExact();
+		}
+		catch (Error e) {
+			throw e;
 		}
-		catch (Exception e) {
-			throw new InstantiationException( "Error performing dynamic instantiation : " + target.getName(), e );
+		catch (Throwable t) {
+			throw new InstantiationException( "Error performing dynamic instantiation : " + target.getName(), t );
+		}
+
+		for ( BeanInjection beanInjection : beanInjections ) {
+			beanInjection.getBeanInjector().inject(
+					result,
+					beanInjection.getValueReader().assemble( processingState, options )
+			);
 		}
+		return result;
 	}
 
 	@Override
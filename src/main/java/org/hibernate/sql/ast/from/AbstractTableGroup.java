@@ -9,8 +9,10 @@ package org.hibernate.sql.ast.from;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.persister.entity.internal.IdentifierSimple;
 import org.hibernate.sql.ast.expression.AttributeReference;
@@ -38,6 +40,7 @@ public abstract class AbstractTableGroup implements TableGroup {
 
 	private TableBinding rootTableBinding;
 	private List<TableJoin> tableJoins;
+	private Set<TableJoin> unreferencedOptionalTableJoins;
 
 	public AbstractTableGroup(TableSpace tableSpace, String aliasBase) {
 		this.tableSpace = tableSpace;
@@ -77,6 +80,25 @@ public abstract class AbstractTableGroup implements TableGroup {
 		}
 	}
 
+	@Override
+	public List<TableJoin> getRequiredTableJoins() {
+		if ( tableJoins == null ) {
+			return Collections.emptyList();
+		}
+		else if ( unreferencedOptionalTableJoins == null || unreferencedOptionalTableJoins.isEmpty() ) {
+			return Collections.unmodifiableList( tableJoins );
+		}
+		else {
+			final List<TableJoin> neededTableJoins = new ArrayList<>( tableJoins.size() );
+			for ( TableJoin tableJoin : tableJoins ) {
+				if ( !unreferencedOptionalTableJoins.contains( tableJoin ) ) {
+					neededTableJoins.add( tableJoin );
+				}
+			}
+			return neededTableJoins;
+		}
+	}
+
 	@Override
 	public ColumnBinding[] resolveBindings(SingularAttributeImplementor attribute) {
 		final Column[] columns;
@@ -116,6 +138,12 @@ public abstract class AbstractTableGroup implements TableGroup {
 
 		final TableBinding tableBinding = locateTableBinding( improvedEntityPersister.getRootTable() );
 
+		// a reference to the entity as a whole (rather than to some of its attributes) may
+		// need the columns of any of its tables
+		if ( unreferencedOptionalTableJoins != null ) {
+			unreferencedOptionalTableJoins.clear();
+		}
+
 		return new EntityReference( this, improvedEntityPersister, tableBinding );
 	}
 
@@ -126,9 +154,14 @@ public abstract class AbstractTableGroup implements TableGroup {
 			return getRootTableBinding();
 		}
 
-		for ( TableJoin tableJoin : getTableJoins() ) {
-			if ( tableJoin.getJoinedTableBinding().getTable() == table ) {
-				return tableJoin.getJoinedTableBinding();
+		if ( tableJoins != null ) {
+			for ( TableJoin tableJoin : tableJoins ) {
+				if ( tableJoin.getJoinedTableBinding().getTable() == table ) {
+					if ( unreferencedOptionalTableJoins != null ) {
+						unreferencedOptionalTableJoins.remove( tableJoin );
+					}
+					return tableJoin.getJoinedTableBinding();
+				}
 			}
 		}
 
@@ -141,5 +174,12 @@ public abstract class AbstractTableGroup implements TableGroup {
 			tableJoins = new ArrayList<>();
 		}
 		tableJoins.add( join );
+
+		if ( join.isOptional() ) {
+			if ( unreferencedOptionalTableJoins == null ) {
+				unreferencedOptionalTableJoins = new HashSet<>();
+			}
+			unreferencedOptionalTableJoins.add( join );
+		}
 	}
 }
@@ -23,6 +23,13 @@ public interface TableGroup {
 	TableBinding getRootTableBinding();
 	List<TableJoin> getTableJoins();
 
+	/**
+	 * The subset of {@link #getTableJoins()} which needs to be rendered: all joins which
+	 * are not {@link TableJoin#isOptional() optional}, plus the optional joins to tables
+	 * whose columns have been referenced (resolved) through this group.
+	 */
+	List<TableJoin> getRequiredTableJoins();
+
 	ColumnBinding[] resolveBindings(SingularAttributeImplementor attribute);
 	AttributeReference resolve(SingularAttributeImplementor attribute);
 
@@ -19,11 +19,22 @@ public class TableJoin {
 	private final JoinType joinType;
 	private final TableBinding joinedTableBinding;
 	private final Predicate predicate;
+	private final boolean optional;
 
 	public TableJoin(JoinType joinType, TableBinding joinedTableBinding, Predicate predicate) {
+		this( joinType, joinedTableBinding, predicate, false );
+	}
+
+	/**
+	 * @param optional Whether the join may be omitted from the SQL if none of the joined
+	 * table's columns are referenced.  That is the case for outer joins on the table's
+	 * primary key, such as joins to subclass tables and optional secondary tables.
+	 */
+	public TableJoin(JoinType joinType, TableBinding joinedTableBinding, Predicate predicate, boolean optional) {
 		this.joinType = joinType;
 		this.joinedTableBinding = joinedTableBinding;
 		this.predicate = predicate;
+		this.optional = optional;
 
 		if ( joinType == JoinType.CROSS ) {
 			if ( predicate != null ) {
@@ -43,4 +54,8 @@ public class TableJoin {
 	public Predicate getJoinPredicate() {
 		return predicate;
 	}
+
+	public boolean isOptional() {
+		return optional;
+	}
 }
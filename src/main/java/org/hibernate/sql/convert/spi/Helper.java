@@ -7,10 +7,12 @@
 package org.hibernate.sql.convert.spi;
 
 import org.hibernate.QueryException;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.persister.common.internal.DomainMetamodelImpl;
 import org.hibernate.persister.common.spi.SingularAttributeImplementor;
 import org.hibernate.persister.entity.spi.ImprovedEntityPersister;
+import org.hibernate.query.proposed.QueryOptions;
 import org.hibernate.query.proposed.spi.QueryParameterBinding;
 import org.hibernate.query.proposed.spi.QueryParameterBindings;
 import org.hibernate.sql.ast.expression.NamedParameter;
@@ -54,6 +56,38 @@ public class Helper {
 		throw new QueryException( "Unable to determine Type for positional parameter [?" + parameter.getPosition() + "]" );
 	}
 
+	/**
+	 * Determine the number of values a multi-valued parameter binding is rendered as.
+	 * With padding, the cardinality is rounded up to the next power of two so that
+	 * IN lists of similar sizes share the same SQL (and query plan).
+	 *
+	 * @param cardinality The number of bound values
+	 * @param padding Whether IN-list padding is enabled
+	 *
+	 * @return The number of values to render
+	 */
+	public static int determineInListRenderedValueCount(int cardinality, boolean padding) {
+		if ( !padding || cardinality <= 1 ) {
+			return cardinality;
+		}
+		return Integer.highestOneBit( cardinality - 1 ) << 1;
+	}
+
+	/**
+	 * Build the RowSelection representation of the Limit defined by the given QueryOptions,
+	 * as understood by {@link org.hibernate.dialect.pagination.LimitHandler}.
+	 *
+	 * @param queryOptions The QueryOptions
+	 *
+	 * @return The RowSelection
+	 */
+	public static RowSelection toRowSelection(QueryOptions queryOptions) {
+		final RowSelection rowSelection = new RowSelection();
+		rowSelection.setFirstRow( queryOptions.getLimit().getFirstRow() );
+		rowSelection.setMaxRows( queryOptions.getLimit().getMaxRows() );
+		return rowSelection;
+	}
+
 	private Helper() {
 	}
 
@@ -268,6 +268,8 @@ public class SelectStatementInterpreter extends BaseSemanticQueryWalker {
 				);
 			}
 
+			// todo : populate QuerySpec group-by expressions and having restrictions once SQM models those clauses
+
 			return astQuerySpec;
 		}
 		finally {
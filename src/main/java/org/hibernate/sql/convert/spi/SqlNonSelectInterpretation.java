@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.convert.spi;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.sql.spi.ParameterBinder;
+
+/**
+ * The "compiled" form of a SQL AST INSERT, UPDATE or DELETE statement: the rendered SQL
+ * string and the ParameterBinders in JDBC bind order.  Immutable, and therefore safe to be
+ * kept by a (cached) query plan and reused across executions.
+ *
+ * @author Steve Ebersole
+ */
+@Incubating
+public class SqlNonSelectInterpretation {
+	private final String sql;
+	private final List<ParameterBinder> parameterBinders;
+
+	public SqlNonSelectInterpretation(String sql, List<ParameterBinder> parameterBinders) {
+		this.sql = sql;
+		this.parameterBinders = Collections.unmodifiableList( parameterBinders );
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	public List<ParameterBinder> getParameterBinders() {
+		return parameterBinders;
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.convert.spi;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.Incubating;
+import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.dialect.pagination.LimitHelper;
+import org.hibernate.dialect.pagination.NoopLimitHandler;
+import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.proposed.QueryOptions;
+import org.hibernate.query.proposed.spi.QueryParameterBinding;
+import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.sql.ast.expression.AbstractParameter;
+import org.hibernate.sql.spi.ParameterBinder;
+
+/**
+ * The "compiled" form of a SQL AST SELECT query: the rendered SQL string, the
+ * ParameterBinders in JDBC bind order and the Returns.  Immutable, and therefore
+ * safe to be kept by a (cached) query plan and reused across executions.
+ * <p/>
+ * The rendered SQL depends on the column span of each parameter's bind Type and on
+ * the number of values bound to multi-valued parameters, which are only known from
+ * the parameter bindings in effect when the interpretation was produced.
+ * {@link #isCompatibleWith} checks whether a later set of bindings would render the
+ * same SQL.
+ * <p/>
+ * Any limit (first-row/max-rows) is applied through the Dialect's {@link LimitHandler};
+ * see {@link #bindLimitParametersAtStartOfQuery}, {@link #bindLimitParametersAtEndOfQuery},
+ * {@link #setMaxRows} and {@link #determineRowsToSkip} for applying the limit values to
+ * an execution.
+ *
+ * @author Steve Ebersole
+ */
+@Incubating
+public class SqlSelectInterpretation {
+	private final String sql;
+	private final LimitHandler limitHandler;
+	private final boolean limitSupported;
+	private final boolean hasFirstRow;
+	private final RowSelection renderedRowSelection;
+	private final List<ParameterBinder> parameterBinders;
+	private final List<Return> returns;
+
+	private final AbstractParameter[] renderedParameters;
+	private final int[] renderedParameterSpans;
+	private final int[] renderedParameterValueCounts;
+	private final boolean inClauseParameterPadding;
+
+	private final Comparator<Object> rowComparator;
+
+	public SqlSelectInterpretation(
+			String sql,
+			LimitHandler limitHandler,
+			boolean limitSupported,
+			boolean hasFirstRow,
+			RowSelection renderedRowSelection,
+			List<ParameterBinder> parameterBinders,
+			List<Return> returns,
+			AbstractParameter[] renderedParameters,
+			int[] renderedParameterSpans,
+			int[] renderedParameterValueCounts,
+			boolean inClauseParameterPadding,
+			Comparator<Object> rowComparator) {
+		assert renderedParameters.length == renderedParameterSpans.length;
+		assert renderedParameters.length == renderedParameterValueCounts.length;
+
+		this.sql = sql;
+		this.limitHandler = limitHandler;
+		this.limitSupported = limitSupported;
+		this.hasFirstRow = hasFirstRow;
+		this.renderedRowSelection = renderedRowSelection;
+		this.parameterBinders = Collections.unmodifiableList( parameterBinders );
+		this.returns = Collections.unmodifiableList( returns );
+		this.renderedParameters = renderedParameters;
+		this.renderedParameterSpans = renderedParameterSpans;
+		this.renderedParameterValueCounts = renderedParameterValueCounts;
+		this.inClauseParameterPadding = inClauseParameterPadding;
+		this.rowComparator = rowComparator;
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	public List<ParameterBinder> getParameterBinders() {
+		return parameterBinders;
+	}
+
+	public List<Return> getReturns() {
+		return returns;
+	}
+
+	/**
+	 * A Comparator reproducing the query's ORDER BY over its result rows (the selected
+	 * values), or {@code null} if the query is not ordered or the ordering cannot be
+	 * reproduced exactly in terms of the selected values (see {@link org.hibernate.sql.exec.internal.RowComparator}).
+	 */
+	public Comparator<Object> getRowComparator() {
+		return rowComparator;
+	}
+
+	public int bindLimitParametersAtStartOfQuery(QueryOptions queryOptions, PreparedStatement statement, int position)
+			throws SQLException {
+		return limitHandler.bindLimitParametersAtStartOfQuery( Helper.toRowSelection( queryOptions ), statement, position );
+	}
+
+	public int bindLimitParametersAtEndOfQuery(QueryOptions queryOptions, PreparedStatement statement, int position)
+			throws SQLException {
+		return limitHandler.bindLimitParametersAtEndOfQuery( Helper.toRowSelection( queryOptions ), statement, position );
+	}
+
+	/**
+	 * Applies {@link PreparedStatement#setMaxRows} if the limit could not be applied
+	 * to the SQL itself.
+	 */
+	public void setMaxRows(QueryOptions queryOptions, PreparedStatement statement) throws SQLException {
+		limitHandler.setMaxRows( Helper.toRowSelection( queryOptions ), statement );
+	}
+
+	/**
+	 * The number of leading rows of the ResultSet to be skipped because the first-row
+	 * could not be applied to the SQL itself.
+	 */
+	public int determineRowsToSkip(QueryOptions queryOptions) {
+		final RowSelection rowSelection = Helper.toRowSelection( queryOptions );
+		if ( LimitHelper.useLimit( limitHandler, rowSelection ) && limitHandler.supportsLimitOffset() ) {
+			return 0;
+		}
+		return LimitHelper.getFirstRow( rowSelection );
+	}
+
+	/**
+	 * Would rendering the SQL AST against the given options and bindings produce the
+	 * same SQL as this interpretation?  That is the case as long as:<ul>
+	 *     <li>the limit is applied the same way (the limit values only matter if the Dialect renders them as literals)</li>
+	 *     <li>the bind Type of each parameter still spans the same number of columns</li>
+	 *     <li>each multi-valued binding is still rendered as the same number of values</li>
+	 * </ul>
+	 *
+	 * @param queryOptions The options for the execution about to happen
+	 * @param parameterBindings The bindings for the execution about to happen
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @return {@code true} if this interpretation can be reused for the options and bindings
+	 */
+	public boolean isCompatibleWith(
+			QueryOptions queryOptions,
+			QueryParameterBindings parameterBindings,
+			SessionFactoryImplementor sessionFactory) {
+		final RowSelection rowSelection = Helper.toRowSelection( queryOptions );
+		final boolean useLimit = limitSupported && LimitHelper.hasMaxRows( rowSelection );
+		// the Dialect's LimitHandler is only kept if the limit was applied to the SQL
+		if ( useLimit != ( limitHandler != NoopLimitHandler.INSTANCE ) ) {
+			return false;
+		}
+		if ( useLimit ) {
+			if ( hasFirstRow != LimitHelper.hasFirstRow( rowSelection ) ) {
+				return false;
+			}
+			if ( renderedRowSelection != null
+					&& ( !Objects.equals( renderedRowSelection.getFirstRow(), rowSelection.getFirstRow() )
+					|| !Objects.equals( renderedRowSelection.getMaxRows(), rowSelection.getMaxRows() ) ) ) {
+				return false;
+			}
+		}
+
+		for ( int i = 0; i < renderedParameters.length; i++ ) {
+			final int columnSpan = renderedParameters[i].resolveBindType( parameterBindings ).getColumnSpan( sessionFactory );
+			if ( columnSpan != renderedParameterSpans[i] ) {
+				return false;
+			}
+
+			final QueryParameterBinding binding = renderedParameters[i].resolveBinding( parameterBindings );
+			final int valueCount = binding != null && binding.isMultiValued()
+					? Helper.determineInListRenderedValueCount( binding.getBindValues().size(), inClauseParameterPadding )
+					: -1;
+			if ( valueCount != renderedParameterValueCounts[i] ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
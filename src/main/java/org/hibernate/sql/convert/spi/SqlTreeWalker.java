@@ -6,18 +6,33 @@
  */
 package org.hibernate.sql.convert.spi;
 
+import java.time.Duration;
+import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.UUID;
 
+import org.hibernate.NullPrecedence;
 import org.hibernate.QueryException;
+import org.hibernate.dialect.pagination.AbstractLimitHandler;
+import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.dialect.pagination.LimitHelper;
+import org.hibernate.dialect.pagination.NoopLimitHandler;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.proposed.LiteralHandlingMode;
+import org.hibernate.query.proposed.QueryOptions;
+import org.hibernate.query.proposed.spi.QueryParameterBinding;
 import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.query.proposed.spi.ResolvedQuerySettings;
 import org.hibernate.sql.convert.internal.DomainReferenceRendererSelectionImpl;
 import org.hibernate.sql.convert.internal.DomainReferenceRendererStandardImpl;
 import org.hibernate.sql.spi.ParameterBinder;
 import org.hibernate.sql.ast.QuerySpec;
 import org.hibernate.sql.ast.SelectQuery;
+import org.hibernate.sql.ast.expression.AbstractParameter;
 import org.hibernate.sql.ast.expression.AttributeReference;
 import org.hibernate.sql.ast.expression.AvgFunction;
 import org.hibernate.sql.ast.expression.BinaryArithmeticExpression;
@@ -61,7 +76,10 @@ import org.hibernate.sql.ast.predicate.Predicate;
 import org.hibernate.sql.ast.predicate.RelationalPredicate;
 import org.hibernate.sql.ast.select.SelectClause;
 import org.hibernate.sql.ast.select.Selection;
+import org.hibernate.sql.ast.sort.SortSpecification;
+import org.hibernate.sql.exec.internal.RowComparator;
 import org.hibernate.sql.exec.results.spi.ReturnReader;
+import org.hibernate.sqm.query.order.SortOrder;
 import org.hibernate.type.LiteralType;
 import org.hibernate.type.Type;
 
@@ -73,24 +91,159 @@ import org.jboss.logging.Logger;
 public class SqlTreeWalker implements DomainReferenceRenderer.RenderingContext {
 	private static final Logger log = Logger.getLogger( SqlTreeWalker.class );
 
+	/**
+	 * Main entry point into SQL AST rendering
+	 *
+	 * @param selectQuery The SQL AST to render
+	 * @param sessionFactory The SessionFactory
+	 * @param queryOptions The options (limit) in effect for the rendering
+	 * @param parameterBindings The parameter bindings in effect for the rendering
+	 *
+	 * @return The rendered (and reusable) interpretation
+	 */
+	public static SqlSelectInterpretation interpret(
+			SelectQuery selectQuery,
+			SessionFactoryImplementor sessionFactory,
+			QueryOptions queryOptions,
+			QueryParameterBindings parameterBindings) {
+		if ( !ResolvedQuerySettings.from( sessionFactory ).isSqlTreeWalkerPoolingEnabled() ) {
+			final SqlTreeWalker walker = new SqlTreeWalker(
+					sessionFactory,
+					parameterBindings,
+					estimateSqlLength( selectQuery )
+			);
+			walker.visitSelectQuery( selectQuery );
+			return walker.toInterpretation( queryOptions );
+		}
+
+		// the pooled walker is taken out of the pool while in use, so that a nested rendering
+		// gets a walker of its own; a walker whose rendering failed is simply not returned
+		SqlTreeWalker walker = POOLED_WALKER.get();
+		if ( walker == null ) {
+			walker = new SqlTreeWalker( sessionFactory, parameterBindings, estimateSqlLength( selectQuery ) );
+		}
+		else {
+			POOLED_WALKER.remove();
+			walker.reset( sessionFactory, parameterBindings, estimateSqlLength( selectQuery ) );
+		}
+
+		walker.visitSelectQuery( selectQuery );
+		final SqlSelectInterpretation interpretation = walker.toInterpretation( queryOptions );
+
+		walker.release();
+		POOLED_WALKER.set( walker );
+
+		return interpretation;
+	}
+
+	// see QuerySettings#POOL_SQL_TREE_WALKERS
+	private static final ThreadLocal<SqlTreeWalker> POOLED_WALKER = new ThreadLocal<>();
+
+	// a pooled walker does not hold on to a buffer grown beyond this (in chars)
+	private static final int MAX_POOLED_BUFFER_CAPACITY = 1 << 16;
+
+	/**
+	 * Roughly estimate the length of the SQL rendered for the given SQL AST, to size the
+	 * buffer it is rendered into up front rather than growing it (repeatedly) as it is
+	 * rendered.  Only the selected columns and the tables are accounted for.
+	 *
+	 * @param selectQuery The SQL AST
+	 *
+	 * @return The estimated length
+	 */
+	static int estimateSqlLength(SelectQuery selectQuery) {
+		final QuerySpec querySpec = selectQuery.getQuerySpec();
+
+		int length = 64;
+		for ( Selection selection : querySpec.getSelectClause().getSelections() ) {
+			final Expression selectExpression = selection.getSelectExpression();
+			final int columnCount = selectExpression instanceof AttributeReference
+					? ( (AttributeReference) selectExpression ).getColumnBindings().length
+					: 1;
+			// e.g. "p1_0.column_name, "
+			length += 24 * columnCount;
+		}
+		for ( TableSpace tableSpace : querySpec.getFromClause().getTableSpaces() ) {
+			// e.g. "table_name as p1_0" and "left outer join table_name as p2_0 on ..."
+			length += 32 + 64 * tableSpace.getJoinedTableGroups().size();
+		}
+		if ( querySpec.getWhereClauseRestrictions() != null ) {
+			length += 64;
+		}
+		return Math.min( length, MAX_POOLED_BUFFER_CAPACITY );
+	}
+
 	// pre-req state
-	private final SessionFactoryImplementor sessionFactory;
-	private final QueryParameterBindings parameterBindings;
+	private SessionFactoryImplementor sessionFactory;
+	private QueryParameterBindings parameterBindings;
 	private final boolean shallow = false; // for now always false, until Query#iterate support finalized
+	private boolean inClauseParameterPadding;
+	private LiteralHandlingMode literalHandlingMode;
 
 	// In-flight state
-	private final StringBuilder sqlBuffer = new StringBuilder();
+	private StringBuilder sqlBuffer;
 	private final List<ParameterBinder> parameterBinders = new ArrayList<>();
 	private final List<Return> returns = new ArrayList<>();
+	private final List<AbstractParameter> renderedParameters = new ArrayList<>();
+	private final List<Integer> renderedParameterSpans = new ArrayList<>();
+	private final List<Integer> renderedParameterValueCounts = new ArrayList<>();
+	private RowComparator rowComparator;
 
 	// rendering expressions often has to be done differently if it occurs in certain contexts
-	private final Stack<DomainReferenceRenderer> domainReferenceRendererStack = new Stack<>( new DomainReferenceRendererStandardImpl( this ) );
+	private Stack<DomainReferenceRenderer> domainReferenceRendererStack;
 	private boolean currentlyInPredicate;
 	private boolean currentlyInSelections;
 
 	public SqlTreeWalker(SessionFactoryImplementor sessionFactory, QueryParameterBindings parameterBindings) {
+		this( sessionFactory, parameterBindings, 16 );
+	}
+
+	private SqlTreeWalker(
+			SessionFactoryImplementor sessionFactory,
+			QueryParameterBindings parameterBindings,
+			int estimatedSqlLength) {
+		this.sqlBuffer = new StringBuilder( estimatedSqlLength );
+		reset( sessionFactory, parameterBindings, estimatedSqlLength );
+	}
+
+	private void reset(
+			SessionFactoryImplementor sessionFactory,
+			QueryParameterBindings parameterBindings,
+			int estimatedSqlLength) {
 		this.sessionFactory = sessionFactory;
 		this.parameterBindings = parameterBindings;
+		final ResolvedQuerySettings querySettings = ResolvedQuerySettings.from( sessionFactory );
+		this.inClauseParameterPadding = querySettings.isInClauseParameterPaddingEnabled();
+		this.literalHandlingMode = querySettings.getLiteralHandlingMode();
+
+		sqlBuffer.ensureCapacity( estimatedSqlLength );
+		domainReferenceRendererStack = new Stack<>( new DomainReferenceRendererStandardImpl( this ) );
+	}
+
+	/**
+	 * Clears the state of the completed rendering so that this walker can be pooled.  Everything
+	 * the SqlSelectInterpretation needs has been copied out of it by then.
+	 */
+	private void release() {
+		sessionFactory = null;
+		parameterBindings = null;
+
+		if ( sqlBuffer.capacity() > MAX_POOLED_BUFFER_CAPACITY ) {
+			sqlBuffer = new StringBuilder( MAX_POOLED_BUFFER_CAPACITY );
+		}
+		else {
+			sqlBuffer.setLength( 0 );
+		}
+		parameterBinders.clear();
+		returns.clear();
+		renderedParameters.clear();
+		renderedParameterSpans.clear();
+		renderedParameterValueCounts.clear();
+		rowComparator = null;
+		domainReferenceRendererStack = null;
+		currentSelectionProcessor = null;
+		currentlyInPredicate = false;
+		currentlyInSelections = false;
 	}
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -106,6 +259,48 @@ public class SqlTreeWalker implements DomainReferenceRenderer.RenderingContext {
 	}
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
+	private SqlSelectInterpretation toInterpretation(QueryOptions queryOptions) {
+		// apply the Dialect's limit handling the same way Loader does: the limit values
+		// themselves are bound as parameters (where the Dialect supports that) so that
+		// the SQL does not depend on them
+		final LimitHandler dialectLimitHandler = sessionFactory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getDialect()
+				.getLimitHandler();
+		final RowSelection rowSelection = Helper.toRowSelection( queryOptions );
+		final boolean useLimit = LimitHelper.useLimit( dialectLimitHandler, rowSelection );
+		final LimitHandler limitHandler = useLimit ? dialectLimitHandler : NoopLimitHandler.INSTANCE;
+
+		return new SqlSelectInterpretation(
+				limitHandler.processSql( getSql(), rowSelection ),
+				limitHandler,
+				dialectLimitHandler.supportsLimit(),
+				useLimit && LimitHelper.hasFirstRow( rowSelection ),
+				useLimit && !supportsVariableLimit( dialectLimitHandler ) ? rowSelection : null,
+				new ArrayList<>( parameterBinders ),
+				new ArrayList<>( returns ),
+				renderedParameters.toArray( new AbstractParameter[ renderedParameters.size() ] ),
+				toIntArray( renderedParameterSpans ),
+				toIntArray( renderedParameterValueCounts ),
+				inClauseParameterPadding,
+				rowComparator
+		);
+	}
+
+	private static boolean supportsVariableLimit(LimitHandler limitHandler) {
+		// LimitHandler does not expose this, assume the limit is rendered as literals
+		return limitHandler instanceof AbstractLimitHandler
+				&& ( (AbstractLimitHandler) limitHandler ).supportsVariableLimit();
+	}
+
+	private static int[] toIntArray(List<Integer> values) {
+		final int[] array = new int[ values.size() ];
+		for ( int i = 0; i < array.length; i++ ) {
+			array[i] = values.get( i );
+		}
+		return array;
+	}
+
 	private void appendSql(String fragment) {
 		sqlBuffer.append( fragment );
 	}
@@ -113,6 +308,53 @@ public class SqlTreeWalker implements DomainReferenceRenderer.RenderingContext {
 	public void visitSelectQuery(SelectQuery selectQuery) {
 		visitQuerySpec( selectQuery.getQuerySpec() );
 
+		if ( !selectQuery.getSortSpecifications().isEmpty() ) {
+			appendSql( " order by " );
+
+			String separator = "";
+			for ( SortSpecification sortSpecification : selectQuery.getSortSpecifications() ) {
+				appendSql( separator );
+				visitSortSpecification( sortSpecification );
+				separator = ", ";
+			}
+
+			rowComparator = RowComparator.from( selectQuery, sessionFactory );
+		}
+	}
+
+	public void visitSortSpecification(SortSpecification sortSpecification) {
+		final int expressionStart = sqlBuffer.length();
+		sortSpecification.getSortExpression().accept( this );
+
+		final NullPrecedence nullPrecedence = sessionFactory.getSessionFactoryOptions().getDefaultNullPrecedence();
+		if ( nullPrecedence != null && nullPrecedence != NullPrecedence.NONE ) {
+			// the Dialect knows how to render (or emulate) the null precedence
+			final String expression = sqlBuffer.substring( expressionStart );
+			sqlBuffer.setLength( expressionStart );
+			appendSql(
+					sessionFactory.getDialect().renderOrderByElement(
+							expression,
+							sortSpecification.getCollation() == null ? null : "collate " + sortSpecification.getCollation(),
+							sortSpecification.getSortOrder() == SortOrder.ASCENDING
+									? "asc"
+									: sortSpecification.getSortOrder() == SortOrder.DESCENDING ? "desc" : null,
+							nullPrecedence
+					)
+			);
+			return;
+		}
+
+		if ( sortSpecification.getCollation() != null ) {
+			appendSql( " collate " );
+			appendSql( sortSpecification.getCollation() );
+		}
+
+		if ( sortSpecification.getSortOrder() == SortOrder.ASCENDING ) {
+			appendSql( " asc" );
+		}
+		else if ( sortSpecification.getSortOrder() == SortOrder.DESCENDING ) {
+			appendSql( " desc" );
+		}
 	}
 
 	public void visitQuerySpec(QuerySpec querySpec) {
@@ -131,6 +373,30 @@ public class SqlTreeWalker implements DomainReferenceRenderer.RenderingContext {
 				currentlyInPredicate = wasPreviouslyInPredicate;
 			}
 		}
+
+		if ( !querySpec.getGroupByExpressions().isEmpty() ) {
+			appendSql( " group by " );
+
+			String separator = "";
+			for ( Expression groupByExpression : querySpec.getGroupByExpressions() ) {
+				appendSql( separator );
+				groupByExpression.accept( this );
+				separator = ", ";
+			}
+		}
+
+		if ( querySpec.getHavingClauseRestrictions() != null && !querySpec.getHavingClauseRestrictions().isEmpty() ) {
+			appendSql( " having " );
+
+			boolean wasPreviouslyInPredicate = currentlyInPredicate;
+			currentlyInPredicate = true;
+			try {
+				querySpec.getHavingClauseRestrictions().accept( this );
+			}
+			finally {
+				currentlyInPredicate = wasPreviouslyInPredicate;
+			}
+		}
 	}
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -237,7 +503,7 @@ public class SqlTreeWalker implements DomainReferenceRenderer.RenderingContext {
 	public void visitTableGroup(TableGroup tableGroup) {
 		visitTableBinding( tableGroup.getRootTableBinding() );
 
-		for ( TableJoin tableJoin : tableGroup.getTableJoins() ) {
+		for ( TableJoin tableJoin : tableGroup.getRequiredTableJoins() ) {
 			appendSql( " " );
 			appendSql( tableJoin.getJoinType().getText() );
 			appendSql( " join " );
@@ -250,7 +516,9 @@ public class SqlTreeWalker implements DomainReferenceRenderer.RenderingContext {
 	}
 
 	public void visitTableBinding(TableBinding tableBinding) {
-		appendSql( tableBinding.getTable().getTableExpression() + " as " + tableBinding.getIdentificationVariable() );
+		appendSql( tableBinding.getTable().getTableExpression() );
+		appendSql( " as " );
+		appendSql( tableBinding.getIdentificationVariable() );
 	}
 
 
@@ -266,7 +534,7 @@ public class SqlTreeWalker implements DomainReferenceRenderer.RenderingContext {
 	}
 
 	private void visitColumnBinding(ColumnBinding columnBinding) {
-		appendSql( columnBinding.getColumn().render( columnBinding.getIdentificationVariable() ) );
+		columnBinding.getColumn().render( columnBinding.getIdentificationVariable(), sqlBuffer );
 	}
 
 	public void visitAvgFunction(AvgFunction avgFunction) {
@@ -385,13 +653,52 @@ public class SqlTreeWalker implements DomainReferenceRenderer.RenderingContext {
 	}
 
 	public void visitNamedParameter(NamedParameter namedParameter) {
-		parameterBinders.add( namedParameter.getParameterBinder() );
+		visitParameter( namedParameter );
+	}
 
-		final Type type = Helper.resolveType( namedParameter, parameterBindings );
+	private void visitParameter(AbstractParameter parameter) {
+		final Type type = parameter.resolveBindType( parameterBindings );
 
 		final int columnCount = type.getColumnSpan( sessionFactory );
 		final boolean needsParens = currentlyInPredicate && columnCount > 1;
 
+		final QueryParameterBinding binding = parameter.resolveBinding( parameterBindings );
+		if ( binding != null && binding.isMultiValued() ) {
+			// each value is rendered separately; with padding the number of values is
+			// rounded up to limit the number of distinct SQL strings
+			final int valueCount = Helper.determineInListRenderedValueCount(
+					binding.getBindValues().size(),
+					inClauseParameterPadding
+			);
+
+			parameterBinders.add( parameter.getMultiValuedParameterBinder( valueCount, type, sessionFactory ) );
+			renderedParameters.add( parameter );
+			renderedParameterSpans.add( columnCount );
+			renderedParameterValueCounts.add( valueCount );
+
+			if ( valueCount == 0 ) {
+				appendSql( "null" );
+				return;
+			}
+
+			String separator = "";
+			for ( int i = 0; i < valueCount; i++ ) {
+				appendSql( separator );
+				renderParameterPlaceholders( columnCount, needsParens );
+				separator = ", ";
+			}
+			return;
+		}
+
+		parameterBinders.add( parameter.getParameterBinder( type, sessionFactory ) );
+		renderedParameters.add( parameter );
+		renderedParameterSpans.add( columnCount );
+		renderedParameterValueCounts.add( -1 );
+
+		renderParameterPlaceholders( columnCount, needsParens );
+	}
+
+	private void renderParameterPlaceholders(int columnCount, boolean needsParens) {
 		if ( needsParens ) {
 			appendSql( "(" );
 		}
@@ -432,31 +739,11 @@ public class SqlTreeWalker implements DomainReferenceRenderer.RenderingContext {
 	}
 
 	public void visitPositionalParameter(PositionalParameter positionalParameter) {
-		parameterBinders.add( positionalParameter.getParameterBinder() );
-
-		final Type type = Helper.resolveType( positionalParameter, parameterBindings );
-
-		final int columnCount = type.getColumnSpan( sessionFactory );
-		final boolean needsParens = currentlyInPredicate && columnCount > 1;
-
-		if ( needsParens ) {
-			appendSql( "(" );
-		}
-
-		String separator = "";
-		for ( int i = 0; i < columnCount; i++ ) {
-			appendSql( separator );
-			appendSql( "?" );
-			separator = ", ";
-		}
-
-		if ( needsParens ) {
-			appendSql( ")" );
-		}
+		visitParameter( positionalParameter );
 	}
 
 	public void visitQueryLiteral(QueryLiteral queryLiteral) {
-		if ( !currentlyInSelections ) {
+		if ( !currentlyInSelections && !shouldRenderInline( queryLiteral ) ) {
 			// handle literals via parameter binding if they occur outside the select
 			parameterBinders.add( queryLiteral );
 
@@ -500,6 +787,39 @@ public class SqlTreeWalker implements DomainReferenceRenderer.RenderingContext {
 		}
 	}
 
+	private boolean shouldRenderInline(QueryLiteral queryLiteral) {
+		if ( literalHandlingMode == LiteralHandlingMode.BIND ) {
+			return false;
+		}
+		final Object value = queryLiteral.getValue();
+		if ( value == null
+				|| !( queryLiteral.getType() instanceof LiteralType )
+				|| queryLiteral.getType().getColumnSpan( sessionFactory ) != 1 ) {
+			return false;
+		}
+
+		// only values whose SQL rendering cannot contain anything but the constant itself;
+		// enum constants render as their ordinal or (quoted) Java identifier name.  Character
+		// values are always bound: LiteralType does not escape them, nor does the Dialect offer to
+		if ( value instanceof Double || value instanceof Float ) {
+			// NaN and infinity have no SQL literal form
+			final double doubleValue = ( (Number) value ).doubleValue();
+			return !Double.isNaN( doubleValue ) && !Double.isInfinite( doubleValue );
+		}
+		if ( value instanceof Number
+				|| value instanceof Boolean
+				|| value instanceof Enum ) {
+			return true;
+		}
+
+		// INLINE : also the values LiteralType renders in a fixed (quoted or JDBC escape) format
+		return literalHandlingMode == LiteralHandlingMode.INLINE
+				&& ( value instanceof Date
+						|| value instanceof TemporalAccessor
+						|| value instanceof Duration
+						|| value instanceof UUID );
+	}
+
 	public void visitSumFunction(SumFunction sumFunction) {
 		appendSql( "sum(" );
 		if ( sumFunction.isDistinct() ) {
@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.RandomAccess;
+
+/**
+ * Base support for result Lists of a single numeric selection which store the values
+ * in a primitive array rather than as boxed objects, boxing them only as they are
+ * accessed.  Null values are tracked separately.
+ *
+ * @author Steve Ebersole
+ */
+public abstract class AbstractPrimitiveResultList<E> extends AbstractList<E> implements RandomAccess {
+	private int size;
+	private BitSet nulls;
+
+	/**
+	 * The current capacity of the backing array
+	 */
+	protected abstract int capacity();
+
+	/**
+	 * Grow the backing array to (at least) the given capacity
+	 */
+	protected abstract void grow(int minCapacity);
+
+	/**
+	 * Move the values stored at {@code from} (onward) to {@code to}
+	 */
+	protected abstract void shift(int from, int to, int count);
+
+	protected abstract E getValue(int index);
+
+	protected abstract void setValue(int index, E value);
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public E get(int index) {
+		return isNullAt( index ) ? null : getValue( index );
+	}
+
+	@Override
+	public E set(int index, E element) {
+		checkIndex( index, size );
+		final E previous = get( index );
+		store( index, element );
+		return previous;
+	}
+
+	@Override
+	public void add(int index, E element) {
+		checkIndex( index, size + 1 );
+		if ( size == capacity() ) {
+			grow( size + 1 );
+		}
+		if ( index < size ) {
+			shift( index, index + 1, size - index );
+			shiftNulls( index, 1 );
+		}
+		size++;
+		modCount++;
+		store( index, element );
+	}
+
+	@Override
+	public E remove(int index) {
+		checkIndex( index, size );
+		final E previous = get( index );
+		shift( index + 1, index, size - index - 1 );
+		shiftNulls( index + 1, -1 );
+		size--;
+		modCount++;
+		if ( nulls != null ) {
+			nulls.clear( size );
+		}
+		return previous;
+	}
+
+	/**
+	 * Add a slot for a (non-null) value at the end of the List.
+	 *
+	 * @return The index of the added slot
+	 */
+	protected int addSlot() {
+		if ( size == capacity() ) {
+			grow( size + 1 );
+		}
+		modCount++;
+		return size++;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		nulls = null;
+		modCount++;
+	}
+
+	private void store(int index, E element) {
+		if ( element == null ) {
+			if ( nulls == null ) {
+				nulls = new BitSet();
+			}
+			nulls.set( index );
+		}
+		else {
+			if ( nulls != null ) {
+				nulls.clear( index );
+			}
+			setValue( index, element );
+		}
+	}
+
+	/**
+	 * Whether the value at the given index is null, allowing subclasses to access the
+	 * primitive value without boxing it.
+	 *
+	 * @throws IndexOutOfBoundsException if the index is not within the List
+	 */
+	protected boolean isNullAt(int index) {
+		checkIndex( index, size );
+		return nulls != null && nulls.get( index );
+	}
+
+	private void shiftNulls(int from, int distance) {
+		if ( nulls == null ) {
+			return;
+		}
+		final BitSet shifted = nulls.get( 0, from + Math.min( distance, 0 ) );
+		for ( int i = nulls.nextSetBit( from ); i >= 0; i = nulls.nextSetBit( i + 1 ) ) {
+			shifted.set( i + distance );
+		}
+		nulls = shifted;
+	}
+
+	private static void checkIndex(int index, int bound) {
+		if ( index < 0 || index >= bound ) {
+			throw new IndexOutOfBoundsException( "Index: " + index + ", Size: " + bound );
+		}
+	}
+
+	protected static int newCapacity(int capacity, int minCapacity) {
+		return Math.max( capacity + ( capacity >> 1 ) + 1, minCapacity );
+	}
+}
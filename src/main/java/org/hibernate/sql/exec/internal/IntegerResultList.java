@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.util.Arrays;
+
+/**
+ * Result List for a single {@link Integer} selection, backed by a {@code int[]}.
+ *
+ * @author Steve Ebersole
+ */
+public class IntegerResultList extends AbstractPrimitiveResultList<Integer> {
+	private int[] values;
+
+	public IntegerResultList(int initialCapacity) {
+		this.values = new int[ initialCapacity ];
+	}
+
+	/**
+	 * Access to the value at the given index without boxing it.  Returns {@code 0}
+	 * for a null value.
+	 */
+	public int getIntegerValue(int index) {
+		return isNullAt( index ) ? 0 : values[index];
+	}
+
+	/**
+	 * Add a (non-null) value to the end of the List without boxing it.
+	 */
+	public void addInt(int value) {
+		// the slot has to be added before the (possibly grown) array is dereferenced
+		final int index = addSlot();
+		values[index] = value;
+	}
+
+	@Override
+	protected int capacity() {
+		return values.length;
+	}
+
+	@Override
+	protected void grow(int minCapacity) {
+		values = Arrays.copyOf( values, newCapacity( values.length, minCapacity ) );
+	}
+
+	@Override
+	protected void shift(int from, int to, int count) {
+		System.arraycopy( values, from, values, to, count );
+	}
+
+	@Override
+	protected Integer getValue(int index) {
+		return values[index];
+	}
+
+	@Override
+	protected void setValue(int index, Integer value) {
+		values[index] = value;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.proposed.QueryOptions;
+import org.hibernate.query.proposed.spi.CloseableIterator;
+import org.hibernate.sql.convert.spi.Return;
+import org.hibernate.sql.exec.spi.PreparedStatementCache;
+import org.hibernate.sql.exec.spi.PreparedStatementExecutor;
+import org.hibernate.sql.exec.spi.RowTransformer;
+
+/**
+ * PreparedStatement execution for Query#iterate, which:<ol>
+ *     <li>calls {@link PreparedStatement#executeQuery()}</li>
+ *     <li>returns an Iterator reading (and transforming) the rows of the ResultSet one at a time</li>
+ * </ol>
+ * The JDBC resources are released once the Iterator is exhausted or closed.
+ * <p/>
+ * Rows are never read into a reused array here: Iterator consumers (merging the results of
+ * several queries for example) may hold on to a result after moving to the next one.
+ *
+ * @author Steve Ebersole
+ */
+public class PreparedStatementExecutorIteratorImpl<T> implements PreparedStatementExecutor<CloseableIterator<T>, T> {
+	/**
+	 * Singleton access
+	 */
+	public static final PreparedStatementExecutorIteratorImpl INSTANCE = new PreparedStatementExecutorIteratorImpl();
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public CloseableIterator<T> execute(
+			PreparedStatement ps,
+			PreparedStatementCache statementCache,
+			QueryOptions queryOptions,
+			int rowsToSkip,
+			List<Return> returns,
+			RowTransformer<T> rowTransformer,
+			SharedSessionContractImplementor session) throws SQLException {
+		return new ResultsIterator<>(
+				PreparedStatementExecutorScrollableImpl.INSTANCE.executeForwardOnly(
+						ps,
+						statementCache,
+						queryOptions,
+						rowsToSkip,
+						returns,
+						rowTransformer,
+						false,
+						session
+				)
+		);
+	}
+
+	private static class ResultsIterator<T> implements CloseableIterator<T> {
+		private final ScrollableResultsForwardOnlyImpl<T> scrollableResults;
+
+		private boolean advanced;
+		private boolean hasNext;
+
+		private ResultsIterator(ScrollableResultsForwardOnlyImpl<T> scrollableResults) {
+			this.scrollableResults = scrollableResults;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if ( !advanced ) {
+				if ( scrollableResults.isClosed() ) {
+					return false;
+				}
+				hasNext = scrollableResults.next();
+				advanced = true;
+				if ( !hasNext ) {
+					// release the JDBC resources as soon as the results are exhausted
+					close();
+				}
+			}
+			return hasNext;
+		}
+
+		@Override
+		public T next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			advanced = false;
+			return scrollableResults.getCurrentResult();
+		}
+
+		@Override
+		public void close() {
+			hasNext = false;
+			advanced = true;
+			scrollableResults.close();
+		}
+	}
+}
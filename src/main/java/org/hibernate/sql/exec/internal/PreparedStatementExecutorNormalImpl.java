@@ -6,7 +6,6 @@
  */
 package org.hibernate.sql.exec.internal;
 
-import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -15,13 +14,18 @@ import java.util.List;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.proposed.QueryOptions;
+import org.hibernate.query.proposed.QuerySettings;
+import org.hibernate.query.proposed.spi.ResolvedQuerySettings;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.sql.convert.spi.Return;
+import org.hibernate.sql.exec.results.internal.ResultSetProcessingOptionsStandardImpl;
 import org.hibernate.sql.exec.results.internal.ResultSetProcessingStateStandardImpl;
+import org.hibernate.sql.exec.results.internal.ReturnReaderScalarImpl;
 import org.hibernate.sql.exec.results.internal.RowReaderStandardImpl;
-import org.hibernate.sql.exec.results.spi.ResultSetProcessingOptions;
 import org.hibernate.sql.exec.results.spi.ResultSetProcessingState;
+import org.hibernate.sql.exec.results.spi.RowProcessingState;
 import org.hibernate.sql.exec.results.spi.RowReader;
+import org.hibernate.sql.exec.spi.PreparedStatementCache;
 import org.hibernate.sql.exec.spi.PreparedStatementExecutor;
 import org.hibernate.sql.exec.spi.RowTransformer;
 
@@ -30,6 +34,11 @@ import org.hibernate.sql.exec.spi.RowTransformer;
  *     <li>calls {@link PreparedStatement#executeQuery()}</li>
  *     <li>immediately reads all the rows in the ResultSet returning a List of the transformed results</li>
  * </ol>
+ * <p/>
+ * The List is sized up front from the query's max-rows, or else its fetch-size.  For a
+ * query selecting a single {@code Long} or {@code Integer} value the List can be backed
+ * by a primitive array instead (see {@link QuerySettings#PRIMITIVE_RESULT_LISTS}), the
+ * values then being read as primitives too.
  *
  * @author Steve Ebersole
  */
@@ -39,35 +48,18 @@ public class PreparedStatementExecutorNormalImpl<T> implements PreparedStatement
 	 */
 	public static final PreparedStatementExecutorNormalImpl INSTANCE = new PreparedStatementExecutorNormalImpl();
 
-	/**
-	 * Processing options effectively are only used for entity loading.  Here we don't need these values.
-	 */
-	private final ResultSetProcessingOptions processingOptions = new ResultSetProcessingOptions() {
-		@Override
-		public Object getEffectiveOptionalObject() {
-			return null;
-		}
+	private static final int DEFAULT_CAPACITY = 10;
 
-		@Override
-		public String getEffectiveOptionalEntityName() {
-			return null;
-		}
-
-		@Override
-		public Serializable getEffectiveOptionalId() {
-			return null;
-		}
-
-		@Override
-		public boolean shouldReturnProxies() {
-			return true;
-		}
-	};
+	// max-rows and fetch-size are only hints as to the number of results; do not let a
+	// large one allocate a huge, mostly unused List
+	private static final int MAX_INITIAL_CAPACITY = 1 << 12;
 
 	@Override
 	public List<T> execute(
 			PreparedStatement ps,
+			PreparedStatementCache statementCache,
 			QueryOptions queryOptions,
+			int rowsToSkip,
 			List<Return> returns,
 			RowTransformer<T> rowTransformer,
 			SharedSessionContractImplementor session) throws SQLException {
@@ -77,9 +69,8 @@ public class PreparedStatementExecutorNormalImpl<T> implements PreparedStatement
 		final ResultSet resultSet = ps.executeQuery();
 		logicalConnection.getResourceRegistry().register( resultSet, ps );
 
+		final List<T> results;
 		try {
-			int position = 1;
-
 			// Prepare the ResultSetProcessingState...
 			final ResultSetProcessingState resultSetProcessingState = new ResultSetProcessingStateStandardImpl(
 					resultSet,
@@ -90,19 +81,45 @@ public class PreparedStatementExecutorNormalImpl<T> implements PreparedStatement
 
 			final RowReader<T> rowReader = new RowReaderStandardImpl<T>( returns, rowTransformer );
 
-			final List<T> results = new ArrayList<T>();
 			final Integer maxRows = queryOptions.getLimit().getMaxRows();
+			results = makeResultList(
+					determineInitialCapacity( maxRows, queryOptions.getFetchSize() ),
+					returns,
+					rowTransformer,
+					session
+			);
+			// a primitive-backed List is filled by reading the value as a primitive
+			final ReturnReaderScalarImpl primitiveReader = results instanceof AbstractPrimitiveResultList
+					? (ReturnReaderScalarImpl) returns.get( 0 ).getReturnReader()
+					: null;
 
 			try {
-				while ( ( maxRows != null && position <= maxRows ) || resultSet.next() ) {
-					results.add(
-							rowReader.readRow(
-									resultSetProcessingState.getCurrentRowProcessingState(),
-									processingOptions
-							)
-					);
-
-					position++;
+				// skip the rows before first-row if the Dialect could not apply it to the SQL
+				for ( int i = 0; i < rowsToSkip; i++ ) {
+					if ( !resultSet.next() ) {
+						break;
+					}
+				}
+
+				// max-rows has already been applied to the SQL or the Statement; checking
+				// it here as well just guards against drivers which ignore Statement#setMaxRows
+				while ( ( maxRows == null || results.size() < maxRows ) && resultSet.next() ) {
+					if ( primitiveReader != null ) {
+						readPrimitiveResult(
+								results,
+								primitiveReader,
+								resultSetProcessingState.getCurrentRowProcessingState()
+						);
+					}
+					else {
+						results.add(
+								rowReader.readRow(
+										resultSetProcessingState.getCurrentRowProcessingState(),
+										ResultSetProcessingOptionsStandardImpl.INSTANCE
+								)
+						);
+					}
+
 					resultSetProcessingState.getCurrentRowProcessingState().finishRowProcessing();
 				}
 
@@ -111,12 +128,67 @@ public class PreparedStatementExecutorNormalImpl<T> implements PreparedStatement
 			finally {
 				resultSetProcessingState.release();
 			}
-
-			return results;
 		}
 		finally {
 			logicalConnection.getResourceRegistry().release( resultSet, ps );
-			logicalConnection.getResourceRegistry().release( ps );
 		}
+
+		statementCache.release( ps, session );
+		return results;
+	}
+
+	private static void readPrimitiveResult(
+			List results,
+			ReturnReaderScalarImpl returnReader,
+			RowProcessingState processingState) throws SQLException {
+		if ( results instanceof LongResultList ) {
+			final long value = returnReader.readLong( processingState );
+			if ( processingState.wasNull() ) {
+				results.add( null );
+			}
+			else {
+				( (LongResultList) results ).addLong( value );
+			}
+		}
+		else {
+			final int value = returnReader.readInt( processingState );
+			if ( processingState.wasNull() ) {
+				results.add( null );
+			}
+			else {
+				( (IntegerResultList) results ).addInt( value );
+			}
+		}
+	}
+
+	private static int determineInitialCapacity(Integer maxRows, Integer fetchSize) {
+		final Integer expectedRows = maxRows != null ? maxRows : fetchSize;
+		if ( expectedRows == null || expectedRows <= 0 ) {
+			return DEFAULT_CAPACITY;
+		}
+		return Math.min( expectedRows, MAX_INITIAL_CAPACITY );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> makeResultList(
+			int initialCapacity,
+			List<Return> returns,
+			RowTransformer<T> rowTransformer,
+			SharedSessionContractImplementor session) {
+		if ( returns.size() == 1
+				&& rowTransformer instanceof RowTransformerSingularReturnImpl
+				&& returns.get( 0 ).getReturnReader() instanceof ReturnReaderScalarImpl
+				&& returns.get( 0 ).getReturnReader().getNumberOfColumnsRead( session.getFactory() ) == 1
+				&& ResolvedQuerySettings.from( session.getFactory() ).isPrimitiveResultListsEnabled() ) {
+			final Class returnedJavaType = returns.get( 0 ).getReturnReader().getReturnedJavaType();
+			if ( returnedJavaType == Long.class || returnedJavaType == long.class ) {
+				return (List<T>) new LongResultList( initialCapacity );
+			}
+			if ( returnedJavaType == Integer.class || returnedJavaType == int.class ) {
+				return (List<T>) new IntegerResultList( initialCapacity );
+			}
+		}
+
+		return new ArrayList<T>( initialCapacity );
 	}
 }
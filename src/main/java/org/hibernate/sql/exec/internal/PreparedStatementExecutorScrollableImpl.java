@@ -14,9 +14,14 @@ import java.util.List;
 import org.hibernate.ScrollableResults;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.proposed.QueryOptions;
+import org.hibernate.query.proposed.QuerySettings;
+import org.hibernate.query.proposed.spi.ResolvedQuerySettings;
+import org.hibernate.query.proposed.spi.ScrollableResultsImplementor;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
-import org.hibernate.sql.convert.spi.NotYetImplementedException;
 import org.hibernate.sql.convert.spi.Return;
+import org.hibernate.sql.exec.results.internal.ResultSetProcessingStateStandardImpl;
+import org.hibernate.sql.exec.results.internal.RowReaderStandardImpl;
+import org.hibernate.sql.exec.spi.PreparedStatementCache;
 import org.hibernate.sql.exec.spi.PreparedStatementExecutor;
 import org.hibernate.sql.exec.spi.RowTransformer;
 
@@ -25,36 +30,71 @@ import org.hibernate.sql.exec.spi.RowTransformer;
  *     <li>calls {@link PreparedStatement#executeQuery()}</li>
  *     <li>uses the obtained ResultSet to build a ScrollableResults and returns that</li>
  * </ol>
+ * The ResultSet is left open, rows being read as the ScrollableResults is moved
+ * forward; closing the ScrollableResults releases the JDBC resources.  The number of rows
+ * fetched from the database at a time follows {@link QueryOptions#getFetchSize()}, as
+ * applied to the PreparedStatement.
+ * <p/>
+ * Rows are read into a single, reused array when {@link QuerySettings#REUSE_SCROLLED_ROWS}
+ * is enabled.
+ * <p/>
+ * The ScrollableResults is forward-only; other ScrollModes are rejected by the query plans.
  *
  * @author Steve Ebersole
  */
-public class PreparedStatementExecutorScrollableImpl<T> implements PreparedStatementExecutor<ScrollableResults, T> {
+public class PreparedStatementExecutorScrollableImpl<T> implements PreparedStatementExecutor<ScrollableResultsImplementor, T> {
 	/**
 	 * Singleton access
 	 */
 	public static final PreparedStatementExecutorScrollableImpl INSTANCE = new PreparedStatementExecutorScrollableImpl();
 
 	@Override
-	public ScrollableResults execute(
+	public ScrollableResultsImplementor execute(
 			PreparedStatement ps,
+			PreparedStatementCache statementCache,
 			QueryOptions queryOptions,
+			int rowsToSkip,
 			List<Return> returns,
 			RowTransformer<T> rowTransformer,
 			SharedSessionContractImplementor session) throws SQLException {
+		return executeForwardOnly(
+				ps,
+				statementCache,
+				queryOptions,
+				rowsToSkip,
+				returns,
+				rowTransformer,
+				ResolvedQuerySettings.from( session.getFactory() ).isReuseScrolledRowsEnabled(),
+				session
+		);
+	}
+
+	<R> ScrollableResultsForwardOnlyImpl<R> executeForwardOnly(
+			PreparedStatement ps,
+			PreparedStatementCache statementCache,
+			QueryOptions queryOptions,
+			int rowsToSkip,
+			List<Return> returns,
+			RowTransformer<R> rowTransformer,
+			boolean reuseRows,
+			SharedSessionContractImplementor session) throws SQLException {
 		final LogicalConnectionImplementor logicalConnection = session.getJdbcCoordinator().getLogicalConnection();
 
 		// Execute the query
 		final ResultSet resultSet = ps.executeQuery();
 		logicalConnection.getResourceRegistry().register( resultSet, ps );
 
-//		new ScrollableResultsImpl(
-//				resultSet,
-//				rowTransformer,
-//				new ScrollableRowReader(
-//						returns,
-//		...
-//		)
-//		);
-		throw new NotYetImplementedException();
+		return new ScrollableResultsForwardOnlyImpl<>(
+				resultSet,
+				ps,
+				statementCache,
+				new ResultSetProcessingStateStandardImpl( resultSet, queryOptions, returns, session ),
+				new RowReaderStandardImpl<>( returns, rowTransformer, reuseRows ),
+				returns,
+				rowsToSkip,
+				queryOptions.getLimit().getMaxRows(),
+				reuseRows,
+				session
+		);
 	}
 }
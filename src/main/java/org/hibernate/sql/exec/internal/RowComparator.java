@@ -0,0 +1,203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import org.hibernate.NullPrecedence;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.ast.SelectQuery;
+import org.hibernate.sql.ast.expression.AttributeReference;
+import org.hibernate.sql.ast.expression.ColumnBindingExpression;
+import org.hibernate.sql.ast.expression.Expression;
+import org.hibernate.sql.ast.from.ColumnBinding;
+import org.hibernate.sql.ast.select.Selection;
+import org.hibernate.sql.ast.sort.SortSpecification;
+import org.hibernate.sqm.query.order.SortOrder;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+
+/**
+ * Compares result rows the way the ORDER BY of the query they came from orders them,
+ * allowing the (individually ordered) results of several queries to be merged.
+ * <p/>
+ * Only possible when the database ordering can be reproduced exactly: every sort expression
+ * must also be selected, be of a basic type whose natural ordering matches the database's
+ * (numeric, temporal and boolean values - but not character values, whose ordering depends
+ * on the database collation), have no explicit collation, and the null precedence must be
+ * rendered explicitly (see {@link SessionFactoryImplementor#getSessionFactoryOptions()}
+ * {@code .getDefaultNullPrecedence()}) rather than being left to the database.
+ * <p/>
+ * A row is either the {@code Object[]} of selected values or, for a query with a single
+ * selection, that value itself.
+ *
+ * @author Steve Ebersole
+ */
+public class RowComparator implements Comparator<Object> {
+	/**
+	 * Builds the RowComparator for the given SQL AST.
+	 *
+	 * @param selectQuery The SQL AST
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @return The RowComparator, or {@code null} if the query is not ordered or its ordering
+	 * cannot be reproduced exactly
+	 */
+	public static RowComparator from(SelectQuery selectQuery, SessionFactoryImplementor sessionFactory) {
+		final List<SortSpecification> sortSpecifications = selectQuery.getSortSpecifications();
+		if ( sortSpecifications.isEmpty() ) {
+			return null;
+		}
+
+		// otherwise where nulls go is up to the database
+		final NullPrecedence nullPrecedence = sessionFactory.getSessionFactoryOptions().getDefaultNullPrecedence();
+		if ( nullPrecedence == null || nullPrecedence == NullPrecedence.NONE ) {
+			return null;
+		}
+
+		final List<Selection> selections = selectQuery.getQuerySpec().getSelectClause().getSelections();
+		final int[] positions = new int[ sortSpecifications.size() ];
+		final boolean[] descending = new boolean[ sortSpecifications.size() ];
+
+		for ( int i = 0; i < positions.length; i++ ) {
+			final SortSpecification sortSpecification = sortSpecifications.get( i );
+			if ( sortSpecification.getCollation() != null ) {
+				return null;
+			}
+			positions[i] = locateSelection( sortSpecification.getSortExpression(), selections );
+			if ( positions[i] < 0 ) {
+				return null;
+			}
+			if ( !isOrderedLikeDatabase( selections.get( positions[i] ).getSelectExpression().getType() ) ) {
+				return null;
+			}
+			descending[i] = sortSpecification.getSortOrder() == SortOrder.DESCENDING;
+		}
+
+		return new RowComparator( positions, descending, nullPrecedence == NullPrecedence.FIRST );
+	}
+
+	private static boolean isOrderedLikeDatabase(Type type) {
+		if ( !( type instanceof BasicType ) ) {
+			return false;
+		}
+		final Class javaType = type.getReturnedClass();
+		return Integer.class.equals( javaType )
+				|| Long.class.equals( javaType )
+				|| Short.class.equals( javaType )
+				|| Byte.class.equals( javaType )
+				|| BigInteger.class.equals( javaType )
+				|| BigDecimal.class.equals( javaType )
+				|| Double.class.equals( javaType )
+				|| Float.class.equals( javaType )
+				|| Boolean.class.equals( javaType )
+				|| Date.class.isAssignableFrom( javaType )
+				|| Calendar.class.isAssignableFrom( javaType );
+	}
+
+	private static int locateSelection(Expression sortExpression, List<Selection> selections) {
+		for ( int i = 0; i < selections.size(); i++ ) {
+			if ( isSameExpression( sortExpression, selections.get( i ).getSelectExpression() ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isSameExpression(Expression expression, Expression other) {
+		if ( expression == other ) {
+			return true;
+		}
+
+		if ( expression instanceof AttributeReference && other instanceof AttributeReference ) {
+			final AttributeReference reference = (AttributeReference) expression;
+			final AttributeReference otherReference = (AttributeReference) other;
+			return reference.getReferencedAttribute() == otherReference.getReferencedAttribute()
+					&& isSameColumnBindings( reference.getColumnBindings(), otherReference.getColumnBindings() );
+		}
+
+		if ( expression instanceof ColumnBindingExpression && other instanceof ColumnBindingExpression ) {
+			return isSameColumnBinding(
+					( (ColumnBindingExpression) expression ).getColumnBinding(),
+					( (ColumnBindingExpression) other ).getColumnBinding()
+			);
+		}
+
+		return false;
+	}
+
+	private static boolean isSameColumnBindings(ColumnBinding[] bindings, ColumnBinding[] otherBindings) {
+		if ( bindings.length != otherBindings.length ) {
+			return false;
+		}
+		for ( int i = 0; i < bindings.length; i++ ) {
+			if ( !isSameColumnBinding( bindings[i], otherBindings[i] ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isSameColumnBinding(ColumnBinding binding, ColumnBinding otherBinding) {
+		return binding.getColumn() == otherBinding.getColumn()
+				&& binding.getIdentificationVariable().equals( otherBinding.getIdentificationVariable() );
+	}
+
+	private final int[] positions;
+	private final boolean[] descending;
+	private final boolean nullsFirst;
+
+	private RowComparator(int[] positions, boolean[] descending, boolean nullsFirst) {
+		this.positions = positions;
+		this.descending = descending;
+		this.nullsFirst = nullsFirst;
+	}
+
+	@Override
+	public int compare(Object row, Object otherRow) {
+		for ( int i = 0; i < positions.length; i++ ) {
+			final int comparison = compareValues(
+					extractValue( row, positions[i] ),
+					extractValue( otherRow, positions[i] ),
+					descending[i]
+			);
+			if ( comparison != 0 ) {
+				return comparison;
+			}
+		}
+		return 0;
+	}
+
+	private static Object extractValue(Object row, int position) {
+		if ( row instanceof Object[] ) {
+			return ( (Object[]) row )[position];
+		}
+		assert position == 0;
+		return row;
+	}
+
+	@SuppressWarnings("unchecked")
+	private int compareValues(Object value, Object other, boolean descending) {
+		if ( value == other ) {
+			return 0;
+		}
+		// the null precedence applies regardless of the sort order
+		if ( value == null ) {
+			return nullsFirst ? -1 : 1;
+		}
+		if ( other == null ) {
+			return nullsFirst ? 1 : -1;
+		}
+		final int comparison = ( (Comparable) value ).compareTo( other );
+		return descending ? -comparison : comparison;
+	}
+}
@@ -22,4 +22,9 @@ public class RowTransformerSingularReturnImpl<R> implements RowTransformer<R> {
 	public R transformRow(Object[] row) {
 		return (R) row[0];
 	}
+
+	@Override
+	public boolean retainsRow() {
+		return false;
+	}
 }
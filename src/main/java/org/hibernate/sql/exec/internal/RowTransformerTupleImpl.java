@@ -16,15 +16,15 @@ import org.hibernate.sql.exec.spi.RowTransformer;
  * @author Steve Ebersole
  */
 public class RowTransformerTupleImpl implements RowTransformer<Tuple> {
-	private final List<TupleElement<?>> tupleElements;
+	private final TupleMetadata tupleMetadata;
 
 	public RowTransformerTupleImpl(List<TupleElement<?>> tupleElements) {
-		this.tupleElements = tupleElements;
+		this.tupleMetadata = new TupleMetadata( tupleElements );
 	}
 
 	@Override
 	public Tuple transformRow(Object[] row) {
-		return new TupleImpl( tupleElements, row );
+		return new TupleImpl( tupleMetadata, row );
 	}
 
 }
@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.proposed.internal.AbstractForwardOnlyScrollableResults;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.convert.spi.Return;
+import org.hibernate.sql.exec.results.internal.ResultSetProcessingOptionsStandardImpl;
+import org.hibernate.sql.exec.results.internal.ReturnReaderScalarImpl;
+import org.hibernate.sql.exec.results.spi.ResultSetProcessingState;
+import org.hibernate.sql.exec.results.spi.RowReader;
+import org.hibernate.sql.exec.spi.PreparedStatementCache;
+import org.hibernate.type.Type;
+
+/**
+ * ScrollableResults reading the rows of an open ResultSet one at a time, as they are
+ * asked for; only the current row is held in memory.  The ResultSet and its
+ * PreparedStatement are released when the ScrollableResults is closed.
+ * <p/>
+ * As with Query#scroll in general, a row which a RowTransformer transforms into
+ * something other than an {@code Object[]} is exposed as a single-valued row.
+ * <p/>
+ * When asked to reuse rows, the same row array is exposed for every row (see
+ * {@link org.hibernate.query.proposed.QuerySettings#REUSE_SCROLLED_ROWS}).
+ *
+ * @author Steve Ebersole
+ */
+public class ScrollableResultsForwardOnlyImpl<T> extends AbstractForwardOnlyScrollableResults {
+	private final ResultSet resultSet;
+	private final PreparedStatement ps;
+	private final PreparedStatementCache statementCache;
+	private final ResultSetProcessingState resultSetProcessingState;
+	private final RowReader<T> rowReader;
+	private final SharedSessionContractImplementor session;
+	private final Type[] types;
+	private final Object[] singleValueRow;
+
+	private int rowsToSkip;
+	private final Integer maxRows;
+	private int rowsRead;
+
+	private T currentResult;
+	private Object[] currentRow;
+
+	public ScrollableResultsForwardOnlyImpl(
+			ResultSet resultSet,
+			PreparedStatement ps,
+			PreparedStatementCache statementCache,
+			ResultSetProcessingState resultSetProcessingState,
+			RowReader<T> rowReader,
+			List<Return> returns,
+			int rowsToSkip,
+			Integer maxRows,
+			boolean reuseRows,
+			SharedSessionContractImplementor session) {
+		this.resultSet = resultSet;
+		this.ps = ps;
+		this.statementCache = statementCache;
+		this.resultSetProcessingState = resultSetProcessingState;
+		this.rowReader = rowReader;
+		this.session = session;
+		this.rowsToSkip = rowsToSkip;
+		this.maxRows = maxRows;
+		this.types = resolveTypes( returns );
+		this.singleValueRow = reuseRows ? new Object[1] : null;
+	}
+
+	private static Type[] resolveTypes(List<Return> returns) {
+		final Type[] types = new Type[ returns.size() ];
+		for ( int i = 0; i < types.length; i++ ) {
+			// todo : other ReturnReaders (dynamic instantiations) do not expose a Type
+			if ( returns.get( i ).getReturnReader() instanceof ReturnReaderScalarImpl ) {
+				types[i] = ( (ReturnReaderScalarImpl) returns.get( i ).getReturnReader() ).getReturnType();
+			}
+		}
+		return types;
+	}
+
+	@Override
+	protected boolean advance() {
+		try {
+			// skip the rows before first-row if the Dialect could not apply it to the SQL
+			while ( rowsToSkip > 0 ) {
+				rowsToSkip--;
+				if ( !resultSet.next() ) {
+					rowsToSkip = 0;
+					return false;
+				}
+			}
+
+			if ( maxRows != null && rowsRead >= maxRows ) {
+				return false;
+			}
+
+			if ( !resultSet.next() ) {
+				currentResult = null;
+				currentRow = null;
+				return false;
+			}
+
+			final T result = rowReader.readRow(
+					resultSetProcessingState.getCurrentRowProcessingState(),
+					ResultSetProcessingOptionsStandardImpl.INSTANCE
+			);
+			resultSetProcessingState.getCurrentRowProcessingState().finishRowProcessing();
+			rowsRead++;
+
+			currentResult = result;
+			currentRow = result instanceof Object[] ? (Object[]) result : toSingleValueRow( result );
+			return true;
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Unable to read next row from ScrollableResults"
+			);
+		}
+	}
+
+	private Object[] toSingleValueRow(T result) {
+		if ( singleValueRow == null ) {
+			return new Object[] { result };
+		}
+		singleValueRow[0] = result;
+		return singleValueRow;
+	}
+
+	@Override
+	protected Object[] getCurrentRow() {
+		return currentRow;
+	}
+
+	/**
+	 * The current row as produced by the RowTransformer
+	 */
+	public T getCurrentResult() {
+		return currentResult;
+	}
+
+	@Override
+	protected void release() {
+		currentResult = null;
+		currentRow = null;
+
+		final LogicalConnectionImplementor logicalConnection = session.getJdbcCoordinator().getLogicalConnection();
+		try {
+			resultSetProcessingState.finishResultSetProcessing();
+			resultSetProcessingState.release();
+		}
+		finally {
+			logicalConnection.getResourceRegistry().release( resultSet, ps );
+			statementCache.release( ps, session );
+			logicalConnection.afterStatement();
+		}
+	}
+
+	@Override
+	public Type getType(int i) {
+		return types[i];
+	}
+
+	@Override
+	public int getNumberOfTypes() {
+		return types.length;
+	}
+}
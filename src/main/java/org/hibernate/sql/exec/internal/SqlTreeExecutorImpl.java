@@ -6,22 +6,36 @@
  */
 package org.hibernate.sql.exec.internal;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
 
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectations;
 import org.hibernate.query.proposed.QueryOptions;
+import org.hibernate.query.proposed.QuerySettings;
 import org.hibernate.query.proposed.spi.ExecutionContext;
 import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.query.proposed.spi.ResolvedQuerySettings;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.result.Outputs;
 import org.hibernate.sql.spi.ParameterBinder;
 import org.hibernate.sql.ast.SelectQuery;
 import org.hibernate.sql.convert.spi.Callback;
 import org.hibernate.sql.convert.spi.NotYetImplementedException;
+import org.hibernate.sql.convert.spi.SqlNonSelectInterpretation;
+import org.hibernate.sql.convert.spi.SqlSelectInterpretation;
 import org.hibernate.sql.convert.spi.SqlTreeWalker;
+import org.hibernate.sql.exec.spi.PreparedStatementCache;
 import org.hibernate.sql.exec.spi.PreparedStatementCreator;
 import org.hibernate.sql.exec.spi.PreparedStatementExecutor;
 import org.hibernate.sql.exec.spi.RowTransformer;
@@ -29,10 +43,24 @@ import org.hibernate.sql.exec.spi.SqlTreeExecutor;
 
 /**
  * Standard SqlTreeExecutor implementation
+ * <p/>
+ * INSERT, UPDATE and DELETE statements are executed from their rendered form
+ * ({@link SqlNonSelectInterpretation}), optionally as part of the session's JDBC batch (see
+ * {@link QuerySettings#BATCH_DML_QUERIES}).  {@link #executeInsert}, {@link #executeUpdate} and
+ * {@link #executeDelete} accept the rendered form as their SQL tree; interpreting DML SQL ASTs
+ * is not yet implemented.
  *
  * @author Steve Ebersole
  */
 public class SqlTreeExecutorImpl implements SqlTreeExecutor {
+	/**
+	 * The JdbcCoordinators whose transaction already has a {@link PendingBatchExecution}
+	 * registered.  Weakly referenced, for sessions closed without completing their transaction.
+	 */
+	private static final Set<JdbcCoordinator> PENDING_BATCH_EXECUTIONS = Collections.synchronizedSet(
+			Collections.newSetFromMap( new WeakHashMap<>() )
+	);
+
 	@Override
 	public <R, T> R executeSelect(
 			SelectQuery sqlTree,
@@ -49,55 +77,98 @@ public class SqlTreeExecutorImpl implements SqlTreeExecutor {
 		//		* ParameterBinders
 		//		* Returns
 
-		// todo : should also pass in QueryOptions
-		// 		as the rendered SQL would depend on first/max results, comment, db-hints, lock-options, entity-graph
+		// todo : the rendered SQL would also depend on comment, db-hints, lock-options, entity-graph
 
-		// todo : also need to account for multi-valued param bindings in terms of the generated SQL...
+		final SqlSelectInterpretation sqlSelectInterpretation = SqlTreeWalker.interpret(
+				sqlTree,
+				persistenceContext.getFactory(),
+				queryOptions,
+				queryParameterBindings
+		);
 
-		final SqlTreeWalker sqlTreeWalker = new SqlTreeWalker( persistenceContext.getFactory(), queryParameterBindings );
-		sqlTreeWalker.visitSelectQuery( sqlTree );
+		return executeSelect(
+				sqlSelectInterpretation,
+				statementCreator,
+				preparedStatementExecutor,
+				queryOptions,
+				queryParameterBindings,
+				rowTransformer,
+				callback,
+				persistenceContext,
+				executionContext
+		);
+	}
+
+	@Override
+	public <R, T> R executeSelect(
+			SqlSelectInterpretation sqlSelectInterpretation,
+			PreparedStatementCreator statementCreator,
+			PreparedStatementExecutor<R, T> preparedStatementExecutor,
+			QueryOptions queryOptions,
+			QueryParameterBindings queryParameterBindings,
+			RowTransformer<T> rowTransformer,
+			Callback callback,
+			SharedSessionContractImplementor persistenceContext,
+			ExecutionContext executionContext) {
+		// the query needs to see the effects of any DML statements still waiting in the JDBC batch
+		persistenceContext.getJdbcCoordinator().executeBatch();
 
 		// Now start the execution
 		final LogicalConnectionImplementor logicalConnection = persistenceContext.getJdbcCoordinator().getLogicalConnection();
-		final Connection connection = logicalConnection.getPhysicalConnection();
 
 		final JdbcServices jdbcServices = persistenceContext.getFactory().getServiceRegistry().getService( JdbcServices.class );
 
-		final String sql = sqlTreeWalker.getSql();
+		final String sql = sqlSelectInterpretation.getSql();
 		try {
 			jdbcServices.getSqlStatementLogger().logStatement( sql );
 
-			// prepare the query
-			final PreparedStatement ps = statementCreator.create( connection, sql );
-			logicalConnection.getResourceRegistry().register( ps, true );
+			// prepare the query (or reuse the statement already prepared for it)
+			final PreparedStatementCache statementCache = executionContext.getPreparedStatementCache();
+			final PreparedStatement ps = statementCache.prepare( statementCreator, sql, persistenceContext );
 
-			// set options
-			if ( queryOptions.getFetchSize() != null ) {
-				ps.setFetchSize( queryOptions.getFetchSize() );
-			}
-			if ( queryOptions.getTimeout() != null ) {
-				ps.setQueryTimeout( queryOptions.getTimeout() );
-			}
+			boolean executed = false;
+			try {
+				// set options
+				if ( queryOptions.getFetchSize() != null ) {
+					ps.setFetchSize( queryOptions.getFetchSize() );
+				}
+				if ( queryOptions.getTimeout() != null ) {
+					ps.setQueryTimeout( queryOptions.getTimeout() );
+				}
+
+				// bind parameters
+				// 		todo : validate that all query parameters were bound?
+				int position = 1;
+				position += sqlSelectInterpretation.bindLimitParametersAtStartOfQuery( queryOptions, ps, position );
+				for ( ParameterBinder parameterBinder : sqlSelectInterpretation.getParameterBinders() ) {
+					position += parameterBinder.bindParameterValue(
+							ps,
+							position,
+							queryParameterBindings,
+							persistenceContext
+					);
+				}
+				sqlSelectInterpretation.bindLimitParametersAtEndOfQuery( queryOptions, ps, position );
+				sqlSelectInterpretation.setMaxRows( queryOptions, ps );
 
-			// bind parameters
-			// 		todo : validate that all query parameters were bound?
-			int position = 1;
-			for ( ParameterBinder parameterBinder : sqlTreeWalker.getParameterBinders() ) {
-				position += parameterBinder.bindParameterValue(
+				final R results = preparedStatementExecutor.execute(
 						ps,
-						position,
-						queryParameterBindings,
+						statementCache,
+						queryOptions,
+						sqlSelectInterpretation.determineRowsToSkip( queryOptions ),
+						sqlSelectInterpretation.getReturns(),
+						rowTransformer,
 						persistenceContext
 				);
+				executed = true;
+				return results;
+			}
+			finally {
+				if ( !executed ) {
+					// the PreparedStatementExecutor only takes over the statement once executed
+					statementCache.release( ps, persistenceContext );
+				}
 			}
-
-			return preparedStatementExecutor.execute(
-					ps,
-					queryOptions,
-					sqlTreeWalker.getReturns(),
-					rowTransformer,
-					persistenceContext
-			);
 		}
 		catch (SQLException e) {
 			throw jdbcServices.getSqlExceptionHelper().convert(
@@ -110,6 +181,39 @@ public class SqlTreeExecutorImpl implements SqlTreeExecutor {
 		}
 	}
 
+	@Override
+	public int executeNonSelect(
+			SqlNonSelectInterpretation sqlNonSelectInterpretation,
+			PreparedStatementCreator statementCreator,
+			QueryOptions queryOptions,
+			QueryParameterBindings queryParameterBindings,
+			SharedSessionContractImplementor session,
+			ExecutionContext executionContext) {
+		final JdbcServices jdbcServices = session.getFactory().getServiceRegistry().getService( JdbcServices.class );
+		final String sql = sqlNonSelectInterpretation.getSql();
+		try {
+			if ( isDmlBatchingEnabled( session ) ) {
+				return addToBatch( sqlNonSelectInterpretation, queryParameterBindings, session );
+			}
+			else {
+				return execute(
+						sqlNonSelectInterpretation,
+						statementCreator,
+						queryOptions,
+						queryParameterBindings,
+						session,
+						executionContext.getPreparedStatementCache()
+				);
+			}
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert(
+					e,
+					"JDBC exception executing SQL [" + sql + "]"
+			);
+		}
+	}
+
 	@Override
 	public Object[] executeInsert(
 			Object sqlTree,
@@ -118,7 +222,16 @@ public class SqlTreeExecutorImpl implements SqlTreeExecutor {
 			QueryParameterBindings queryParameterBindings,
 			SharedSessionContractImplementor session,
 			ExecutionContext executionContext) {
-		throw new NotYetImplementedException( "DML execution is not yet implemented" );
+		executeNonSelect(
+				toNonSelectInterpretation( sqlTree ),
+				statementCreator,
+				queryOptions,
+				queryParameterBindings,
+				session,
+				executionContext
+		);
+		// generated keys are not retrieved for rendered statements
+		return new Object[0];
 	}
 
 	@Override
@@ -129,7 +242,14 @@ public class SqlTreeExecutorImpl implements SqlTreeExecutor {
 			QueryParameterBindings queryParameterBindings,
 			SharedSessionContractImplementor session,
 			ExecutionContext executionContext) {
-		throw new NotYetImplementedException( "DML execution is not yet implemented" );
+		return executeNonSelect(
+				toNonSelectInterpretation( sqlTree ),
+				statementCreator,
+				queryOptions,
+				queryParameterBindings,
+				session,
+				executionContext
+		);
 	}
 
 	@Override
@@ -140,7 +260,129 @@ public class SqlTreeExecutorImpl implements SqlTreeExecutor {
 			QueryParameterBindings queryParameterBindings,
 			SharedSessionContractImplementor session,
 			ExecutionContext executionContext) {
-		throw new NotYetImplementedException( "DML execution is not yet implemented" );
+		return executeNonSelect(
+				toNonSelectInterpretation( sqlTree ),
+				statementCreator,
+				queryOptions,
+				queryParameterBindings,
+				session,
+				executionContext
+		);
+	}
+
+	private static SqlNonSelectInterpretation toNonSelectInterpretation(Object sqlTree) {
+		if ( sqlTree instanceof SqlNonSelectInterpretation ) {
+			return (SqlNonSelectInterpretation) sqlTree;
+		}
+		throw new NotYetImplementedException( "Interpreting DML SQL ASTs is not yet implemented" );
+	}
+
+	private static boolean isDmlBatchingEnabled(SharedSessionContractImplementor session) {
+		// outside of a transaction nothing would be sure to execute the batch
+		return session.getFactory().getSessionFactoryOptions().getJdbcBatchSize() > 1
+				&& ResolvedQuerySettings.from( session.getFactory() ).isBatchDmlQueriesEnabled()
+				&& session.isTransactionInProgress();
+	}
+
+	private int execute(
+			SqlNonSelectInterpretation sqlNonSelectInterpretation,
+			PreparedStatementCreator statementCreator,
+			QueryOptions queryOptions,
+			QueryParameterBindings queryParameterBindings,
+			SharedSessionContractImplementor session,
+			PreparedStatementCache statementCache) throws SQLException {
+		// statements already waiting in the batch have to be executed first, in order
+		session.getJdbcCoordinator().executeBatch();
+
+		final LogicalConnectionImplementor logicalConnection = session.getJdbcCoordinator().getLogicalConnection();
+		final String sql = sqlNonSelectInterpretation.getSql();
+		try {
+			session.getFactory().getServiceRegistry().getService( JdbcServices.class )
+					.getSqlStatementLogger()
+					.logStatement( sql );
+
+			final PreparedStatement ps = statementCache.prepare( statementCreator, sql, session );
+			try {
+				if ( queryOptions.getTimeout() != null ) {
+					ps.setQueryTimeout( queryOptions.getTimeout() );
+				}
+				bindParameters( sqlNonSelectInterpretation, ps, queryParameterBindings, session );
+				return ps.executeUpdate();
+			}
+			finally {
+				statementCache.release( ps, session );
+			}
+		}
+		finally {
+			logicalConnection.afterStatement();
+		}
+	}
+
+	private int addToBatch(
+			SqlNonSelectInterpretation sqlNonSelectInterpretation,
+			QueryParameterBindings queryParameterBindings,
+			SharedSessionContractImplementor session) throws SQLException {
+		final String sql = sqlNonSelectInterpretation.getSql();
+
+		// a batch for a different statement is executed by the JdbcCoordinator before starting
+		// this one; the batch itself executes the statements once the batch size is reached
+		final Batch batch = session.getJdbcCoordinator().getBatch( new BasicBatchKey( sql, Expectations.NONE ) );
+		final PreparedStatement ps = batch.getBatchStatement( sql, false );
+		bindParameters( sqlNonSelectInterpretation, ps, queryParameterBindings, session );
+		batch.addToBatch();
+
+		// whether or not the session gets flushed; registered once per transaction
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		if ( !PENDING_BATCH_EXECUTIONS.contains( jdbcCoordinator ) ) {
+			session.getTransactionCoordinator()
+					.getLocalSynchronizations()
+					.registerSynchronization( new PendingBatchExecution( jdbcCoordinator ) );
+			PENDING_BATCH_EXECUTIONS.add( jdbcCoordinator );
+		}
+
+		return Statement.SUCCESS_NO_INFO;
+	}
+
+	private static void bindParameters(
+			SqlNonSelectInterpretation sqlNonSelectInterpretation,
+			PreparedStatement ps,
+			QueryParameterBindings queryParameterBindings,
+			SharedSessionContractImplementor session) throws SQLException {
+		int position = 1;
+		for ( ParameterBinder parameterBinder : sqlNonSelectInterpretation.getParameterBinders() ) {
+			position += parameterBinder.bindParameterValue(
+					ps,
+					position,
+					queryParameterBindings,
+					session
+			);
+		}
+	}
+
+	/**
+	 * Executes the statements still waiting in the JDBC batch before the transaction completes,
+	 * and discards them when it is rolled back.  Registered once per transaction: the
+	 * JdbcCoordinator is kept in {@link #PENDING_BATCH_EXECUTIONS} until the transaction completes.
+	 */
+	private static class PendingBatchExecution implements Synchronization {
+		private final JdbcCoordinator jdbcCoordinator;
+
+		private PendingBatchExecution(JdbcCoordinator jdbcCoordinator) {
+			this.jdbcCoordinator = jdbcCoordinator;
+		}
+
+		@Override
+		public void beforeCompletion() {
+			jdbcCoordinator.executeBatch();
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			PENDING_BATCH_EXECUTIONS.remove( jdbcCoordinator );
+			if ( status != Status.STATUS_COMMITTED ) {
+				jdbcCoordinator.abortBatch();
+			}
+		}
 	}
 
 	@Override
@@ -7,7 +7,6 @@
 package org.hibernate.sql.exec.internal;
 
 import java.util.List;
-import java.util.stream.Collectors;
 import javax.persistence.Tuple;
 import javax.persistence.TupleElement;
 
@@ -17,18 +16,18 @@ import javax.persistence.TupleElement;
  * @author Steve Ebersole
  */
 public class TupleImpl implements Tuple {
-	private final List<TupleElement<?>> tupleElements;
+	private final TupleMetadata tupleMetadata;
 	private final Object[] row;
 
-	public TupleImpl(List<TupleElement<?>> tupleElements, Object[] row) {
-		this.tupleElements = tupleElements;
+	public TupleImpl(TupleMetadata tupleMetadata, Object[] row) {
+		this.tupleMetadata = tupleMetadata;
 		this.row = row;
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public <X> X get(TupleElement<X> tupleElement) {
-		int index = tupleElements.indexOf( tupleElement );
+		final int index = tupleMetadata.getPosition( tupleElement );
 		if ( index < 0 ) {
 			throw new IllegalArgumentException(
 					"Requested tuple element did not correspond to element in the result tuple"
@@ -59,20 +58,7 @@ public class TupleImpl implements Tuple {
 
 	@Override
 	public Object get(String alias) {
-		int index = -1;
-		if ( alias != null ) {
-			alias = alias.trim();
-			if ( alias.length() > 0 ) {
-				int i = 0;
-				for ( TupleElement selection : tupleElements ) {
-					if ( alias.equals( selection.getAlias() ) ) {
-						index = i;
-						break;
-					}
-					i++;
-				}
-			}
-		}
+		final int index = tupleMetadata.getPosition( alias );
 		if ( index < 0 ) {
 			throw new IllegalArgumentException(
 					"Given alias [" + alias + "] did not correspond to an element in the result tuple"
@@ -117,6 +103,6 @@ public class TupleImpl implements Tuple {
 	@Override
 	@SuppressWarnings("unchecked")
 	public List<TupleElement<?>> getElements() {
-		return tupleElements;
+		return tupleMetadata.getTupleElements();
 	}
 }
@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.TupleElement;
+
+/**
+ * The TupleElements of a Tuple query along with the position of each element, by element
+ * and by alias.  Built once per RowTransformerTupleImpl and shared by all of its Tuples.
+ *
+ * @author Steve Ebersole
+ */
+public class TupleMetadata {
+	private final List<TupleElement<?>> tupleElements;
+	private final Map<TupleElement<?>, Integer> positionByElement;
+	private final Map<String, Integer> positionByAlias;
+
+	public TupleMetadata(List<TupleElement<?>> tupleElements) {
+		this.tupleElements = Collections.unmodifiableList( tupleElements );
+
+		final Map<TupleElement<?>, Integer> positionByElement = new HashMap<>();
+		final Map<String, Integer> positionByAlias = new HashMap<>();
+		for ( int i = 0; i < tupleElements.size(); i++ ) {
+			final TupleElement<?> tupleElement = tupleElements.get( i );
+			// the first occurrence wins, as it would for a scan of the elements
+			positionByElement.putIfAbsent( tupleElement, i );
+			if ( tupleElement.getAlias() != null && !tupleElement.getAlias().isEmpty() ) {
+				positionByAlias.putIfAbsent( tupleElement.getAlias(), i );
+			}
+		}
+		this.positionByElement = positionByElement;
+		this.positionByAlias = positionByAlias;
+	}
+
+	public List<TupleElement<?>> getTupleElements() {
+		return tupleElements;
+	}
+
+	/**
+	 * The position of the given TupleElement, or {@code -1} if it is not an element of the Tuple
+	 */
+	public int getPosition(TupleElement<?> tupleElement) {
+		final Integer position = positionByElement.get( tupleElement );
+		return position == null ? -1 : position;
+	}
+
+	/**
+	 * The position of the TupleElement with the given alias, or {@code -1} if there is none
+	 */
+	public int getPosition(String alias) {
+		if ( alias == null ) {
+			return -1;
+		}
+		final Integer position = positionByAlias.get( alias.trim() );
+		return position == null ? -1 : position;
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.results.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.hibernate.sql.exec.internal.RecommendedJdbcTypeMappings;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptorRegistry;
+
+/**
+ * Reads the value of a single column of a given JDBC type.  ColumnReaders are resolved
+ * (see {@link #forJdbcType}) once, ahead of reading any rows, so that reading a value is a
+ * single call to the appropriate ResultSet getter rather than a lookup of the JDBC type's
+ * Java type mapping and a switch on the JDBC type for every value.
+ *
+ * @author Steve Ebersole
+ */
+public abstract class ColumnReader {
+	/**
+	 * Resolve the ColumnReader for values of the given JDBC type.
+	 *
+	 * @param jdbcType The JDBC type code (see {@link Types})
+	 *
+	 * @return The ColumnReader
+	 *
+	 * @throws UnsupportedOperationException If the JDBC type is not supported
+	 */
+	public static ColumnReader forJdbcType(int jdbcType) {
+		final JavaTypeDescriptor javaTypeDescriptor = JavaTypeDescriptorRegistry.INSTANCE.getDescriptor(
+				RecommendedJdbcTypeMappings.INSTANCE.determineJavaClassForJdbcTypeCode( jdbcType )
+		);
+
+		switch ( jdbcType ) {
+			case Types.BIGINT: {
+				return new LongColumnReader( javaTypeDescriptor );
+			}
+			case Types.BIT: {
+				return new BooleanColumnReader( javaTypeDescriptor );
+			}
+			case Types.BOOLEAN: {
+				return new BooleanColumnReader( javaTypeDescriptor );
+			}
+			case Types.CHAR: {
+				return new StringColumnReader( javaTypeDescriptor );
+			}
+			case Types.DATE: {
+				return new DateColumnReader( javaTypeDescriptor );
+			}
+			case Types.DECIMAL: {
+				return new BigDecimalColumnReader( javaTypeDescriptor );
+			}
+			case Types.DOUBLE: {
+				return new DoubleColumnReader( javaTypeDescriptor );
+			}
+			case Types.FLOAT: {
+				return new FloatColumnReader( javaTypeDescriptor );
+			}
+			case Types.INTEGER: {
+				return new IntegerColumnReader( javaTypeDescriptor );
+			}
+			case Types.LONGNVARCHAR: {
+				return new StringColumnReader( javaTypeDescriptor );
+			}
+			case Types.LONGVARCHAR: {
+				return new StringColumnReader( javaTypeDescriptor );
+			}
+			case Types.LONGVARBINARY: {
+				return new BytesColumnReader( javaTypeDescriptor );
+			}
+			case Types.NCHAR: {
+				return new StringColumnReader( javaTypeDescriptor );
+			}
+			case Types.NUMERIC: {
+				return new BigDecimalColumnReader( javaTypeDescriptor );
+			}
+			case Types.NVARCHAR: {
+				return new StringColumnReader( javaTypeDescriptor );
+			}
+			case Types.TIME: {
+				return new TimeColumnReader( javaTypeDescriptor );
+			}
+			case Types.TIMESTAMP: {
+				return new TimestampColumnReader( javaTypeDescriptor );
+			}
+			case Types.VARCHAR: {
+				return new StringColumnReader( javaTypeDescriptor );
+			}
+		}
+
+		throw new UnsupportedOperationException( "JDBC type [" + jdbcType + " not supported" );
+	}
+
+	protected final JavaTypeDescriptor javaTypeDescriptor;
+
+	protected ColumnReader(JavaTypeDescriptor javaTypeDescriptor) {
+		this.javaTypeDescriptor = javaTypeDescriptor;
+	}
+
+	/**
+	 * Read the column value.
+	 *
+	 * @param resultSet The ResultSet, positioned on the row to read
+	 * @param position The (1-based) position of the column
+	 *
+	 * @return The value, wrapped as the Java type recommended for the JDBC type; {@code null}
+	 * for SQL NULL
+	 */
+	public abstract Object read(ResultSet resultSet, int position) throws SQLException;
+
+	private static class LongColumnReader extends ColumnReader {
+		private LongColumnReader(JavaTypeDescriptor javaTypeDescriptor) {
+			super( javaTypeDescriptor );
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int position) throws SQLException {
+			final long value = resultSet.getLong( position );
+			return resultSet.wasNull() ? null : javaTypeDescriptor.wrap( value, null );
+		}
+	}
+
+	private static class IntegerColumnReader extends ColumnReader {
+		private IntegerColumnReader(JavaTypeDescriptor javaTypeDescriptor) {
+			super( javaTypeDescriptor );
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int position) throws SQLException {
+			final int value = resultSet.getInt( position );
+			return resultSet.wasNull() ? null : javaTypeDescriptor.wrap( value, null );
+		}
+	}
+
+	private static class DoubleColumnReader extends ColumnReader {
+		private DoubleColumnReader(JavaTypeDescriptor javaTypeDescriptor) {
+			super( javaTypeDescriptor );
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int position) throws SQLException {
+			final double value = resultSet.getDouble( position );
+			return resultSet.wasNull() ? null : javaTypeDescriptor.wrap( value, null );
+		}
+	}
+
+	private static class FloatColumnReader extends ColumnReader {
+		private FloatColumnReader(JavaTypeDescriptor javaTypeDescriptor) {
+			super( javaTypeDescriptor );
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int position) throws SQLException {
+			final float value = resultSet.getFloat( position );
+			return resultSet.wasNull() ? null : javaTypeDescriptor.wrap( value, null );
+		}
+	}
+
+	private static class BooleanColumnReader extends ColumnReader {
+		private BooleanColumnReader(JavaTypeDescriptor javaTypeDescriptor) {
+			super( javaTypeDescriptor );
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int position) throws SQLException {
+			final boolean value = resultSet.getBoolean( position );
+			return resultSet.wasNull() ? null : javaTypeDescriptor.wrap( value, null );
+		}
+	}
+
+	private static class StringColumnReader extends ColumnReader {
+		private StringColumnReader(JavaTypeDescriptor javaTypeDescriptor) {
+			super( javaTypeDescriptor );
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int position) throws SQLException {
+			return javaTypeDescriptor.wrap( resultSet.getString( position ), null );
+		}
+	}
+
+	private static class BigDecimalColumnReader extends ColumnReader {
+		private BigDecimalColumnReader(JavaTypeDescriptor javaTypeDescriptor) {
+			super( javaTypeDescriptor );
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int position) throws SQLException {
+			return javaTypeDescriptor.wrap( resultSet.getBigDecimal( position ), null );
+		}
+	}
+
+	private static class BytesColumnReader extends ColumnReader {
+		private BytesColumnReader(JavaTypeDescriptor javaTypeDescriptor) {
+			super( javaTypeDescriptor );
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int position) throws SQLException {
+			return javaTypeDescriptor.wrap( resultSet.getBytes( position ), null );
+		}
+	}
+
+	private static class DateColumnReader extends ColumnReader {
+		private DateColumnReader(JavaTypeDescriptor javaTypeDescriptor) {
+			super( javaTypeDescriptor );
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int position) throws SQLException {
+			return javaTypeDescriptor.wrap( resultSet.getDate( position ), null );
+		}
+	}
+
+	private static class TimeColumnReader extends ColumnReader {
+		private TimeColumnReader(JavaTypeDescriptor javaTypeDescriptor) {
+			super( javaTypeDescriptor );
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int position) throws SQLException {
+			return javaTypeDescriptor.wrap( resultSet.getTime( position ), null );
+		}
+	}
+
+	private static class TimestampColumnReader extends ColumnReader {
+		private TimestampColumnReader(JavaTypeDescriptor javaTypeDescriptor) {
+			super( javaTypeDescriptor );
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int position) throws SQLException {
+			return javaTypeDescriptor.wrap( resultSet.getTimestamp( position ), null );
+		}
+	}
+}
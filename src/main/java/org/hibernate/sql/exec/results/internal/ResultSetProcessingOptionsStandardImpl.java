@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.results.internal;
+
+import java.io.Serializable;
+
+import org.hibernate.sql.exec.results.spi.ResultSetProcessingOptions;
+
+/**
+ * ResultSetProcessingOptions for query execution.  Processing options effectively
+ * are only used for entity loading, so here we don't need these values.
+ *
+ * @author Steve Ebersole
+ */
+public class ResultSetProcessingOptionsStandardImpl implements ResultSetProcessingOptions {
+	/**
+	 * Singleton access
+	 */
+	public static final ResultSetProcessingOptionsStandardImpl INSTANCE = new ResultSetProcessingOptionsStandardImpl();
+
+	@Override
+	public Object getEffectiveOptionalObject() {
+		return null;
+	}
+
+	@Override
+	public String getEffectiveOptionalEntityName() {
+		return null;
+	}
+
+	@Override
+	public Serializable getEffectiveOptionalId() {
+		return null;
+	}
+
+	@Override
+	public boolean shouldReturnProxies() {
+		return true;
+	}
+}
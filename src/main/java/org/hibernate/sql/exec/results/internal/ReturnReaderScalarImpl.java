@@ -8,19 +8,15 @@ package org.hibernate.sql.exec.results.internal;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
 
 import org.hibernate.EntityMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.sql.exec.internal.RecommendedJdbcTypeMappings;
 import org.hibernate.sql.exec.results.spi.ResultSetProcessingOptions;
 import org.hibernate.sql.exec.results.spi.ReturnReader;
 import org.hibernate.sql.exec.results.spi.RowProcessingState;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.Type;
-import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
-import org.hibernate.type.descriptor.java.JavaTypeDescriptorRegistry;
 
 /**
  * @author Steve Ebersole
@@ -29,6 +25,9 @@ public class ReturnReaderScalarImpl implements ReturnReader {
 	private final int startPosition;
 	private final Type returnType;
 
+	// resolved on first use, as that is when the SessionFactory is available
+	private volatile ColumnReader[] columnReaders;
+
 	public ReturnReaderScalarImpl(int startPosition, Type returnType) {
 		this.startPosition = startPosition;
 		this.returnType = returnType;
@@ -36,6 +35,10 @@ public class ReturnReaderScalarImpl implements ReturnReader {
 		assert returnType != null;
 	}
 
+	public Type getReturnType() {
+		return returnType;
+	}
+
 	@Override
 	public Class getReturnedJavaType() {
 		return returnType.getReturnedClass();
@@ -64,14 +67,13 @@ public class ReturnReaderScalarImpl implements ReturnReader {
 		final SharedSessionContractImplementor session = processingState.getResultSetProcessingState().getSession();
 		final ResultSet resultSet = processingState.getResultSetProcessingState().getResultSet();
 
-		final int columnSpan = returnType.getColumnSpan( session.getFactory() );
-		final int[] jdbcTypes = returnType.sqlTypes( session.getFactory() );
-		if ( columnSpan > 1 ) {
+		final ColumnReader[] columnReaders = resolveColumnReaders( session.getFactory() );
+		if ( columnReaders.length > 1 ) {
 			// has to be a CompositeType for now (and a very basic, one-level one)...
 			final CompositeType ctype = (CompositeType) returnType;
-			final Object[] values = new Object[ columnSpan ];
-			for ( int i = 0; i < columnSpan; i++ ) {
-				values[i] = readResultValue( resultSet, startPosition+i, jdbcTypes[i] );
+			final Object[] values = new Object[ columnReaders.length ];
+			for ( int i = 0; i < columnReaders.length; i++ ) {
+				values[i] = columnReaders[i].read( resultSet, startPosition + i );
 			}
 			try {
 				final Object result = ctype.getReturnedClass().newInstance();
@@ -83,71 +85,45 @@ public class ReturnReaderScalarImpl implements ReturnReader {
 			}
 		}
 		else {
-			return readResultValue( resultSet, startPosition, jdbcTypes[0] );
+			return columnReaders[0].read( resultSet, startPosition );
 		}
 	}
 
-	private Object readResultValue(ResultSet resultSet, int position, int jdbcType) throws SQLException {
-		final Class javaClassMapping = RecommendedJdbcTypeMappings.INSTANCE.determineJavaClassForJdbcTypeCode( jdbcType );
-		final JavaTypeDescriptor javaTypeDescriptor = JavaTypeDescriptorRegistry.INSTANCE.getDescriptor( javaClassMapping );
+	/**
+	 * Read the value of a single-column return as a {@code long}, without boxing it.  Whether
+	 * the value was SQL NULL is reported by {@link RowProcessingState#wasNull()}.
+	 */
+	public long readLong(RowProcessingState processingState) throws SQLException {
+		return processingState.getLong( startPosition );
+	}
 
-		switch ( jdbcType ) {
-			case Types.BIGINT: {
-				return javaTypeDescriptor.wrap( resultSet.getLong( position ), null );
-			}
-			case Types.BIT: {
-				return javaTypeDescriptor.wrap( resultSet.getBoolean( position ), null );
-			}
-			case Types.BOOLEAN: {
-				return javaTypeDescriptor.wrap( resultSet.getBoolean( position ), null );
-			}
-			case Types.CHAR: {
-				return javaTypeDescriptor.wrap( resultSet.getString( position ), null );
-			}
-			case Types.DATE: {
-				return javaTypeDescriptor.wrap( resultSet.getDate( position ), null );
-			}
-			case Types.DECIMAL: {
-				return javaTypeDescriptor.wrap( resultSet.getBigDecimal( position ), null );
-			}
-			case Types.DOUBLE: {
-				return javaTypeDescriptor.wrap( resultSet.getDouble( position ), null );
-			}
-			case Types.FLOAT: {
-				return javaTypeDescriptor.wrap( resultSet.getFloat( position ), null );
-			}
-			case Types.INTEGER: {
-				return javaTypeDescriptor.wrap( resultSet.getInt( position ), null );
-			}
-			case Types.LONGNVARCHAR: {
-				return javaTypeDescriptor.wrap( resultSet.getString( position ), null );
-			}
-			case Types.LONGVARCHAR: {
-				return javaTypeDescriptor.wrap( resultSet.getString( position ), null );
-			}
-			case Types.LONGVARBINARY: {
-				return javaTypeDescriptor.wrap( resultSet.getBytes( position ), null );
-			}
-			case Types.NCHAR: {
-				return javaTypeDescriptor.wrap( resultSet.getString( position ), null );
-			}
-			case Types.NUMERIC: {
-				return javaTypeDescriptor.wrap( resultSet.getBigDecimal( position ), null );
-			}
-			case Types.NVARCHAR: {
-				return javaTypeDescriptor.wrap( resultSet.getString( position ), null );
-			}
-			case Types.TIME: {
-				return javaTypeDescriptor.wrap( resultSet.getTime( position ), null );
-			}
-			case Types.TIMESTAMP: {
-				return javaTypeDescriptor.wrap( resultSet.getTimestamp( position ), null );
-			}
-			case Types.VARCHAR: {
-				return javaTypeDescriptor.wrap( resultSet.getString( position ), null );
-			}
-		}
+	/**
+	 * Read the value of a single-column return as an {@code int}, without boxing it.  Whether
+	 * the value was SQL NULL is reported by {@link RowProcessingState#wasNull()}.
+	 */
+	public int readInt(RowProcessingState processingState) throws SQLException {
+		return processingState.getInt( startPosition );
+	}
 
-		throw new UnsupportedOperationException( "JDBC type [" + jdbcType + " not supported" );
+	/**
+	 * Read the value of a single-column return as a {@code double}, without boxing it.  Whether
+	 * the value was SQL NULL is reported by {@link RowProcessingState#wasNull()}.
+	 */
+	public double readDouble(RowProcessingState processingState) throws SQLException {
+		return processingState.getDouble( startPosition );
+	}
+
+	private ColumnReader[] resolveColumnReaders(SessionFactoryImplementor sessionFactory) {
+		// the same reader may be used by concurrent executions; resolving it more than once is harmless
+		ColumnReader[] columnReaders = this.columnReaders;
+		if ( columnReaders == null ) {
+			final int[] jdbcTypes = returnType.sqlTypes( sessionFactory );
+			columnReaders = new ColumnReader[ jdbcTypes.length ];
+			for ( int i = 0; i < jdbcTypes.length; i++ ) {
+				columnReaders[i] = ColumnReader.forJdbcType( jdbcTypes[i] );
+			}
+			this.columnReaders = columnReaders;
+		}
+		return columnReaders;
 	}
 }
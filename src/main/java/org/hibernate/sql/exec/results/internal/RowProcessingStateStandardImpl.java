@@ -6,6 +6,8 @@
  */
 package org.hibernate.sql.exec.results.internal;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
 
 import org.hibernate.engine.spi.EntityKey;
@@ -24,6 +26,8 @@ import org.hibernate.sql.exec.results.spi.RowProcessingState;
 public class RowProcessingStateStandardImpl implements RowProcessingState {
 	private final ResultSetProcessingStateStandardImpl resultSetProcessingState;
 
+	private boolean wasNull;
+
 	public RowProcessingStateStandardImpl(
 			ResultSetProcessingStateStandardImpl resultSetProcessingState,
 			List<Return> returns,
@@ -58,4 +62,33 @@ public class RowProcessingStateStandardImpl implements RowProcessingState {
 	public void finishRowProcessing() {
 
 	}
+
+	@Override
+	public long getLong(int position) throws SQLException {
+		final ResultSet resultSet = resultSetProcessingState.getResultSet();
+		final long value = resultSet.getLong( position );
+		wasNull = resultSet.wasNull();
+		return value;
+	}
+
+	@Override
+	public int getInt(int position) throws SQLException {
+		final ResultSet resultSet = resultSetProcessingState.getResultSet();
+		final int value = resultSet.getInt( position );
+		wasNull = resultSet.wasNull();
+		return value;
+	}
+
+	@Override
+	public double getDouble(int position) throws SQLException {
+		final ResultSet resultSet = resultSetProcessingState.getResultSet();
+		final double value = resultSet.getDouble( position );
+		wasNull = resultSet.wasNull();
+		return value;
+	}
+
+	@Override
+	public boolean wasNull() {
+		return wasNull;
+	}
 }
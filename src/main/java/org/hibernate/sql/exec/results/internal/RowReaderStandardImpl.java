@@ -19,15 +19,27 @@ import org.hibernate.sql.exec.results.spi.RowReader;
 import org.hibernate.sql.exec.spi.RowTransformer;
 
 /**
+ * Reads the values of a row into an {@code Object[]} which it hands to the RowTransformer.
+ * <p/>
+ * A single array is reused for all rows when the RowTransformer does not hold on to it, or
+ * when asked to for a consumer which only looks at one row at a time (each row then being
+ * valid only until the next one is read); otherwise an array is allocated per row.
+ *
  * @author Steve Ebersole
  */
 public class RowReaderStandardImpl<T> implements RowReader<T> {
 	private final ReturnReader[] returnReaders;
 	private final RowTransformer<T> rowTransformer;
+	private final Object[] rowBuffer;
 
 	public RowReaderStandardImpl(List<Return> returns, RowTransformer<T> rowTransformer) {
+		this( returns, rowTransformer, false );
+	}
+
+	public RowReaderStandardImpl(List<Return> returns, RowTransformer<T> rowTransformer, boolean reuseRow) {
 		this.returnReaders = extractReturnReaders( returns );
 		this.rowTransformer = rowTransformer;
+		this.rowBuffer = reuseRow || !rowTransformer.retainsRow() ? new Object[ returnReaders.length ] : null;
 	}
 
 	private static ReturnReader[] extractReturnReaders(List<Return> returns) {
@@ -46,7 +58,8 @@ public class RowReaderStandardImpl<T> implements RowReader<T> {
 		// NOTE : for now we assume very simple reads (basic values)
 
 		final int returnCount = returnReaders.length;
-		final Object[] row = new Object[returnCount];
+		// every slot is (re)assigned below, so a reused buffer holds nothing of the previous row
+		final Object[] row = rowBuffer != null ? rowBuffer : new Object[returnCount];
 
 		int position = 1;
 		// first phase of reading
@@ -6,6 +6,8 @@
  */
 package org.hibernate.sql.exec.results.spi;
 
+import java.sql.SQLException;
+
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.loader.plan.spi.EntityFetch;
 import org.hibernate.loader.plan.spi.EntityReference;
@@ -26,4 +28,36 @@ public interface RowProcessingState {
 	EntityReferenceProcessingState getOwnerProcessingState(Fetch fetch);
 
 	void finishRowProcessing();
+
+	/**
+	 * Read the value of a column of the current row as a {@code long}, without boxing it.
+	 *
+	 * @param position The (1-based) position of the column
+	 *
+	 * @return The value, or {@code 0} for SQL NULL (see {@link #wasNull()})
+	 */
+	long getLong(int position) throws SQLException;
+
+	/**
+	 * Read the value of a column of the current row as an {@code int}, without boxing it.
+	 *
+	 * @param position The (1-based) position of the column
+	 *
+	 * @return The value, or {@code 0} for SQL NULL (see {@link #wasNull()})
+	 */
+	int getInt(int position) throws SQLException;
+
+	/**
+	 * Read the value of a column of the current row as a {@code double}, without boxing it.
+	 *
+	 * @param position The (1-based) position of the column
+	 *
+	 * @return The value, or {@code 0} for SQL NULL (see {@link #wasNull()})
+	 */
+	double getDouble(int position) throws SQLException;
+
+	/**
+	 * Was the value last read through one of the primitive accessors SQL NULL?
+	 */
+	boolean wasNull();
 }
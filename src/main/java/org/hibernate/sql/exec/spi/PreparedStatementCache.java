@@ -0,0 +1,228 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.spi;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.hibernate.ConnectionReleaseMode;
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.proposed.QuerySettings;
+import org.hibernate.query.proposed.spi.ResolvedQuerySettings;
+import org.hibernate.resource.jdbc.ResourceRegistry;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Keeps the PreparedStatements prepared through a session's logical connection so that later
+ * executions of the same SQL (with the same PreparedStatementCreator, which determines the
+ * ResultSet type) re-bind the parameters of the already prepared statement instead of
+ * preparing it again.
+ * <p/>
+ * A cache belongs to a single session, and is exposed by its
+ * {@link org.hibernate.query.proposed.spi.ExecutionContext}; like the session it is not
+ * thread-safe.  Enabled by {@link QuerySettings#PREPARED_STATEMENT_CACHE_SIZE}, which bounds
+ * the number of statements kept (least recently used statements are closed first).  Never
+ * used with {@link ConnectionReleaseMode#AFTER_STATEMENT}, as the kept statements would
+ * prevent the connection from being released.
+ * <p/>
+ * A statement is checked out of the cache by {@link #prepare} and returned to it by
+ * {@link #release}, so a statement is never shared by two executions (e.g. two open
+ * ScrollableResults).  The kept statements stay registered with the connection's
+ * ResourceRegistry and are therefore closed along with its other resources when the physical
+ * connection is released (e.g. after the transaction); the cache then starts over.
+ *
+ * @author Steve Ebersole
+ */
+@Incubating
+public class PreparedStatementCache {
+	private static final Logger log = Logger.getLogger( PreparedStatementCache.class );
+
+	private final int maxSize;
+	private final LinkedHashMap<Key, CachedStatement> statements;
+	private final Map<PreparedStatement, CachedStatement> checkedOut = new IdentityHashMap<>();
+
+	private Connection connection;
+
+	/**
+	 * Creates the cache for a session of the given SessionFactory, sized according to
+	 * {@link QuerySettings#PREPARED_STATEMENT_CACHE_SIZE}
+	 */
+	public PreparedStatementCache(SessionFactoryImplementor sessionFactory) {
+		this( ResolvedQuerySettings.from( sessionFactory ).getPreparedStatementCacheSize() );
+	}
+
+	/**
+	 * Creates a cache keeping at most {@code maxSize} statements; a cache of size 0 (or less)
+	 * keeps none.
+	 */
+	public PreparedStatementCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.statements = new LinkedHashMap<>( 16, 0.75f, true );
+	}
+
+	/**
+	 * Obtain a PreparedStatement for the SQL, either a kept one or a newly prepared one
+	 * (registered with the ResourceRegistry).  The statement must be handed back through
+	 * {@link #release} rather than being released directly.
+	 */
+	public PreparedStatement prepare(
+			PreparedStatementCreator statementCreator,
+			String sql,
+			SharedSessionContractImplementor session) throws SQLException {
+		final LogicalConnectionImplementor logicalConnection = session.getJdbcCoordinator().getLogicalConnection();
+		if ( isEnabled( logicalConnection ) ) {
+			return checkOut( statementCreator, sql, logicalConnection );
+		}
+
+		final PreparedStatement ps = statementCreator.create( logicalConnection.getPhysicalConnection(), sql );
+		logicalConnection.getResourceRegistry().register( ps, true );
+		return ps;
+	}
+
+	/**
+	 * Hand back a PreparedStatement obtained from {@link #prepare}, keeping it for later
+	 * executions if it came from this cache; otherwise it is released (closed).  Any ResultSet
+	 * of the statement must have been released already.
+	 */
+	public void release(PreparedStatement ps, SharedSessionContractImplementor session) {
+		final ResourceRegistry resourceRegistry = session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry();
+		if ( maxSize <= 0 || !checkIn( ps, resourceRegistry ) ) {
+			resourceRegistry.release( ps );
+		}
+	}
+
+	/**
+	 * The number of statements currently kept for reuse (not counting the checked out ones)
+	 */
+	public int size() {
+		return statements.size();
+	}
+
+	private boolean isEnabled(LogicalConnectionImplementor logicalConnection) {
+		return maxSize > 0
+				&& logicalConnection.getConnectionHandlingMode().getReleaseMode() != ConnectionReleaseMode.AFTER_STATEMENT;
+	}
+
+	private PreparedStatement checkOut(
+			PreparedStatementCreator statementCreator,
+			String sql,
+			LogicalConnectionImplementor logicalConnection) throws SQLException {
+		final Connection connection = logicalConnection.getPhysicalConnection();
+		if ( connection != this.connection ) {
+			// the kept statements belonged to a released connection, and were closed along with it
+			statements.clear();
+			checkedOut.clear();
+			this.connection = connection;
+		}
+
+		final Key key = new Key( sql, statementCreator );
+		final CachedStatement cachedStatement = statements.remove( key );
+		if ( cachedStatement != null && !cachedStatement.statement.isClosed() ) {
+			checkedOut.put( cachedStatement.statement, cachedStatement );
+			return cachedStatement.statement;
+		}
+
+		final PreparedStatement ps = statementCreator.create( connection, sql );
+		logicalConnection.getResourceRegistry().register( ps, true );
+		checkedOut.put( ps, new CachedStatement( key, ps ) );
+		return ps;
+	}
+
+	private boolean checkIn(PreparedStatement ps, ResourceRegistry resourceRegistry) {
+		final CachedStatement cachedStatement = checkedOut.remove( ps );
+		if ( cachedStatement == null ) {
+			return false;
+		}
+
+		try {
+			if ( ps.isClosed() ) {
+				return false;
+			}
+			cachedStatement.reset();
+		}
+		catch (SQLException e) {
+			log.debugf( e, "Unable to reset PreparedStatement for reuse; releasing it : %s", cachedStatement.key.sql );
+			return false;
+		}
+
+		final CachedStatement previous = statements.put( cachedStatement.key, cachedStatement );
+		if ( previous != null ) {
+			// the same SQL was executed twice at once
+			resourceRegistry.release( previous.statement );
+		}
+
+		if ( statements.size() > maxSize ) {
+			final Iterator<CachedStatement> leastRecentlyUsed = statements.values().iterator();
+			resourceRegistry.release( leastRecentlyUsed.next().statement );
+			leastRecentlyUsed.remove();
+		}
+
+		return true;
+	}
+
+	private static class Key {
+		private final String sql;
+		private final PreparedStatementCreator statementCreator;
+
+		private Key(String sql, PreparedStatementCreator statementCreator) {
+			this.sql = sql;
+			this.statementCreator = statementCreator;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return sql.equals( key.sql ) && statementCreator.equals( key.statementCreator );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( sql, statementCreator );
+		}
+	}
+
+	private static class CachedStatement {
+		private final Key key;
+		private final PreparedStatement statement;
+
+		// the options an execution may change, as the statement was prepared
+		private final int fetchSize;
+		private final int maxRows;
+		private final int queryTimeout;
+
+		private CachedStatement(Key key, PreparedStatement statement) throws SQLException {
+			this.key = key;
+			this.statement = statement;
+			this.fetchSize = statement.getFetchSize();
+			this.maxRows = statement.getMaxRows();
+			this.queryTimeout = statement.getQueryTimeout();
+		}
+
+		private void reset() throws SQLException {
+			statement.clearParameters();
+			statement.setFetchSize( fetchSize );
+			statement.setMaxRows( maxRows );
+			statement.setQueryTimeout( queryTimeout );
+		}
+	}
+}
@@ -22,6 +22,10 @@ import org.hibernate.sql.convert.spi.Return;
  * a query.  Or in the case of a {@link org.hibernate.ScrollableResults} e.g. it might just
  * mean holding the results open and handing them to the ScrollableResults object.
  * <p/>
+ * Once {@link #execute} returns, the executor (or the results it returns) is responsible for
+ * handing the PreparedStatement back to the {@link PreparedStatementCache}; should the
+ * execution fail, the caller is.
+ * <p/>
  * todo : ideally this also caters to consuming ProcedureCall executions as well.
  *
  * @author Steve Ebersole
@@ -33,9 +37,13 @@ public interface PreparedStatementExecutor<R,T> {
 	 *
 	 * @param ps The PreparedStatement that the ResultSet was obtained from (mainly
 	 * used to interact with the ResourceRegistry)
+	 * @param statementCache The cache the PreparedStatement was obtained from, and is to be
+	 * released to once the results have been consumed
+	 * @param queryOptions
+	 * @param rowsToSkip The number of leading rows to skip, because the first-row
+	 * could not be applied to the SQL itself
 	 * @param returns
 	 * @param rowTransformer
-	 * @param queryOptions
 	 * @param session
 	 *
 	 * @return
@@ -44,7 +52,9 @@ public interface PreparedStatementExecutor<R,T> {
 	 */
 	R execute(
 			PreparedStatement ps,
+			PreparedStatementCache statementCache,
 			QueryOptions queryOptions,
+			int rowsToSkip,
 			List<Return> returns,
 			RowTransformer<T> rowTransformer,
 			SharedSessionContractImplementor session) throws SQLException;
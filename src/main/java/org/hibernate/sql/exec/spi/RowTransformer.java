@@ -26,4 +26,14 @@ import org.hibernate.Incubating;
 @Incubating
 public interface RowTransformer<T> {
 	T transformRow(Object[] row);
+
+	/**
+	 * Does the transformed result hold on to the row array passed to {@link #transformRow}?
+	 * If not, the same array may be reused for reading every row.
+	 *
+	 * @return {@code true} (the default) if the row array must not be reused
+	 */
+	default boolean retainsRow() {
+		return true;
+	}
 }
@@ -14,6 +14,8 @@ import org.hibernate.query.proposed.spi.QueryParameterBindings;
 import org.hibernate.result.Outputs;
 import org.hibernate.sql.ast.SelectQuery;
 import org.hibernate.sql.convert.spi.Callback;
+import org.hibernate.sql.convert.spi.SqlNonSelectInterpretation;
+import org.hibernate.sql.convert.spi.SqlSelectInterpretation;
 
 /**
  * NOTE : look at as the clean room representation of "Loader", although possibly for DML as
@@ -62,6 +64,36 @@ public interface SqlTreeExecutor {
 			SharedSessionContractImplementor persistenceContext,
 			ExecutionContext executionContext);
 
+	/**
+	 * Form of {@link #executeSelect(SelectQuery, PreparedStatementCreator, PreparedStatementExecutor, QueryOptions, QueryParameterBindings, RowTransformer, Callback, SharedSessionContractImplementor, ExecutionContext)}
+	 * accepting an already rendered SQL AST, e.g. one kept by a query plan.
+	 */
+	<R,T> R executeSelect(
+			SqlSelectInterpretation sqlSelectInterpretation,
+			PreparedStatementCreator statementCreator,
+			PreparedStatementExecutor<R, T> preparedStatementExecutor,
+			QueryOptions queryOptions,
+			QueryParameterBindings queryParameterBindings,
+			RowTransformer<T> rowTransformer,
+			Callback callback,
+			SharedSessionContractImplementor persistenceContext,
+			ExecutionContext executionContext);
+
+	/**
+	 * Execute an already rendered INSERT, UPDATE or DELETE statement, e.g. one kept by a
+	 * query plan.
+	 *
+	 * @return The number of affected rows, or {@link java.sql.Statement#SUCCESS_NO_INFO} if the
+	 * execution was added to the JDBC batch (see {@link org.hibernate.query.proposed.QuerySettings#BATCH_DML_QUERIES})
+	 */
+	int executeNonSelect(
+			SqlNonSelectInterpretation sqlNonSelectInterpretation,
+			PreparedStatementCreator statementCreator,
+			QueryOptions queryOptions,
+			QueryParameterBindings queryParameterBindings,
+			SharedSessionContractImplementor persistenceContext,
+			ExecutionContext executionContext);
+
 	Object[] executeInsert(
 			Object sqlTree,
 			PreparedStatementCreator statementCreator,
@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.query.proposed.QueryParameter;
+import org.hibernate.query.proposed.spi.QueryParameterBindingTypeResolver;
+import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.Type;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests resolving parameter bindings by position, whether the positions are indexed by the
+ * dense array or (beyond 1024) by the sparse map, and by name
+ *
+ * @author Steve Ebersole
+ */
+public class QueryParameterBindingsImplTest {
+	private static final int[] DENSE_POSITIONS = { 0, 1, 2, 7, 1024 };
+	private static final int[] SPARSE_POSITIONS = { 1025, 5000, Integer.MAX_VALUE };
+
+	@Test
+	public void testDenseAndSparsePositions() {
+		final Map<Integer, QueryParameter> positionalParameters = positionalParameters();
+		final QueryParameterBindings bindings = bindings( null, positionalParameters );
+
+		for ( Map.Entry<Integer, QueryParameter> entry : positionalParameters.entrySet() ) {
+			assertThat(
+					bindings.getBinding( entry.getKey() ),
+					sameInstance( (Object) bindings.getBinding( entry.getValue() ) )
+			);
+		}
+
+		// gaps, just past the dense array, between sparse positions and negative positions
+		for ( int position : new int[] { 3, 1023, 1026, 4999, -1 } ) {
+			assertUnknownPosition( bindings, position );
+		}
+	}
+
+	@Test
+	public void testOnlySparsePositions() {
+		final Map<Integer, QueryParameter> positionalParameters = new HashMap<>();
+		positionalParameters.put( 5000, QueryParameterPositionalImpl.fromNativeQuery( 5000 ) );
+		final QueryParameterBindings bindings = bindings( null, positionalParameters );
+
+		assertThat(
+				bindings.getBinding( 5000 ),
+				sameInstance( (Object) bindings.getBinding( positionalParameters.get( 5000 ) ) )
+		);
+		// no array is allocated up to the sparse position
+		assertUnknownPosition( bindings, 0 );
+		assertUnknownPosition( bindings, 4999 );
+	}
+
+	@Test
+	public void testNames() {
+		final Map<String, QueryParameter> namedParameters = new HashMap<>();
+		namedParameters.put( "name", QueryParameterNamedImpl.fromNativeQuery( "name" ) );
+		namedParameters.put( "age", QueryParameterNamedImpl.fromNativeQuery( "age" ) );
+		final QueryParameterBindings bindings = bindings( namedParameters, null );
+
+		assertThat( bindings.getBinding( "name" ), sameInstance( (Object) bindings.getBinding( namedParameters.get( "name" ) ) ) );
+		assertThat( bindings.getBinding( "age" ), not( sameInstance( (Object) bindings.getBinding( "name" ) ) ) );
+		try {
+			bindings.getBinding( "unknown" );
+			fail( "Expecting an unknown name to be rejected" );
+		}
+		catch (IllegalArgumentException expected) {
+		}
+	}
+
+	@Test
+	public void testSnapshotPositions() {
+		final Map<Integer, QueryParameter> positionalParameters = positionalParameters();
+		final QueryParameterBindings bindings = bindings( null, positionalParameters );
+		for ( Integer position : positionalParameters.keySet() ) {
+			bindings.getBinding( position ).setBindValue( position );
+		}
+		final QueryParameterBindings snapshot = bindings.makeSnapshot();
+
+		// the snapshot resolves positions to its own copies of the bindings
+		for ( Map.Entry<Integer, QueryParameter> entry : positionalParameters.entrySet() ) {
+			assertThat(
+					snapshot.getBinding( entry.getKey() ),
+					sameInstance( (Object) snapshot.getBinding( entry.getValue() ) )
+			);
+			assertThat(
+					snapshot.getBinding( entry.getKey() ),
+					not( sameInstance( (Object) bindings.getBinding( entry.getKey() ) ) )
+			);
+			assertThat( snapshot.getBinding( entry.getKey() ).getBindValue(), is( (Object) entry.getKey() ) );
+		}
+		assertUnknownPosition( snapshot, 3 );
+		assertUnknownPosition( snapshot, 1026 );
+	}
+
+	private static Map<Integer, QueryParameter> positionalParameters() {
+		final Map<Integer, QueryParameter> positionalParameters = new HashMap<>();
+		for ( int position : DENSE_POSITIONS ) {
+			positionalParameters.put( position, QueryParameterPositionalImpl.fromNativeQuery( position ) );
+		}
+		for ( int position : SPARSE_POSITIONS ) {
+			positionalParameters.put( position, QueryParameterPositionalImpl.fromNativeQuery( position ) );
+		}
+		return positionalParameters;
+	}
+
+	private static QueryParameterBindings bindings(
+			Map<String, QueryParameter> namedParameters,
+			Map<Integer, QueryParameter> positionalParameters) {
+		return QueryParameterBindingsImpl.from(
+				new ParameterMetadataImpl( namedParameters, positionalParameters ),
+				new QueryParameterBindingTypeResolver() {
+					@Override
+					public Type resolveParameterBindType(Object bindValue) {
+						return IntegerType.INSTANCE;
+					}
+
+					@Override
+					public Type resolveParameterBindType(Class clazz) {
+						return IntegerType.INSTANCE;
+					}
+				}
+		);
+	}
+
+	private static void assertUnknownPosition(QueryParameterBindings bindings, int position) {
+		try {
+			bindings.getBinding( position );
+			fail( "Expecting position [" + position + "] to be unknown" );
+		}
+		catch (IllegalArgumentException expected) {
+		}
+	}
+}
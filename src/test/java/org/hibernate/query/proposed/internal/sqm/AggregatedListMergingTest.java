@@ -0,0 +1,240 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.internal.sqm;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.ExecutionContextTestImpl;
+import org.hibernate.sql.QueryProducerTestImpl;
+import org.hibernate.sql.ast.SelectQuery;
+import org.hibernate.sql.convert.spi.SqlTreeWalker;
+import org.hibernate.sql.gen.BaseUnitTest;
+import org.hibernate.sqm.query.SqmSelectStatement;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.anyOf;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests the merging (and paging) of the (individually ordered) results of the plans aggregated for a
+ * polymorphic query, with an explicit null precedence
+ *
+ * @author Steve Ebersole
+ */
+public class AggregatedListMergingTest extends BaseUnitTest {
+	private static final String ANIMAL = Animal.class.getName();
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder serviceRegistryBuilder) {
+		super.applySettings( serviceRegistryBuilder );
+		serviceRegistryBuilder.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+		serviceRegistryBuilder.applySetting( AvailableSettings.DEFAULT_NULL_ORDERING, "first" );
+	}
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( Cat.class );
+		metadataSources.addAnnotatedClass( Dog.class );
+	}
+
+	@Before
+	public void insertRows() {
+		Session session = getSessionFactory().openSession();
+		session.beginTransaction();
+		session.persist( new Cat( 1, "b", 1 ) );
+		session.persist( new Cat( 2, "d", 4 ) );
+		session.persist( new Cat( 3, "f", null ) );
+		session.persist( new Dog( 1, "a", 2 ) );
+		session.persist( new Dog( 2, "c", 3 ) );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testMergedList() {
+		doInSession(
+				session -> {
+					final List<Integer> results = generateQueryImpl(
+							session,
+							"select a.weight from " + ANIMAL + " a order by a.weight",
+							Integer.class
+					).list();
+					assertThat( results, equalTo( Arrays.asList( null, 1, 2, 3, 4 ) ) );
+				}
+		);
+	}
+
+	@Test
+	public void testMergedListDescending() {
+		doInSession(
+				session -> {
+					final List<Integer> results = generateQueryImpl(
+							session,
+							"select a.weight from " + ANIMAL + " a order by a.weight desc",
+							Integer.class
+					).list();
+					// the null precedence does not depend on the sort order
+					assertThat( results, equalTo( Arrays.asList( null, 4, 3, 2, 1 ) ) );
+				}
+		);
+	}
+
+	@Test
+	public void testMergedListLimit() {
+		doInSession(
+				session -> {
+					final List<Integer> results = generateQueryImpl(
+							session,
+							"select a.weight from " + ANIMAL + " a order by a.weight",
+							Integer.class
+					).setFirstResult( 1 ).setMaxResults( 2 ).list();
+					// applied to each implementor's query, this would return [1, 3, 4]
+					assertThat( results, equalTo( Arrays.asList( 1, 2 ) ) );
+				}
+		);
+	}
+
+	@Test
+	public void testConcatenatedListLimit() {
+		doInSession(
+				session -> {
+					final List<String> results = generateQueryImpl(
+							session,
+							"select a.name from " + ANIMAL + " a order by a.name",
+							String.class
+					).setFirstResult( 2 ).setMaxResults( 2 ).list();
+					// the third and fourth of the concatenated results, whichever the order of the plans
+					assertThat(
+							results,
+							anyOf(
+									equalTo( Arrays.asList( "f", "a" ) ),
+									equalTo( Arrays.asList( "b", "d" ) )
+							)
+					);
+				}
+		);
+	}
+
+	@Test
+	public void testConcatenatedListWhenOrderingIsNotReproducible() {
+		doInSession(
+				session -> {
+					final List<String> results = generateQueryImpl(
+							session,
+							"select a.name from " + ANIMAL + " a order by a.name",
+							String.class
+					).list();
+					// character ordering depends on the database collation: the ordered results
+					// of each plan are concatenated, in whichever order the plans are
+					assertThat(
+							results,
+							anyOf(
+									equalTo( Arrays.asList( "b", "d", "f", "a", "c" ) ),
+									equalTo( Arrays.asList( "a", "c", "b", "d", "f" ) )
+							)
+					);
+				}
+		);
+	}
+
+	@Test
+	public void testRowComparatorAvailability() {
+		assertThat( interpretRowComparator( "select c.weight from Cat c order by c.weight" ), notNullValue() );
+		// not selected
+		assertThat( interpretRowComparator( "select c.name from Cat c order by c.weight" ), nullValue() );
+		// character values
+		assertThat( interpretRowComparator( "select c.name from Cat c order by c.name" ), nullValue() );
+	}
+
+	private Object interpretRowComparator(String qryStr) {
+		final SqmSelectStatement statement = (SqmSelectStatement) interpret( qryStr );
+		final SelectQuery selectQuery = interpretSelectQuery( qryStr );
+		return SqlTreeWalker.interpret(
+				selectQuery,
+				getSessionFactory(),
+				queryOptions(),
+				buildQueryParameterBindings( statement )
+		).getRowComparator();
+	}
+
+	private void doInSession(Consumer<SharedSessionContractImplementor> work) {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+		try {
+			work.accept( session );
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> QuerySqmImpl<T> generateQueryImpl(SharedSessionContractImplementor session, String qryStr, Class<T> resultType) {
+		return new QuerySqmImpl(
+				qryStr,
+				interpret( qryStr ),
+				resultType,
+				session,
+				getConsumerContext().getDomainMetamodel(),
+				new QueryProducerTestImpl( session ),
+				new ExecutionContextTestImpl( session )
+		);
+	}
+
+	public interface Animal {
+	}
+
+	@Entity(name="Cat")
+	@SuppressWarnings({"WeakerAccess", "unused"})
+	public static class Cat implements Animal {
+		@Id
+		Integer id;
+		String name;
+		Integer weight;
+
+		public Cat() {
+		}
+
+		public Cat(Integer id, String name, Integer weight) {
+			this.id = id;
+			this.name = name;
+			this.weight = weight;
+		}
+	}
+
+	@Entity(name="Dog")
+	@SuppressWarnings({"WeakerAccess", "unused"})
+	public static class Dog implements Animal {
+		@Id
+		Integer id;
+		String name;
+		Integer weight;
+
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name, Integer weight) {
+			this.id = id;
+			this.name = name;
+			this.weight = weight;
+		}
+	}
+}
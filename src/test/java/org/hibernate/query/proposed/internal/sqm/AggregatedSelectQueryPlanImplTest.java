@@ -0,0 +1,373 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.internal.sqm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import org.hibernate.CacheMode;
+import org.hibernate.HibernateException;
+import org.hibernate.ScrollMode;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.proposed.QueryOptions;
+import org.hibernate.query.proposed.internal.ParameterMetadataImpl;
+import org.hibernate.query.proposed.internal.QueryOptionsImpl;
+import org.hibernate.query.proposed.internal.QueryParameterBindingsImpl;
+import org.hibernate.query.proposed.spi.ExecutionContext;
+import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.query.proposed.spi.ScrollableResultsImplementor;
+import org.hibernate.query.proposed.spi.SelectQueryPlan;
+import org.hibernate.sql.ExecutionContextTestImpl;
+import org.hibernate.sql.QueryParameterBindingTypeResolverImpl;
+import org.hibernate.sql.gen.BaseUnitTest;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the concurrent execution of the plans aggregated for a polymorphic query
+ *
+ * @author Steve Ebersole
+ */
+public class AggregatedSelectQueryPlanImplTest extends BaseUnitTest {
+	@Test
+	public void testParallelExecution() throws Exception {
+		final Thread callingThread = Thread.currentThread();
+		final CountDownLatch otherThreadRan = new CountDownLatch( 1 );
+		final Set<Thread> threads = Collections.newSetFromMap( new ConcurrentHashMap<>() );
+		final AtomicReference<Throwable> workerProblem = new AtomicReference<>();
+
+		final AggregatedQueryExecutor executor = new AggregatedQueryExecutor( 3 );
+		try {
+			doInSession(
+					(session, executionContext) -> {
+						final QueryParameterBindings parameterBindings = parameterBindings();
+
+						final BiFunction<Integer, ExecutionContext, List<Integer>> work = (planNumber, context) -> {
+							threads.add( Thread.currentThread() );
+							if ( Thread.currentThread() == callingThread ) {
+								// give the other threads the chance to pick up plans
+								await( otherThreadRan );
+							}
+							else {
+								try {
+									// the other threads only get immutable state
+									assertThat( context, not( sameInstance( executionContext ) ) );
+									assertThat( context.isTransactionInProgress(), is( false ) );
+									context.setCacheMode( CacheMode.IGNORE );
+									fail( "Expecting the ExecutionContext of another thread to be immutable" );
+								}
+								catch (UnsupportedOperationException expected) {
+								}
+								catch (Throwable t) {
+									workerProblem.set( t );
+								}
+								otherThreadRan.countDown();
+							}
+							return Collections.singletonList( planNumber );
+						};
+
+						final List<Integer> results = new AggregatedSelectQueryPlanImpl<>( plans( 4, work ), 3, executor )
+								.performList( session, executionContext, readOnlyOptions(), parameterBindings );
+
+						// the results are concatenated in the order of the plans, whichever thread executed them
+						assertThat( results, equalTo( Arrays.asList( 0, 1, 2, 3 ) ) );
+					}
+			);
+		}
+		finally {
+			executor.stop();
+		}
+
+		assertThat( workerProblem.get(), nullValue() );
+		assertThat( threads.contains( callingThread ), is( true ) );
+		assertThat( threads.size() > 1, is( true ) );
+	}
+
+	@Test
+	public void testFailure() {
+		final IllegalStateException failure = new IllegalStateException( "expected" );
+
+		final AggregatedQueryExecutor executor = new AggregatedQueryExecutor( 2 );
+		try {
+			doInSession(
+					(session, executionContext) -> {
+						final BiFunction<Integer, ExecutionContext, List<Integer>> work = (planNumber, context) -> {
+							if ( planNumber == 1 ) {
+								throw failure;
+							}
+							return Collections.singletonList( planNumber );
+						};
+
+						try {
+							new AggregatedSelectQueryPlanImpl<>( plans( 3, work ), 2, executor )
+									.performList( session, executionContext, readOnlyOptions(), parameterBindings() );
+							fail( "Expecting the failure of an aggregated plan to be propagated" );
+						}
+						catch (IllegalStateException e) {
+							assertThat( e, sameInstance( failure ) );
+						}
+					}
+			);
+		}
+		finally {
+			executor.stop();
+		}
+	}
+
+	@Test
+	public void testCallingThreadRunsAllWhenNoThreadAvailable() throws Exception {
+		final Thread callingThread = Thread.currentThread();
+		final Set<Thread> threads = Collections.newSetFromMap( new ConcurrentHashMap<>() );
+
+		final AggregatedQueryExecutor executor = new AggregatedQueryExecutor( 2 );
+		final CountDownLatch release = new CountDownLatch( 1 );
+		try {
+			// occupy the one thread
+			assertThat( executor.trySubmit( () -> await( release ) ), not( nullValue() ) );
+
+			doInSession(
+					(session, executionContext) -> {
+						final BiFunction<Integer, ExecutionContext, List<Integer>> work = (planNumber, context) -> {
+							threads.add( Thread.currentThread() );
+							return Collections.singletonList( planNumber );
+						};
+
+						final List<Integer> results = new AggregatedSelectQueryPlanImpl<>( plans( 3, work ), 2, executor )
+								.performList( session, executionContext, readOnlyOptions(), parameterBindings() );
+						assertThat( results, equalTo( Arrays.asList( 0, 1, 2 ) ) );
+					}
+			);
+		}
+		finally {
+			release.countDown();
+			executor.stop();
+		}
+
+		assertThat( threads, equalTo( Collections.singleton( callingThread ) ) );
+	}
+
+	@Test
+	public void testStoppedExecutor() {
+		final AggregatedQueryExecutor executor = new AggregatedQueryExecutor( 2 );
+		executor.stop();
+		assertThat( executor.trySubmit( () -> {} ), nullValue() );
+
+		doInSession(
+				(session, executionContext) -> {
+					final List<Integer> results = new AggregatedSelectQueryPlanImpl<>(
+							plans( 3, (planNumber, context) -> Collections.singletonList( planNumber ) ),
+							2,
+							executor
+					).performList( session, executionContext, readOnlyOptions(), parameterBindings() );
+					assertThat( results, equalTo( Arrays.asList( 0, 1, 2 ) ) );
+				}
+		);
+	}
+
+	@Test
+	public void testInterruptCancelsWorkers() throws Exception {
+		final CountDownLatch workerBlocked = new CountDownLatch( 1 );
+		final CountDownLatch workerInterrupted = new CountDownLatch( 1 );
+		final AtomicReference<Throwable> callerOutcome = new AtomicReference<>();
+
+		final AggregatedQueryExecutor executor = new AggregatedQueryExecutor( 2 );
+		try {
+			final Thread caller = new Thread(
+					() -> doInSession(
+							(session, executionContext) -> {
+								final Thread callingThread = Thread.currentThread();
+								final BiFunction<Integer, ExecutionContext, List<Integer>> work = (planNumber, context) -> {
+									if ( Thread.currentThread() == callingThread ) {
+										// make sure the other thread picks up the second plan
+										await( workerBlocked );
+									}
+									else {
+										workerBlocked.countDown();
+										try {
+											new CountDownLatch( 1 ).await( 30, TimeUnit.SECONDS );
+										}
+										catch (InterruptedException e) {
+											workerInterrupted.countDown();
+										}
+									}
+									return Collections.singletonList( planNumber );
+								};
+
+								try {
+									new AggregatedSelectQueryPlanImpl<>( plans( 2, work ), 2, executor )
+											.performList( session, executionContext, readOnlyOptions(), parameterBindings() );
+								}
+								catch (Throwable t) {
+									callerOutcome.set( t );
+								}
+							}
+					)
+			);
+			caller.start();
+
+			assertThat( workerBlocked.await( 10, TimeUnit.SECONDS ), is( true ) );
+			// let the calling thread get to waiting for the other thread
+			Thread.sleep( 100 );
+			caller.interrupt();
+			caller.join( 10000 );
+
+			assertThat( callerOutcome.get(), instanceOf( HibernateException.class ) );
+			assertThat( workerInterrupted.await( 10, TimeUnit.SECONDS ), is( true ) );
+		}
+		finally {
+			executor.stop();
+		}
+	}
+
+	@Test
+	public void testLimitAppliedToAggregatedResults() {
+		final List<QueryOptions> planOptions = new ArrayList<>();
+
+		doInSession(
+				(session, executionContext) -> {
+					final SelectQueryPlan<Integer>[] plans = plans(
+							3,
+							(planNumber, context) -> Arrays.asList( planNumber * 10, planNumber * 10 + 1 )
+					);
+					for ( int i = 0; i < plans.length; i++ ) {
+						final SelectQueryPlan<Integer> plan = plans[i];
+						plans[i] = new StubPlan( i, null ) {
+							@Override
+							public List<Integer> performList(
+									SharedSessionContractImplementor persistenceContext,
+									ExecutionContext executionContext,
+									QueryOptions queryOptions,
+									QueryParameterBindings inputParameterBindings) {
+								planOptions.add( queryOptions );
+								return plan.performList( persistenceContext, executionContext, queryOptions, inputParameterBindings );
+							}
+						};
+					}
+
+					final QueryOptionsImpl queryOptions = new QueryOptionsImpl();
+					queryOptions.getLimit().setFirstRow( 1 );
+					queryOptions.getLimit().setMaxRows( 3 );
+
+					final List<Integer> results = new AggregatedSelectQueryPlanImpl<>( plans )
+							.performList( session, executionContext, queryOptions, parameterBindings() );
+
+					// first/max rows of the whole query, not of each plan
+					assertThat( results, equalTo( Arrays.asList( 1, 10, 11 ) ) );
+				}
+		);
+
+		// the plans are executed without first/max rows
+		assertThat( planOptions.size(), is( 3 ) );
+		for ( QueryOptions options : planOptions ) {
+			assertThat( options.getLimit().getFirstRow(), nullValue() );
+			assertThat( options.getLimit().getMaxRows(), nullValue() );
+		}
+	}
+
+	private void doInSession(SessionWork work) {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+		try {
+			work.accept( session, new ExecutionContextTestImpl( session ) );
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	private interface SessionWork {
+		void accept(SharedSessionContractImplementor session, ExecutionContext executionContext);
+	}
+
+	private QueryParameterBindings parameterBindings() {
+		return QueryParameterBindingsImpl.from(
+				new ParameterMetadataImpl( null, null ),
+				new QueryParameterBindingTypeResolverImpl( getSessionFactory() )
+		);
+	}
+
+	private static QueryOptions readOnlyOptions() {
+		final QueryOptionsImpl queryOptions = new QueryOptionsImpl();
+		queryOptions.setReadOnly( true );
+		return queryOptions;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await( 10, TimeUnit.SECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static SelectQueryPlan<Integer>[] plans(
+			int count,
+			BiFunction<Integer, ExecutionContext, List<Integer>> work) {
+		final SelectQueryPlan<Integer>[] plans = new SelectQueryPlan[count];
+		for ( int i = 0; i < count; i++ ) {
+			plans[i] = new StubPlan( i, work );
+		}
+		return plans;
+	}
+
+	private static class StubPlan implements SelectQueryPlan<Integer> {
+		private final int planNumber;
+		private final BiFunction<Integer, ExecutionContext, List<Integer>> work;
+
+		private StubPlan(int planNumber, BiFunction<Integer, ExecutionContext, List<Integer>> work) {
+			this.planNumber = planNumber;
+			this.work = work;
+		}
+
+		@Override
+		public List<Integer> performList(
+				SharedSessionContractImplementor persistenceContext,
+				ExecutionContext executionContext,
+				QueryOptions queryOptions,
+				QueryParameterBindings inputParameterBindings) {
+			return work.apply( planNumber, executionContext );
+		}
+
+		@Override
+		public Iterator<Integer> performIterate(
+				SharedSessionContractImplementor persistenceContext,
+				ExecutionContext executionContext,
+				QueryOptions queryOptions,
+				QueryParameterBindings inputParameterBindings) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ScrollableResultsImplementor performScroll(
+				SharedSessionContractImplementor persistenceContext,
+				ExecutionContext executionContext,
+				QueryOptions queryOptions,
+				QueryParameterBindings inputParameterBindings,
+				ScrollMode scrollMode) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
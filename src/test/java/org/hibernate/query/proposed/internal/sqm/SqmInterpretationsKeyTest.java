@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.proposed.internal.sqm;
+
+import java.util.Arrays;
+import java.util.Collections;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.proposed.QuerySettings;
+import org.hibernate.sql.ExecutionContextTestImpl;
+import org.hibernate.sql.QueryProducerTestImpl;
+import org.hibernate.sql.gen.BaseUnitTest;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests the bucketing of multi-valued parameter bindings in the plan cache key, with
+ * padding enabled
+ *
+ * @author Steve Ebersole
+ */
+public class SqmInterpretationsKeyTest extends BaseUnitTest {
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder serviceRegistryBuilder) {
+		super.applySettings( serviceRegistryBuilder );
+		serviceRegistryBuilder.applySetting( QuerySettings.IN_CLAUSE_PARAMETER_PADDING, true );
+	}
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( Person.class );
+	}
+
+	@Test
+	public void testInListBucketing() {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+		try {
+			final QuerySqmImpl query = generateQueryImpl( session, "select p.name from Person p where p.id in (:ids)" );
+
+			query.setParameterList( "ids", Arrays.asList( 1, 2, 3 ) );
+			final SqmInterpretationsKey threeValues = SqmInterpretationsKey.generateFrom( query );
+
+			query.setParameterList( "ids", Arrays.asList( 1, 2, 3, 4 ) );
+			final SqmInterpretationsKey fourValues = SqmInterpretationsKey.generateFrom( query );
+
+			query.setParameterList( "ids", Arrays.asList( 1, 2, 3, 4, 5 ) );
+			final SqmInterpretationsKey fiveValues = SqmInterpretationsKey.generateFrom( query );
+
+			query.setParameterList( "ids", Collections.emptyList() );
+			final SqmInterpretationsKey noValues = SqmInterpretationsKey.generateFrom( query );
+
+			// 3 and 4 values are both rendered as 4 values, and so share a plan
+			assertThat( threeValues, equalTo( fourValues ) );
+			assertThat( threeValues.hashCode(), is( fourValues.hashCode() ) );
+
+			assertThat( fiveValues, not( equalTo( fourValues ) ) );
+			assertThat( noValues, not( equalTo( threeValues ) ) );
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Test
+	public void testSingleValuedParameterNotBucketed() {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+		try {
+			final QuerySqmImpl query = generateQueryImpl( session, "select p.name from Person p where p.id = :id" );
+
+			query.setParameter( "id", 1 );
+			final SqmInterpretationsKey first = SqmInterpretationsKey.generateFrom( query );
+
+			query.setParameter( "id", 2 );
+			final SqmInterpretationsKey second = SqmInterpretationsKey.generateFrom( query );
+
+			assertThat( first, equalTo( second ) );
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	private QuerySqmImpl generateQueryImpl(SharedSessionContractImplementor session, String qryStr) {
+		return new QuerySqmImpl(
+				qryStr,
+				interpret( qryStr ),
+				null,
+				session,
+				getConsumerContext().getDomainMetamodel(),
+				new QueryProducerTestImpl( session ),
+				new ExecutionContextTestImpl( session )
+		);
+	}
+
+	@Entity(name="Person")
+	@SuppressWarnings({"WeakerAccess", "unused"})
+	public static class Person {
+		@Id
+		Integer id;
+		String name;
+	}
+}
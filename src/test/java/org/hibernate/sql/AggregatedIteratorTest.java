@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.query.proposed.internal.sqm.AggregatedIterator;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+public class AggregatedIteratorTest {
+	@Test
+	public void testConcatenation() {
+		final List<List<Integer>> sources = Arrays.asList(
+				Arrays.asList( 3, 1 ),
+				Collections.emptyList(),
+				Arrays.asList( 2 )
+		);
+		final List<Integer> opened = new ArrayList<>();
+
+		final AggregatedIterator<Integer> iterator = new AggregatedIterator<>(
+				sources.get( 0 ).iterator(),
+				sources.size(),
+				i -> {
+					opened.add( i );
+					return sources.get( i ).iterator();
+				},
+				null
+		);
+
+		assertThat( iterator.next(), equalTo( 3 ) );
+		assertThat( iterator.next(), equalTo( 1 ) );
+		// the other sources are only obtained once needed
+		assertThat( opened.isEmpty(), equalTo( true ) );
+
+		assertThat( drain( iterator ), equalTo( Arrays.asList( 2 ) ) );
+		assertThat( opened, equalTo( Arrays.asList( 1, 2 ) ) );
+	}
+
+	@Test
+	public void testMerging() {
+		final List<List<Object[]>> sources = Arrays.asList(
+				Arrays.asList( row( 1, "a" ), row( 4, "a" ), row( 7, "a" ) ),
+				Arrays.asList( row( 2, "b" ), row( 4, "b" ) ),
+				Collections.emptyList(),
+				Arrays.asList( row( 0, "c" ), row( 9, "c" ) )
+		);
+
+		final AggregatedIterator<Object[]> iterator = new AggregatedIterator<>(
+				sources.get( 0 ).iterator(),
+				sources.size(),
+				i -> sources.get( i ).iterator(),
+				(row, other) -> ( (Integer) ( (Object[]) row )[0] ).compareTo( (Integer) ( (Object[]) other )[0] )
+		);
+
+		final List<String> merged = new ArrayList<>();
+		for ( Object[] row : drain( iterator ) ) {
+			merged.add( row[0] + (String) row[1] );
+		}
+		assertThat( merged, equalTo( Arrays.asList( "0c", "1a", "2b", "4a", "4b", "7a", "9c" ) ) );
+	}
+
+	@Test
+	public void testLimitOverConcatenation() {
+		final List<List<Integer>> sources = Arrays.asList(
+				Arrays.asList( 0, 1 ),
+				Arrays.asList( 2, 3, 4 ),
+				Arrays.asList( 5 )
+		);
+		final List<Integer> opened = new ArrayList<>();
+
+		final AggregatedIterator<Integer> iterator = new AggregatedIterator<>(
+				sources.get( 0 ).iterator(),
+				sources.size(),
+				i -> {
+					opened.add( i );
+					return sources.get( i ).iterator();
+				},
+				null,
+				1,
+				3
+		);
+
+		// the first row is skipped across all of the sources, not per source
+		assertThat( drain( iterator ), equalTo( Arrays.asList( 1, 2, 3 ) ) );
+		// the last source is not needed
+		assertThat( opened, equalTo( Collections.singletonList( 1 ) ) );
+	}
+
+	@Test
+	public void testLimitOverMerging() {
+		final List<List<Integer>> sources = Arrays.asList(
+				Arrays.asList( 1, 4, 7 ),
+				Arrays.asList( 2, 5 ),
+				Arrays.asList( 0, 3, 6 )
+		);
+
+		final AggregatedIterator<Integer> iterator = new AggregatedIterator<>(
+				sources.get( 0 ).iterator(),
+				sources.size(),
+				i -> sources.get( i ).iterator(),
+				(value, other) -> ( (Integer) value ).compareTo( (Integer) other ),
+				2,
+				4
+		);
+
+		assertThat( drain( iterator ), equalTo( Arrays.asList( 2, 3, 4, 5 ) ) );
+	}
+
+	private static Object[] row(Object... values) {
+		return values;
+	}
+
+	private static <T> List<T> drain(AggregatedIterator<T> iterator) {
+		final List<T> values = new ArrayList<>();
+		iterator.forEachRemaining( values::add );
+		iterator.close();
+		return values;
+	}
+}
@@ -15,6 +15,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.SessionImpl;
 import org.hibernate.query.proposed.spi.ExecutionContext;
 import org.hibernate.query.proposed.spi.QueryInterpretations;
+import org.hibernate.sql.exec.spi.PreparedStatementCache;
 import org.hibernate.type.Type;
 
 /**
@@ -22,9 +23,11 @@ import org.hibernate.type.Type;
  */
 public class ExecutionContextTestImpl implements ExecutionContext {
 	private final SharedSessionContractImplementor session;
+	private final PreparedStatementCache preparedStatementCache;
 
 	public ExecutionContextTestImpl(SharedSessionContractImplementor session) {
 		this.session = session;
+		this.preparedStatementCache = new PreparedStatementCache( session.getFactory() );
 	}
 
 	@Override
@@ -91,6 +94,11 @@ public class ExecutionContextTestImpl implements ExecutionContext {
 
 	@Override
 	public QueryInterpretations getQueryInterpretations() {
-		return QueryInterpretationsTestImpl.INSTANCE;
+		return session.getFactory().getServiceRegistry().getService( QueryInterpretations.class );
+	}
+
+	@Override
+	public PreparedStatementCache getPreparedStatementCache() {
+		return preparedStatementCache;
 	}
 }
@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.query.proposed.internal.AbstractForwardOnlyScrollableResults;
+import org.hibernate.type.Type;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Steve Ebersole
+ */
+public class ForwardOnlyScrollableResultsTest {
+	@Test
+	public void testIsLastReadsAhead() {
+		final ListScrollableResults results = new ListScrollableResults( 1, 2, 3 );
+
+		assertThat( results.isLast(), is( false ) );
+
+		assertThat( results.next(), is( true ) );
+		assertThat( results.isLast(), is( false ) );
+		// the row read ahead does not replace the current row...
+		assertThat( results.get( 0 ), equalTo( 1 ) );
+		assertThat( results.getRowNumber(), is( 0 ) );
+		// ... and is not read again
+		assertThat( results.isLast(), is( false ) );
+		assertThat( results.advanceCount, is( 2 ) );
+
+		assertThat( results.next(), is( true ) );
+		assertThat( results.get( 0 ), equalTo( 2 ) );
+		assertThat( results.advanceCount, is( 2 ) );
+
+		assertThat( results.next(), is( true ) );
+		assertThat( results.isLast(), is( true ) );
+		assertThat( results.get( 0 ), equalTo( 3 ) );
+		assertThat( results.getRowNumber(), is( 2 ) );
+
+		assertThat( results.next(), is( false ) );
+		assertThat( results.isLast(), is( false ) );
+	}
+
+	@Test
+	public void testLast() {
+		final ListScrollableResults results = new ListScrollableResults( 1, 2, 3 );
+
+		assertThat( results.last(), is( true ) );
+		assertThat( results.get( 0 ), equalTo( 3 ) );
+		assertThat( results.getRowNumber(), is( 2 ) );
+		assertThat( results.isLast(), is( true ) );
+		// already there
+		assertThat( results.last(), is( true ) );
+
+		assertThat( results.next(), is( false ) );
+		try {
+			results.last();
+			fail( "Expecting forward-only results to not move back to the last row" );
+		}
+		catch (UnsupportedOperationException expected) {
+		}
+	}
+
+	@Test
+	public void testLastWithoutRows() {
+		final ListScrollableResults results = new ListScrollableResults();
+
+		assertThat( results.last(), is( false ) );
+		assertThat( results.last(), is( false ) );
+		assertThat( results.isLast(), is( false ) );
+	}
+
+	/**
+	 * Reuses the array of its current row, as ScrollableResultsForwardOnlyImpl does
+	 */
+	private static class ListScrollableResults extends AbstractForwardOnlyScrollableResults {
+		private final List<Object> values;
+		private final Object[] row = new Object[1];
+		private int position = -1;
+		private int advanceCount;
+
+		private ListScrollableResults(Object... values) {
+			this.values = Arrays.asList( values );
+		}
+
+		@Override
+		protected boolean advance() {
+			advanceCount++;
+			if ( position + 1 >= values.size() ) {
+				return false;
+			}
+			row[0] = values.get( ++position );
+			return true;
+		}
+
+		@Override
+		protected Object[] getCurrentRow() {
+			return row;
+		}
+
+		@Override
+		protected void release() {
+		}
+
+		@Override
+		public Type getType(int i) {
+			return null;
+		}
+
+		@Override
+		public int getNumberOfTypes() {
+			return 1;
+		}
+	}
+}
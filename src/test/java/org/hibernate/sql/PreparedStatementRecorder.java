@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records what is done to a (dynamic proxy) PreparedStatement, for asserting parameter
+ * binding and statement handling without a database.
+ *
+ * @author Steve Ebersole
+ */
+public class PreparedStatementRecorder implements InvocationHandler {
+	private final String sql;
+	private final PreparedStatement statement;
+
+	private final Map<Integer, Object> boundValues = new TreeMap<>();
+	private int fetchSize;
+	private int maxRows;
+	private int queryTimeout;
+	private int executionCount;
+	private boolean closed;
+
+	public PreparedStatementRecorder() {
+		this( null );
+	}
+
+	public PreparedStatementRecorder(String sql) {
+		this.sql = sql;
+		this.statement = (PreparedStatement) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class[] { PreparedStatement.class },
+				this
+		);
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	public PreparedStatement getStatement() {
+		return statement;
+	}
+
+	/**
+	 * The values bound by position; a {@code setNull} is recorded as a {@code null} value.
+	 */
+	public Map<Integer, Object> getBoundValues() {
+		return boundValues;
+	}
+
+	public int getExecutionCount() {
+		return executionCount;
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		final String name = method.getName();
+
+		if ( name.startsWith( "set" ) && args != null && args.length >= 2 && args[0] instanceof Integer ) {
+			boundValues.put( (Integer) args[0], name.equals( "setNull" ) ? null : args[1] );
+			return null;
+		}
+
+		switch ( name ) {
+			case "setFetchSize": {
+				fetchSize = (Integer) args[0];
+				return null;
+			}
+			case "getFetchSize": {
+				return fetchSize;
+			}
+			case "setMaxRows": {
+				maxRows = (Integer) args[0];
+				return null;
+			}
+			case "getMaxRows": {
+				return maxRows;
+			}
+			case "setQueryTimeout": {
+				queryTimeout = (Integer) args[0];
+				return null;
+			}
+			case "getQueryTimeout": {
+				return queryTimeout;
+			}
+			case "clearParameters": {
+				boundValues.clear();
+				return null;
+			}
+			case "executeUpdate": {
+				executionCount++;
+				return 1;
+			}
+			case "close": {
+				closed = true;
+				return null;
+			}
+			case "isClosed": {
+				return closed;
+			}
+			case "toString": {
+				return "PreparedStatementRecorder(" + sql + ")";
+			}
+			case "hashCode": {
+				return System.identityHashCode( proxy );
+			}
+			case "equals": {
+				return proxy == args[0];
+			}
+		}
+
+		final Class<?> returnType = method.getReturnType();
+		if ( returnType == boolean.class ) {
+			return false;
+		}
+		if ( returnType == int.class ) {
+			return 0;
+		}
+		if ( returnType == long.class ) {
+			return 0L;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.sql.exec.internal.IntegerResultList;
+import org.hibernate.sql.exec.internal.LongResultList;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Steve Ebersole
+ */
+public class PrimitiveResultListTest {
+	@Test
+	public void testGrowingAndNulls() {
+		final LongResultList list = new LongResultList( 1 );
+		list.add( 1L );
+		list.add( null );
+		list.addLong( 3L );
+
+		assertThat( list.size(), equalTo( 3 ) );
+		assertThat( list, equalTo( Arrays.asList( 1L, null, 3L ) ) );
+		assertThat( list.getLongValue( 1 ), equalTo( 0L ) );
+		assertThat( list.getLongValue( 2 ), equalTo( 3L ) );
+	}
+
+	@Test
+	public void testPrimitiveAccessIsBoundedBySize() {
+		// the backing array has room beyond the size of the List
+		final IntegerResultList list = new IntegerResultList( 10 );
+		list.addInt( 1 );
+		assertThat( list.getIntegerValue( 0 ), equalTo( 1 ) );
+		try {
+			list.getIntegerValue( 1 );
+			fail( "Expecting IndexOutOfBoundsException" );
+		}
+		catch (IndexOutOfBoundsException expected) {
+		}
+	}
+
+	@Test
+	public void testBehavesLikeArrayList() {
+		final List<Integer> expected = new ArrayList<>();
+		final IntegerResultList list = new IntegerResultList( 0 );
+		for ( int i = 0; i < 20; i++ ) {
+			final Integer value = i % 3 == 0 ? null : i;
+			expected.add( value );
+			list.add( value );
+		}
+
+		expected.add( 5, null );
+		list.add( 5, null );
+		expected.add( 0, 42 );
+		list.add( 0, 42 );
+		expected.remove( 3 );
+		list.remove( 3 );
+		expected.set( 10, null );
+		list.set( 10, null );
+		expected.set( 11, 7 );
+		list.set( 11, 7 );
+
+		assertThat( list, equalTo( expected ) );
+		assertThat( list.hashCode(), equalTo( expected.hashCode() ) );
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.proposed.QueryOptions;
+import org.hibernate.query.proposed.internal.QueryInterpretationsImpl;
+import org.hibernate.query.proposed.spi.ExecutionContext;
+import org.hibernate.query.proposed.spi.QueryInterpretations;
+import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.query.proposed.spi.ScrollableResultsImplementor;
+import org.hibernate.query.proposed.spi.SelectQueryPlan;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Steve Ebersole
+ */
+public class QueryInterpretationsImplTest {
+	@Test
+	public void testHitsAndMisses() {
+		final QueryInterpretationsImpl interpretations = new QueryInterpretationsImpl();
+		final QueryInterpretations.Key key = new KeyImpl( 1 );
+
+		assertThat( interpretations.getSelectQueryPlan( key ), nullValue() );
+		assertThat( interpretations.getMissCount(), is( 1L ) );
+
+		final SelectQueryPlan plan = new DummySelectQueryPlan();
+		interpretations.cacheSelectQueryPlan( key, plan );
+
+		assertThat( interpretations.getSelectQueryPlan( key ), sameInstance( plan ) );
+		assertThat( interpretations.getSelectQueryPlan( new KeyImpl( 1 ) ), sameInstance( plan ) );
+		assertThat( interpretations.getHitCount(), is( 2L ) );
+		assertThat( interpretations.getMissCount(), is( 1L ) );
+	}
+
+	@Test
+	public void testBounded() {
+		final int maxSize = 64;
+		final QueryInterpretationsImpl interpretations = new QueryInterpretationsImpl( maxSize );
+
+		for ( int i = 0; i < maxSize * 20; i++ ) {
+			interpretations.cacheSelectQueryPlan( new KeyImpl( i ), new DummySelectQueryPlan() );
+		}
+
+		assertTrue( interpretations.getSelectQueryPlanCount() <= maxSize );
+		assertTrue( interpretations.getEvictionCount() > 0 );
+	}
+
+	private static class KeyImpl implements QueryInterpretations.Key {
+		private final int value;
+
+		private KeyImpl(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof KeyImpl && ( (KeyImpl) o ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return value;
+		}
+	}
+
+	private static class DummySelectQueryPlan<R> implements SelectQueryPlan<R> {
+		@Override
+		public List<R> performList(
+				SharedSessionContractImplementor persistenceContext,
+				ExecutionContext executionContext,
+				QueryOptions queryOptions,
+				QueryParameterBindings inputParameterBindings) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Iterator<R> performIterate(
+				SharedSessionContractImplementor persistenceContext,
+				ExecutionContext executionContext,
+				QueryOptions queryOptions,
+				QueryParameterBindings inputParameterBindings) {
+			return Collections.<R>emptyList().iterator();
+		}
+
+		@Override
+		public ScrollableResultsImplementor performScroll(
+				SharedSessionContractImplementor persistenceContext,
+				ExecutionContext executionContext,
+				QueryOptions queryOptions,
+				QueryParameterBindings inputParameterBindings,
+				ScrollMode scrollMode) {
+			return null;
+		}
+	}
+}
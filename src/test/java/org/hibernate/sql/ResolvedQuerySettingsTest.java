@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.query.proposed.LiteralHandlingMode;
+import org.hibernate.query.proposed.QuerySettings;
+import org.hibernate.query.proposed.spi.ResolvedQuerySettings;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+public class ResolvedQuerySettingsTest {
+	@Test
+	public void testDefaults() {
+		final ResolvedQuerySettings settings = new ResolvedQuerySettings( Collections.emptyMap() );
+
+		assertThat( settings.isInClauseParameterPaddingEnabled(), is( false ) );
+		assertThat( settings.getPolymorphicQueryParallelism(), is( 1 ) );
+		assertThat( settings.isPrimitiveResultListsEnabled(), is( false ) );
+		assertThat( settings.isReuseScrolledRowsEnabled(), is( false ) );
+		assertThat( settings.isBatchDmlQueriesEnabled(), is( false ) );
+		assertThat( settings.getPreparedStatementCacheSize(), is( 0 ) );
+		assertThat( settings.getLiteralHandlingMode(), is( LiteralHandlingMode.BIND ) );
+		assertThat( settings.isSqlTreeWalkerPoolingEnabled(), is( false ) );
+	}
+
+	@Test
+	public void testConfiguredValues() {
+		final Map<String, Object> configuration = new HashMap<>();
+		configuration.put( QuerySettings.IN_CLAUSE_PARAMETER_PADDING, "true" );
+		configuration.put( QuerySettings.POLYMORPHIC_QUERY_PARALLELISM, "4" );
+		configuration.put( QuerySettings.PRIMITIVE_RESULT_LISTS, Boolean.TRUE );
+		configuration.put( QuerySettings.REUSE_SCROLLED_ROWS, "true" );
+		configuration.put( QuerySettings.BATCH_DML_QUERIES, "true" );
+		configuration.put( QuerySettings.PREPARED_STATEMENT_CACHE_SIZE, 32 );
+		configuration.put( QuerySettings.LITERAL_HANDLING_MODE, "auto" );
+		configuration.put( QuerySettings.POOL_SQL_TREE_WALKERS, "true" );
+
+		final ResolvedQuerySettings settings = new ResolvedQuerySettings( configuration );
+
+		assertThat( settings.isInClauseParameterPaddingEnabled(), is( true ) );
+		assertThat( settings.getPolymorphicQueryParallelism(), is( 4 ) );
+		assertThat( settings.isPrimitiveResultListsEnabled(), is( true ) );
+		assertThat( settings.isReuseScrolledRowsEnabled(), is( true ) );
+		assertThat( settings.isBatchDmlQueriesEnabled(), is( true ) );
+		assertThat( settings.getPreparedStatementCacheSize(), is( 32 ) );
+		assertThat( settings.getLiteralHandlingMode(), is( LiteralHandlingMode.AUTO ) );
+		assertThat( settings.isSqlTreeWalkerPoolingEnabled(), is( true ) );
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.convert.spi.Return;
+import org.hibernate.sql.exec.internal.RowTransformerPassThruImpl;
+import org.hibernate.sql.exec.internal.RowTransformerSingularReturnImpl;
+import org.hibernate.sql.exec.results.internal.RowReaderStandardImpl;
+import org.hibernate.sql.exec.results.spi.ResultSetProcessingOptions;
+import org.hibernate.sql.exec.results.spi.ReturnReader;
+import org.hibernate.sql.exec.results.spi.RowProcessingState;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+public class RowReaderStandardImplTest {
+	@Test
+	public void testRetainedRows() throws SQLException {
+		final RowReaderStandardImpl<Object[]> rowReader = new RowReaderStandardImpl<>(
+				returns( 1, 2 ),
+				RowTransformerPassThruImpl.INSTANCE
+		);
+
+		final Object[] first = rowReader.readRow( null, null );
+		final Object[] second = rowReader.readRow( null, null );
+
+		// the pass-thru results are the rows themselves, so each row gets its own array
+		assertThat( second, not( sameInstance( first ) ) );
+		assertThat( first, equalTo( new Object[] { 1 } ) );
+		assertThat( second, equalTo( new Object[] { 2 } ) );
+	}
+
+	@Test
+	public void testReusedRows() throws SQLException {
+		final RowReaderStandardImpl<Object[]> rowReader = new RowReaderStandardImpl<>(
+				returns( 1, 2 ),
+				RowTransformerPassThruImpl.INSTANCE,
+				true
+		);
+
+		final Object[] first = rowReader.readRow( null, null );
+		assertThat( first, equalTo( new Object[] { 1 } ) );
+		final Object[] second = rowReader.readRow( null, null );
+
+		// a row is only valid until the next one is read
+		assertThat( second, sameInstance( first ) );
+		assertThat( first, equalTo( new Object[] { 2 } ) );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testRowNotRetainedByTransformer() throws SQLException {
+		final RowReaderStandardImpl<Integer> rowReader = new RowReaderStandardImpl<Integer>(
+				returns( 1, 2 ),
+				RowTransformerSingularReturnImpl.INSTANCE
+		);
+
+		// the (internally reused) row does not leak into the results
+		assertThat( rowReader.readRow( null, null ), equalTo( 1 ) );
+		assertThat( rowReader.readRow( null, null ), equalTo( 2 ) );
+	}
+
+	private static List<Return> returns(Integer... values) {
+		return Collections.singletonList( new Return( null, new StubReturnReader( Arrays.asList( values ).iterator() ) ) );
+	}
+
+	private static class StubReturnReader implements ReturnReader<Integer> {
+		private final Iterator<Integer> values;
+
+		private StubReturnReader(Iterator<Integer> values) {
+			this.values = values;
+		}
+
+		@Override
+		public void readBasicValues(RowProcessingState processingState, ResultSetProcessingOptions options) {
+		}
+
+		@Override
+		public void resolveBasicValues(RowProcessingState processingState, ResultSetProcessingOptions options) {
+		}
+
+		@Override
+		public Integer assemble(RowProcessingState processingState, ResultSetProcessingOptions options) {
+			return values.next();
+		}
+
+		@Override
+		public Class<Integer> getReturnedJavaType() {
+			return Integer.class;
+		}
+
+		@Override
+		public int getNumberOfColumnsRead(SessionFactoryImplementor sessionFactory) {
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.TupleElement;
+
+import org.hibernate.sql.exec.internal.RowTransformerTupleImpl;
+import org.hibernate.sql.exec.internal.TupleElementImpl;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Steve Ebersole
+ */
+public class TupleImplTest {
+	private final TupleElement<String> name = new TupleElementImpl<>( String.class, "name" );
+	private final TupleElement<Integer> age = new TupleElementImpl<>( Integer.class, "age" );
+	private final TupleElement<String> unaliased = new TupleElementImpl<>( String.class, null );
+	private final TupleElement<String> duplicateName = new TupleElementImpl<>( String.class, "name" );
+
+	private final RowTransformerTupleImpl rowTransformer = new RowTransformerTupleImpl(
+			Arrays.<TupleElement<?>>asList( name, age, unaliased, duplicateName )
+	);
+
+	@Test
+	public void testLookupByElement() {
+		final Tuple tuple = rowTransformer.transformRow( new Object[] { "Steve", 20, "x", "other" } );
+
+		assertThat( tuple.get( name ), equalTo( "Steve" ) );
+		assertThat( tuple.get( age ), equalTo( 20 ) );
+		assertThat( tuple.get( unaliased ), equalTo( "x" ) );
+		// elements are matched by identity, not by alias
+		assertThat( tuple.get( duplicateName ), equalTo( "other" ) );
+
+		try {
+			tuple.get( new TupleElementImpl<>( String.class, "name" ) );
+			fail( "Expecting an element of another query to be rejected" );
+		}
+		catch (IllegalArgumentException expected) {
+		}
+	}
+
+	@Test
+	public void testLookupByAlias() {
+		final Tuple tuple = rowTransformer.transformRow( new Object[] { "Steve", 20, "x", "other" } );
+
+		// the first element with the alias wins
+		assertThat( tuple.get( "name" ), equalTo( "Steve" ) );
+		assertThat( tuple.get( " age " ), equalTo( 20 ) );
+		assertThat( tuple.get( "age", Integer.class ), is( 20 ) );
+
+		for ( String alias : new String[] { "unknown", "", null } ) {
+			try {
+				tuple.get( alias );
+				fail( "Expecting alias [" + alias + "] to be rejected" );
+			}
+			catch (IllegalArgumentException expected) {
+			}
+		}
+
+		try {
+			tuple.get( "age", String.class );
+			fail( "Expecting a value of another type to be rejected" );
+		}
+		catch (IllegalArgumentException expected) {
+		}
+	}
+
+	@Test
+	public void testTuplesShareElements() {
+		final Tuple first = rowTransformer.transformRow( new Object[] { "Steve", 20, null, null } );
+		final Tuple second = rowTransformer.transformRow( new Object[] { "Andrea", 30, null, null } );
+
+		assertThat( first.get( "name" ), equalTo( "Steve" ) );
+		assertThat( second.get( "name" ), equalTo( "Andrea" ) );
+
+		final List<TupleElement<?>> elements = first.getElements();
+		assertThat( elements, equalTo( second.getElements() ) );
+		assertThat( elements.size(), is( 4 ) );
+		try {
+			elements.clear();
+			fail( "Expecting the shared elements to be unmodifiable" );
+		}
+		catch (UnsupportedOperationException expected) {
+		}
+	}
+}
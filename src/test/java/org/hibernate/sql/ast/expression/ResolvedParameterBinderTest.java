@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.ast.expression;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.proposed.QueryParameter;
+import org.hibernate.query.proposed.internal.ParameterMetadataImpl;
+import org.hibernate.query.proposed.internal.QueryParameterBindingsImpl;
+import org.hibernate.query.proposed.internal.QueryParameterPositionalImpl;
+import org.hibernate.query.proposed.spi.QueryParameterBindingTypeResolver;
+import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.sql.PreparedStatementRecorder;
+import org.hibernate.sql.spi.ParameterBinder;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.StringType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests binding parameters through the binder resolved when rendering, and the fallback to
+ * resolving the Type on binding when the bind Type changed since
+ *
+ * @author Steve Ebersole
+ */
+public class ResolvedParameterBinderTest {
+	private final H2Dialect dialect = new H2Dialect();
+	private final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) Proxy.newProxyInstance(
+			getClass().getClassLoader(),
+			new Class[] { SessionFactoryImplementor.class },
+			(proxy, method, args) -> method.getName().equals( "getDialect" ) ? dialect : null
+	);
+	private final SharedSessionContractImplementor session = (SharedSessionContractImplementor) Proxy.newProxyInstance(
+			getClass().getClassLoader(),
+			new Class[] { SharedSessionContractImplementor.class },
+			(proxy, method, args) -> {
+				switch ( method.getName() ) {
+					case "getFactory": {
+						return sessionFactory;
+					}
+					case "remapSqlTypeDescriptor": {
+						return dialect.remapSqlTypeDescriptor( (SqlTypeDescriptor) args[0] );
+					}
+					case "useStreamsForBinary": {
+						return false;
+					}
+				}
+				return null;
+			}
+	);
+
+	private final PositionalParameter parameter = new PositionalParameter( 1, IntegerType.INSTANCE );
+	private final QueryParameterBindings bindings = QueryParameterBindingsImpl.from(
+			new ParameterMetadataImpl(
+					null,
+					Collections.<Integer, QueryParameter>singletonMap( 1, QueryParameterPositionalImpl.fromNativeQuery( 1 ) )
+			),
+			new QueryParameterBindingTypeResolver() {
+				@Override
+				public Type resolveParameterBindType(Object bindValue) {
+					return null;
+				}
+
+				@Override
+				public Type resolveParameterBindType(Class clazz) {
+					return null;
+				}
+			}
+	);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSingleValuedFallback() throws SQLException {
+		final ParameterBinder binder = parameter.getParameterBinder( IntegerType.INSTANCE, sessionFactory );
+
+		// as rendered
+		bindings.getBinding( 1 ).setBindValue( 5, IntegerType.INSTANCE );
+		assertThat( bind( binder ), equalTo( Collections.<Object>singletonList( 5 ) ) );
+
+		// no Type bound: the parameter's inferred Type, which is the rendered one
+		bindings.getBinding( 1 ).clear();
+		bindings.getBinding( 1 ).setBindValue( 6 );
+		assertThat( bind( binder ), equalTo( Collections.<Object>singletonList( 6 ) ) );
+
+		// another Type than rendered: bound through that Type, not the resolved ValueBinder
+		bindings.getBinding( 1 ).clear();
+		bindings.getBinding( 1 ).setBindValue( "x", StringType.INSTANCE );
+		assertThat( bind( binder ), equalTo( Collections.<Object>singletonList( "x" ) ) );
+
+		bindings.getBinding( 1 ).clear();
+		bindings.getBinding( 1 ).setBindValue( 7L, LongType.INSTANCE );
+		assertThat( bind( binder ), equalTo( Collections.<Object>singletonList( 7L ) ) );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testMultiValuedFallback() throws SQLException {
+		final ParameterBinder binder = parameter.getMultiValuedParameterBinder( 3, IntegerType.INSTANCE, sessionFactory );
+
+		// as rendered, padded with the last value
+		bindings.getBinding( 1 ).setBindValues( Arrays.asList( 1, 2 ), IntegerType.INSTANCE );
+		assertThat( bind( binder ), equalTo( Arrays.<Object>asList( 1, 2, 2 ) ) );
+
+		// another Type than rendered, padded all the same
+		bindings.getBinding( 1 ).clear();
+		bindings.getBinding( 1 ).setBindValues( Arrays.asList( 1L, 2L ), LongType.INSTANCE );
+		assertThat( bind( binder ), equalTo( Arrays.<Object>asList( 1L, 2L, 2L ) ) );
+	}
+
+	private List<Object> bind(ParameterBinder binder) throws SQLException {
+		final PreparedStatementRecorder recorder = new PreparedStatementRecorder();
+		final int span = binder.bindParameterValue( recorder.getStatement(), 1, bindings, session );
+		assertThat( span, is( recorder.getBoundValues().size() ) );
+		return new ArrayList<>( recorder.getBoundValues().values() );
+	}
+}
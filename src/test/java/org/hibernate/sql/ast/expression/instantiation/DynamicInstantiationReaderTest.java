@@ -0,0 +1,328 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.ast.expression.instantiation;
+
+import java.lang.reflect.Constructor;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.plan.spi.EntityFetch;
+import org.hibernate.loader.plan.spi.EntityReference;
+import org.hibernate.loader.plan.spi.Fetch;
+import org.hibernate.sql.exec.results.internal.ReturnReaderScalarImpl;
+import org.hibernate.sql.exec.results.spi.EntityReferenceProcessingState;
+import org.hibernate.sql.exec.results.spi.ResultSetProcessingOptions;
+import org.hibernate.sql.exec.results.spi.ResultSetProcessingState;
+import org.hibernate.sql.exec.results.spi.ReturnReader;
+import org.hibernate.sql.exec.results.spi.RowProcessingState;
+import org.hibernate.type.DoubleType;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the MethodHandle based dynamic instantiation readers
+ *
+ * @author Steve Ebersole
+ */
+public class DynamicInstantiationReaderTest {
+	@Test
+	public void testConstructor() throws Exception {
+		final ReturnReaderDynamicInstantiationClassConstructorImpl reader = new ReturnReaderDynamicInstantiationClassConstructorImpl(
+				accessibleConstructor( String.class, int.class ),
+				Arrays.asList(
+						new AliasedReturnReader( "name", new ValueReader<>( String.class, "Steve" ) ),
+						new AliasedReturnReader( "age", new ValueReader<>( Integer.class, 20 ) )
+				),
+				2
+		);
+
+		// the reader instantiates for every row, without reflective calls
+		for ( int i = 0; i < 2; i++ ) {
+			final Person person = (Person) reader.assemble( null, null );
+			assertThat( person.name, is( "Steve" ) );
+			// unboxed into the primitive parameter
+			assertThat( person.age, is( 20 ) );
+		}
+	}
+
+	@Test
+	public void testPrimitiveConstructorArguments() throws Exception {
+		final ReturnReaderDynamicInstantiationClassConstructorImpl reader = new ReturnReaderDynamicInstantiationClassConstructorImpl(
+				Measurement.class.getDeclaredConstructor( long.class, int.class, double.class, Integer.class ),
+				Arrays.asList(
+						new AliasedReturnReader( "id", new ReturnReaderScalarImpl( 1, LongType.INSTANCE ) ),
+						new AliasedReturnReader( "count", new ReturnReaderScalarImpl( 2, IntegerType.INSTANCE ) ),
+						new AliasedReturnReader( "value", new ReturnReaderScalarImpl( 3, DoubleType.INSTANCE ) ),
+						// not a primitive parameter: read through its Type
+						new AliasedReturnReader( "boxed", new ValueReader<>( Integer.class, 7 ) )
+				),
+				4
+		);
+
+		final PrimitiveRowProcessingState processingState = new PrimitiveRowProcessingState( 42L, 3, 1.5d );
+		final Measurement measurement = (Measurement) reader.assemble( processingState, null );
+		assertThat( measurement.id, is( 42L ) );
+		assertThat( measurement.count, is( 3 ) );
+		assertThat( measurement.value, is( 1.5d ) );
+		assertThat( measurement.boxed, is( 7 ) );
+		assertThat( processingState.primitiveReads, is( 3 ) );
+	}
+
+	@Test
+	public void testNullPrimitiveConstructorArgument() throws Exception {
+		final ReturnReaderDynamicInstantiationClassConstructorImpl reader = new ReturnReaderDynamicInstantiationClassConstructorImpl(
+				Measurement.class.getDeclaredConstructor( long.class, int.class, double.class, Integer.class ),
+				Arrays.asList(
+						new AliasedReturnReader( "id", new ReturnReaderScalarImpl( 1, LongType.INSTANCE ) ),
+						new AliasedReturnReader( "count", new ReturnReaderScalarImpl( 2, IntegerType.INSTANCE ) ),
+						new AliasedReturnReader( "value", new ReturnReaderScalarImpl( 3, DoubleType.INSTANCE ) ),
+						new AliasedReturnReader( "boxed", new ValueReader<>( Integer.class, null ) )
+				),
+				4
+		);
+
+		try {
+			reader.assemble( new PrimitiveRowProcessingState( 42L, null, 1.5d ), null );
+			fail( "Expecting SQL NULL for a primitive parameter to be reported" );
+		}
+		catch (InstantiationException expected) {
+		}
+	}
+
+	@Test
+	public void testConstructorFailure() throws Exception {
+		final ReturnReaderDynamicInstantiationClassConstructorImpl reader = new ReturnReaderDynamicInstantiationClassConstructorImpl(
+				accessibleConstructor( String.class ),
+				Collections.singletonList( new AliasedReturnReader( "name", new ValueReader<>( String.class, "Steve" ) ) ),
+				1
+		);
+
+		try {
+			reader.assemble( null, null );
+			fail( "Expecting the constructor's exception to be wrapped" );
+		}
+		catch (InstantiationException e) {
+			assertThat( e.getCause(), instanceOf( IllegalStateException.class ) );
+		}
+	}
+
+	@Test
+	public void testInjection() throws SQLException {
+		final ReturnReaderDynamicInstantiationClassInjectionImpl<Person> reader = new ReturnReaderDynamicInstantiationClassInjectionImpl<>(
+				Person.class,
+				Arrays.asList(
+						// through the setter
+						new AliasedReturnReader( "name", new ValueReader<>( String.class, "Steve" ) ),
+						// through the (private) field
+						new AliasedReturnReader( "age", new ValueReader<>( Integer.class, 20 ) )
+				),
+				2
+		);
+
+		final Person person = reader.assemble( null, null );
+		assertThat( person.name, is( "Steve" ) );
+		assertThat( person.nameSetterCalled, is( true ) );
+		assertThat( person.age, is( 20 ) );
+
+		assertThat( reader.assemble( null, null ), instanceOf( Person.class ) );
+		assertThat( reader.getReturnedJavaType(), sameInstance( Person.class ) );
+	}
+
+	@Test
+	public void testInjectionWithoutNoArgConstructor() {
+		try {
+			new ReturnReaderDynamicInstantiationClassInjectionImpl<>(
+					NoDefaultConstructor.class,
+					Collections.singletonList( new AliasedReturnReader( "name", new ValueReader<>( String.class, "Steve" ) ) ),
+					1
+			);
+			fail( "Expecting the missing no-arg constructor to be reported up front" );
+		}
+		catch (InstantiationException expected) {
+		}
+	}
+
+	private static Constructor<Person> accessibleConstructor(Class<?>... parameterTypes) throws NoSuchMethodException {
+		// as DynamicInstantiation does once it matched the constructor
+		final Constructor<Person> constructor = Person.class.getDeclaredConstructor( parameterTypes );
+		constructor.setAccessible( true );
+		return constructor;
+	}
+
+	@SuppressWarnings("unused")
+	public static class Person {
+		private String name;
+		private int age;
+		private boolean nameSetterCalled;
+
+		private Person() {
+		}
+
+		private Person(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+
+		private Person(String name) {
+			throw new IllegalStateException( "expected" );
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+			this.nameSetterCalled = true;
+		}
+	}
+
+	public static class Measurement {
+		private final long id;
+		private final int count;
+		private final double value;
+		private final Integer boxed;
+
+		public Measurement(long id, int count, double value, Integer boxed) {
+			this.id = id;
+			this.count = count;
+			this.value = value;
+			this.boxed = boxed;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	public static class NoDefaultConstructor {
+		private String name;
+
+		public NoDefaultConstructor(String name) {
+			this.name = name;
+		}
+	}
+
+	/**
+	 * Serves the values of columns 1 ({@code long}), 2 ({@code int}) and 3 ({@code double}) through
+	 * the primitive accessors only; a {@code null} value stands for SQL NULL
+	 */
+	private static class PrimitiveRowProcessingState implements RowProcessingState {
+		private final Long longValue;
+		private final Integer intValue;
+		private final Double doubleValue;
+
+		private boolean wasNull;
+		private int primitiveReads;
+
+		private PrimitiveRowProcessingState(Long longValue, Integer intValue, Double doubleValue) {
+			this.longValue = longValue;
+			this.intValue = intValue;
+			this.doubleValue = doubleValue;
+		}
+
+		@Override
+		public long getLong(int position) {
+			assertThat( position, is( 1 ) );
+			primitiveReads++;
+			wasNull = longValue == null;
+			return wasNull ? 0L : longValue;
+		}
+
+		@Override
+		public int getInt(int position) {
+			assertThat( position, is( 2 ) );
+			primitiveReads++;
+			wasNull = intValue == null;
+			return wasNull ? 0 : intValue;
+		}
+
+		@Override
+		public double getDouble(int position) {
+			assertThat( position, is( 3 ) );
+			primitiveReads++;
+			wasNull = doubleValue == null;
+			return wasNull ? 0d : doubleValue;
+		}
+
+		@Override
+		public boolean wasNull() {
+			return wasNull;
+		}
+
+		@Override
+		public ResultSetProcessingState getResultSetProcessingState() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void registerNonExists(EntityFetch fetch) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void registerHydratedEntity(EntityReference entityReference, EntityKey entityKey, Object entityInstance) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public EntityReferenceProcessingState getProcessingState(EntityReference entityReference) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public EntityReferenceProcessingState getOwnerProcessingState(Fetch fetch) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void finishRowProcessing() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private static class ValueReader<T> implements ReturnReader<T> {
+		private final Class<T> javaType;
+		private final T value;
+
+		private ValueReader(Class<T> javaType, T value) {
+			this.javaType = javaType;
+			this.value = value;
+		}
+
+		@Override
+		public void readBasicValues(RowProcessingState processingState, ResultSetProcessingOptions options) {
+		}
+
+		@Override
+		public void resolveBasicValues(RowProcessingState processingState, ResultSetProcessingOptions options) {
+		}
+
+		@Override
+		public T assemble(RowProcessingState processingState, ResultSetProcessingOptions options) {
+			return value;
+		}
+
+		@Override
+		public Class<T> getReturnedJavaType() {
+			return javaType;
+		}
+
+		@Override
+		public int getNumberOfColumnsRead(SessionFactoryImplementor sessionFactory) {
+			return 1;
+		}
+	}
+}
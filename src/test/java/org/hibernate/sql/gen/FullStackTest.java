@@ -7,13 +7,18 @@
 package org.hibernate.sql.gen;
 
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Tuple;
 
+import org.hibernate.ScrollMode;
 import org.hibernate.Session;
 import org.hibernate.boot.MetadataSources;
 import org.hibernate.boot.registry.StandardServiceRegistry;
@@ -23,7 +28,13 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.common.internal.PersisterFactoryImpl;
 import org.hibernate.persister.internal.PersisterFactoryInitiator;
+import org.hibernate.query.proposed.internal.QueryInterpretationsImpl;
 import org.hibernate.query.proposed.internal.sqm.QuerySqmImpl;
+import org.hibernate.query.proposed.spi.ExecutionContext;
+import org.hibernate.query.proposed.spi.NonSelectQueryPlan;
+import org.hibernate.query.proposed.spi.QueryInterpretations;
+import org.hibernate.query.proposed.spi.ScrollableResultsImplementor;
+import org.hibernate.query.proposed.spi.SelectQueryPlan;
 import org.hibernate.sql.ConsumerContextImpl;
 import org.hibernate.sql.ExecutionContextTestImpl;
 import org.hibernate.sql.QueryProducerTestImpl;
@@ -38,7 +49,9 @@ import org.hamcrest.CoreMatchers;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 /**
  * @author Steve Ebersole
@@ -125,8 +138,16 @@ public class FullStackTest {
 		}
 	}
 
-	@SuppressWarnings("unchecked")
 	private <T> QuerySqmImpl<T> generateQueryImpl(SharedSessionContractImplementor session, String qryStr, Class<T> resultType) {
+		return generateQueryImpl( session, qryStr, resultType, new ExecutionContextTestImpl( session ) );
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> QuerySqmImpl<T> generateQueryImpl(
+			SharedSessionContractImplementor session,
+			String qryStr,
+			Class<T> resultType,
+			ExecutionContext executionContext) {
 		return new QuerySqmImpl(
 				qryStr,
 				SemanticQueryInterpreter.interpret( qryStr, consumerContext ),
@@ -134,7 +155,7 @@ public class FullStackTest {
 				session,
 				consumerContext.getDomainMetamodel(),
 				new QueryProducerTestImpl( session ),
-				new ExecutionContextTestImpl( session )
+				executionContext
 		);
 	}
 
@@ -264,6 +285,193 @@ public class FullStackTest {
 		);
 	}
 
+	@Test
+	public void testFullStackScroll() throws SQLException {
+		doInSession(
+				session -> {
+					final QuerySqmImpl query = generateQueryImpl(
+							session,
+							"select p.name, p.age from Person p where p.age >= 20 and p.age <= ?1",
+							null
+					);
+
+					query.setParameter( 1, 39 );
+
+					final ScrollableResultsImplementor results = query.scroll( ScrollMode.FORWARD_ONLY );
+					try {
+						assertThat( results.getNumberOfTypes(), is( 2 ) );
+						assertThat( results.next(), is( true ) );
+						assertThat( results.getRowNumber(), is( 0 ) );
+						assertThat( results.getString( 0 ), is( "Steve" ) );
+						assertThat( results.getInteger( 1 ), is( 20 ) );
+						assertThat( results.next(), is( false ) );
+					}
+					finally {
+						results.close();
+					}
+					assertThat( results.isClosed(), is( true ) );
+				}
+		);
+	}
+
+	@Test
+	public void testFullStackScrollModes() throws SQLException {
+		doInSession(
+				session -> {
+					final QuerySqmImpl query = generateQueryImpl(
+							session,
+							"select p.name from Person p",
+							null
+					);
+
+					for ( ScrollMode scrollMode : new ScrollMode[] { ScrollMode.SCROLL_INSENSITIVE, ScrollMode.SCROLL_SENSITIVE } ) {
+						try {
+							query.scroll( scrollMode ).close();
+							fail( "Expecting " + scrollMode + " to be rejected" );
+						}
+						catch (UnsupportedOperationException expected) {
+						}
+					}
+
+					// whatever the Dialect's default ScrollMode
+					final ScrollableResultsImplementor results = query.scroll();
+					try {
+						assertThat( results.next(), is( true ) );
+						assertThat( results.isLast(), is( true ) );
+					}
+					finally {
+						results.close();
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testFullStackStream() throws SQLException {
+		doInSession(
+				session -> {
+					final QuerySqmImpl<String> query = generateQueryImpl(
+							session,
+							"select p.name from Person p where p.age >= 20 and p.age <= ?1",
+							String.class
+					);
+
+					query.setParameter( 1, 39 );
+
+					try ( Stream<String> names = query.stream() ) {
+						assertThat( names.collect( Collectors.toList() ), is( Collections.singletonList( "Steve" ) ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testFullStackIterate() throws SQLException {
+		doInSession(
+				session -> {
+					final QuerySqmImpl<String> query = generateQueryImpl(
+							session,
+							"select p.name from Person p where p.age >= 20 and p.age <= ?1",
+							String.class
+					);
+
+					query.setParameter( 1, 39 );
+
+					final Iterator<String> names = query.iterate();
+					assertThat( names.hasNext(), is( true ) );
+					assertThat( names.next(), is( "Steve" ) );
+					assertThat( names.hasNext(), is( false ) );
+				}
+		);
+	}
+
+	@Test
+	public void testQueryInterpretationsService() {
+		// the plan cache used by the ExecutionContext is the SessionFactory's QueryInterpretations
+		final QueryInterpretations interpretations = sessionFactory.getServiceRegistry()
+				.getService( QueryInterpretations.class );
+		assertThat( interpretations, instanceOf( QueryInterpretationsImpl.class ) );
+
+		doInSession(
+				session -> assertThat(
+						new ExecutionContextTestImpl( session ).getQueryInterpretations(),
+						sameInstance( interpretations )
+				)
+		);
+	}
+
+	@Test
+	public void testRebindAndReexecute() {
+		doInSession(
+				session -> {
+					final CountingQueryInterpretations interpretations = new CountingQueryInterpretations(
+							sessionFactory.getServiceRegistry().getService( QueryInterpretations.class )
+					);
+					final QuerySqmImpl<String> query = generateQueryImpl(
+							session,
+							"select p.name from Person p where p.age >= 20 and p.age <= ?1",
+							String.class,
+							new ExecutionContextTestImpl( session ) {
+								@Override
+								public QueryInterpretations getQueryInterpretations() {
+									return interpretations;
+								}
+							}
+					);
+
+					query.setParameter( 1, 39 );
+					assertThat( query.list(), is( Collections.singletonList( "Steve" ) ) );
+
+					query.clearParameterBindings();
+					assertThat( query.getQueryParameterBindings().getBinding( 1 ).isBound(), is( false ) );
+
+					query.setParameter( 1, 19 );
+					assertThat( query.list(), is( Collections.<String>emptyList() ) );
+
+					// the plan resolved by the first execution is reused
+					assertThat( interpretations.selectQueryPlanLookups, is( 1 ) );
+
+					query.clearParameterBindings();
+					query.setParameter( 1, 20 );
+					query.setMaxResults( 10 );
+					assertThat( query.list(), is( Collections.singletonList( "Steve" ) ) );
+
+					// the key changed (max-rows), so the plan was resolved again
+					assertThat( interpretations.selectQueryPlanLookups, is( 2 ) );
+				}
+		);
+	}
+
+	private static class CountingQueryInterpretations implements QueryInterpretations {
+		private final QueryInterpretations delegate;
+		private int selectQueryPlanLookups;
+
+		private CountingQueryInterpretations(QueryInterpretations delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public SelectQueryPlan getSelectQueryPlan(Key key) {
+			selectQueryPlanLookups++;
+			return delegate.getSelectQueryPlan( key );
+		}
+
+		@Override
+		public void cacheSelectQueryPlan(Key key, SelectQueryPlan plan) {
+			delegate.cacheSelectQueryPlan( key, plan );
+		}
+
+		@Override
+		public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
+			return delegate.getNonSelectQueryPlan( key );
+		}
+
+		@Override
+		public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
+			delegate.cacheNonSelectQueryPlan( key, plan );
+		}
+	}
+
 	@Entity(name="Person")
 	@SuppressWarnings({"WeakerAccess", "unused"})
 	public static class Person {
@@ -0,0 +1,207 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.gen;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.proposed.QuerySettings;
+import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.sql.PreparedStatementRecorder;
+import org.hibernate.sql.convert.spi.Helper;
+import org.hibernate.sql.convert.spi.SelectStatementInterpreter;
+import org.hibernate.sql.convert.spi.SqlSelectInterpretation;
+import org.hibernate.sql.convert.spi.SqlTreeWalker;
+import org.hibernate.sql.spi.ParameterBinder;
+import org.hibernate.sqm.query.SqmSelectStatement;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests the expansion of multi-valued (IN-list) parameters, with padding enabled
+ *
+ * @author Steve Ebersole
+ */
+public class InListParameterTest extends BaseUnitTest {
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder serviceRegistryBuilder) {
+		super.applySettings( serviceRegistryBuilder );
+		serviceRegistryBuilder.applySetting( QuerySettings.IN_CLAUSE_PARAMETER_PADDING, true );
+	}
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( Person.class );
+	}
+
+	@Test
+	public void testRenderedValueCount() {
+		assertThat( Helper.determineInListRenderedValueCount( 0, true ), is( 0 ) );
+		assertThat( Helper.determineInListRenderedValueCount( 1, true ), is( 1 ) );
+		assertThat( Helper.determineInListRenderedValueCount( 2, true ), is( 2 ) );
+		assertThat( Helper.determineInListRenderedValueCount( 3, true ), is( 4 ) );
+		assertThat( Helper.determineInListRenderedValueCount( 4, true ), is( 4 ) );
+		assertThat( Helper.determineInListRenderedValueCount( 5, true ), is( 8 ) );
+		assertThat( Helper.determineInListRenderedValueCount( 9, true ), is( 16 ) );
+
+		assertThat( Helper.determineInListRenderedValueCount( 0, false ), is( 0 ) );
+		assertThat( Helper.determineInListRenderedValueCount( 3, false ), is( 3 ) );
+		assertThat( Helper.determineInListRenderedValueCount( 5, false ), is( 5 ) );
+	}
+
+	@Test
+	public void testPaddedExpansion() throws SQLException {
+		final String qryStr = "select p.name from Person p where p.id in (:ids)";
+		final SqmSelectStatement statement = (SqmSelectStatement) interpret( qryStr );
+		final QueryParameterBindings parameterBindings = buildQueryParameterBindings( statement );
+		parameterBindings.<Integer>getBinding( "ids" ).setBindValues( Arrays.asList( 1, 2, 3 ) );
+
+		final SqlSelectInterpretation interpretation = interpret( statement, parameterBindings );
+		assertThat( interpretation.getSql(), containsString( " in(?, ?, ?, ?)" ) );
+		assertThat( interpretation.getParameterBinders().size(), is( 1 ) );
+
+		// the padded trailing position repeats the last value
+		final Map<Integer, Object> expected = new HashMap<>();
+		expected.put( 1, 1 );
+		expected.put( 2, 2 );
+		expected.put( 3, 3 );
+		expected.put( 4, 3 );
+		assertThat( bind( interpretation, parameterBindings ), equalTo( expected ) );
+	}
+
+	@Test
+	public void testUnpaddedSingleValue() throws SQLException {
+		final String qryStr = "select p.name from Person p where p.id in (:ids)";
+		final SqmSelectStatement statement = (SqmSelectStatement) interpret( qryStr );
+		final QueryParameterBindings parameterBindings = buildQueryParameterBindings( statement );
+		parameterBindings.<Integer>getBinding( "ids" ).setBindValues( Collections.singletonList( 7 ) );
+
+		final SqlSelectInterpretation interpretation = interpret( statement, parameterBindings );
+		assertThat( interpretation.getSql(), containsString( " in(?)" ) );
+		assertThat( bind( interpretation, parameterBindings ), equalTo( Collections.singletonMap( 1, (Object) 7 ) ) );
+	}
+
+	@Test
+	public void testBindingPositionsAroundExpansion() throws SQLException {
+		final String qryStr = "select p.name from Person p where p.name = :name and p.id in (:ids) and p.age = :age";
+		final SqmSelectStatement statement = (SqmSelectStatement) interpret( qryStr );
+		final QueryParameterBindings parameterBindings = buildQueryParameterBindings( statement );
+		parameterBindings.getBinding( "name" ).setBindValue( "Steve" );
+		parameterBindings.<Integer>getBinding( "ids" ).setBindValues( Arrays.asList( 1, 2, 3, 4, 5 ) );
+		parameterBindings.getBinding( "age" ).setBindValue( 20 );
+
+		final SqlSelectInterpretation interpretation = interpret( statement, parameterBindings );
+		assertThat( interpretation.getSql(), containsString( " in(?, ?, ?, ?, ?, ?, ?, ?)" ) );
+
+		final Map<Integer, Object> expected = new HashMap<>();
+		expected.put( 1, "Steve" );
+		expected.put( 2, 1 );
+		expected.put( 3, 2 );
+		expected.put( 4, 3 );
+		expected.put( 5, 4 );
+		expected.put( 6, 5 );
+		expected.put( 7, 5 );
+		expected.put( 8, 5 );
+		expected.put( 9, 5 );
+		expected.put( 10, 20 );
+		assertThat( bind( interpretation, parameterBindings ), equalTo( expected ) );
+	}
+
+	@Test
+	public void testEmptyList() throws SQLException {
+		final String qryStr = "select p.name from Person p where p.id in (:ids)";
+		final SqmSelectStatement statement = (SqmSelectStatement) interpret( qryStr );
+		final QueryParameterBindings parameterBindings = buildQueryParameterBindings( statement );
+		parameterBindings.<Integer>getBinding( "ids" ).setBindValues( Collections.emptyList() );
+
+		final SqlSelectInterpretation interpretation = interpret( statement, parameterBindings );
+		assertThat( interpretation.getSql(), containsString( " in(null)" ) );
+		assertThat( bind( interpretation, parameterBindings ).isEmpty(), is( true ) );
+	}
+
+	@Test
+	public void testInterpretationCompatibility() {
+		final String qryStr = "select p.name from Person p where p.id in (:ids)";
+		final SqmSelectStatement statement = (SqmSelectStatement) interpret( qryStr );
+		final QueryParameterBindings parameterBindings = buildQueryParameterBindings( statement );
+		parameterBindings.<Integer>getBinding( "ids" ).setBindValues( Arrays.asList( 1, 2, 3 ) );
+
+		final SqlSelectInterpretation interpretation = interpret( statement, parameterBindings );
+
+		// 3 and 4 values are both rendered as 4 values...
+		parameterBindings.<Integer>getBinding( "ids" ).setBindValues( Arrays.asList( 1, 2, 3, 4 ) );
+		assertThat( interpretation.isCompatibleWith( queryOptions(), parameterBindings, getSessionFactory() ), is( true ) );
+
+		// ... but 2 and 5 values are not
+		parameterBindings.<Integer>getBinding( "ids" ).setBindValues( Arrays.asList( 1, 2 ) );
+		assertThat( interpretation.isCompatibleWith( queryOptions(), parameterBindings, getSessionFactory() ), is( false ) );
+		parameterBindings.<Integer>getBinding( "ids" ).setBindValues( Arrays.asList( 1, 2, 3, 4, 5 ) );
+		assertThat( interpretation.isCompatibleWith( queryOptions(), parameterBindings, getSessionFactory() ), is( false ) );
+	}
+
+	private SqlSelectInterpretation interpret(SqmSelectStatement statement, QueryParameterBindings parameterBindings) {
+		final SelectStatementInterpreter interpreter = new SelectStatementInterpreter(
+				getSessionFactory(),
+				getConsumerContext().getDomainMetamodel(),
+				queryOptions(), callBack() );
+		interpreter.interpret( statement );
+
+		return SqlTreeWalker.interpret(
+				interpreter.getSelectQuery(),
+				getSessionFactory(),
+				queryOptions(),
+				parameterBindings
+		);
+	}
+
+	private Map<Integer, Object> bind(
+			SqlSelectInterpretation interpretation,
+			QueryParameterBindings parameterBindings) throws SQLException {
+		final PreparedStatementRecorder recorder = new PreparedStatementRecorder( interpretation.getSql() );
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+		try {
+			int position = 1;
+			for ( ParameterBinder parameterBinder : interpretation.getParameterBinders() ) {
+				position += parameterBinder.bindParameterValue(
+						recorder.getStatement(),
+						position,
+						parameterBindings,
+						session
+				);
+			}
+			// every rendered placeholder was bound
+			assertThat( position - 1, is( recorder.getBoundValues().size() ) );
+		}
+		finally {
+			session.close();
+		}
+		return recorder.getBoundValues();
+	}
+
+	@Entity(name="Person")
+	@SuppressWarnings({"WeakerAccess", "unused"})
+	public static class Person {
+		@Id
+		Integer id;
+		String name;
+		int age;
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.gen;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.pagination.AbstractLimitHandler;
+import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.dialect.pagination.NoopLimitHandler;
+import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.proposed.QueryOptions;
+import org.hibernate.query.proposed.internal.sqm.QuerySqmImpl;
+import org.hibernate.sql.ExecutionContextTestImpl;
+import org.hibernate.sql.QueryProducerTestImpl;
+import org.hibernate.sql.convert.spi.SqlSelectInterpretation;
+import org.hibernate.sql.convert.spi.SqlTreeWalker;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests paging on Dialects which cannot apply the first-row to the SQL: the leading
+ * rows are skipped while reading the ResultSet instead
+ *
+ * @author Steve Ebersole
+ */
+@RunWith(Parameterized.class)
+public class LimitFallbackTest extends BaseUnitTest {
+	private static final String QUERY = "select p.id from Person p order by p.id";
+
+	@Parameterized.Parameters(name = "{0}")
+	public static List<Object[]> dialects() {
+		return Arrays.asList(
+				new Object[] { NoLimitDialect.class },
+				new Object[] { NoOffsetDialect.class }
+		);
+	}
+
+	private final Class dialectClass;
+
+	public LimitFallbackTest(Class dialectClass) {
+		this.dialectClass = dialectClass;
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder serviceRegistryBuilder) {
+		super.applySettings( serviceRegistryBuilder );
+		serviceRegistryBuilder.applySetting( AvailableSettings.DIALECT, dialectClass.getName() );
+		serviceRegistryBuilder.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+	}
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( Person.class );
+	}
+
+	@Before
+	public void insertRows() {
+		Session session = getSessionFactory().openSession();
+		session.beginTransaction();
+		for ( int i = 1; i <= 5; i++ ) {
+			session.persist( new Person( i ) );
+		}
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testRowsToSkip() {
+		final QueryOptions queryOptions = queryOptions();
+		queryOptions.getLimit().setFirstRow( 1 );
+		queryOptions.getLimit().setMaxRows( 2 );
+
+		final SqlSelectInterpretation interpretation = SqlTreeWalker.interpret(
+				interpretSelectQuery( QUERY ),
+				getSessionFactory(),
+				queryOptions,
+				buildQueryParameterBindings( interpret( QUERY ) )
+		);
+		assertThat( interpretation.determineRowsToSkip( queryOptions ), is( 1 ) );
+	}
+
+	@Test
+	public void testPagedList() {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+		try {
+			assertThat( list( session, 1, 2 ), equalTo( Arrays.asList( 2, 3 ) ) );
+			// fewer rows left than requested
+			assertThat( list( session, 3, 5 ), equalTo( Arrays.asList( 4, 5 ) ) );
+			// skipping past the last row
+			assertThat( list( session, 6, 2 ), equalTo( Arrays.<Integer>asList() ) );
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Integer> list(SharedSessionContractImplementor session, int firstResult, int maxResults) {
+		return new QuerySqmImpl(
+				QUERY,
+				interpret( QUERY ),
+				Integer.class,
+				session,
+				getConsumerContext().getDomainMetamodel(),
+				new QueryProducerTestImpl( session ),
+				new ExecutionContextTestImpl( session )
+		).setFirstResult( firstResult ).setMaxResults( maxResults ).list();
+	}
+
+	/**
+	 * Supports neither a limit nor an offset
+	 */
+	public static class NoLimitDialect extends H2Dialect {
+		@Override
+		public LimitHandler getLimitHandler() {
+			return NoopLimitHandler.INSTANCE;
+		}
+	}
+
+	/**
+	 * Supports a limit, covering the rows to be skipped, but no offset
+	 */
+	public static class NoOffsetDialect extends H2Dialect {
+		@Override
+		public LimitHandler getLimitHandler() {
+			return new AbstractLimitHandler() {
+				@Override
+				public boolean supportsLimit() {
+					return true;
+				}
+
+				@Override
+				public boolean supportsLimitOffset() {
+					return false;
+				}
+
+				@Override
+				public boolean useMaxForLimit() {
+					return true;
+				}
+
+				@Override
+				public String processSql(String sql, RowSelection selection) {
+					return sql + " limit ?";
+				}
+			};
+		}
+	}
+
+	@Entity(name="Person")
+	@SuppressWarnings({"WeakerAccess", "unused"})
+	public static class Person {
+		@Id
+		Integer id;
+
+		public Person() {
+		}
+
+		public Person(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.gen;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.query.proposed.LiteralHandlingMode;
+import org.hibernate.query.proposed.QuerySettings;
+import org.hibernate.query.proposed.internal.ParameterMetadataImpl;
+import org.hibernate.query.proposed.internal.QueryParameterBindingsImpl;
+import org.hibernate.query.proposed.spi.QueryParameterBindingTypeResolver;
+import org.hibernate.sql.ast.expression.QueryLiteral;
+import org.hibernate.sql.convert.spi.SqlTreeWalker;
+import org.hibernate.type.DurationType;
+import org.hibernate.type.LocalDateType;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests which literals are rendered inline and which are bound under each
+ * {@link LiteralHandlingMode}
+ *
+ * @author Steve Ebersole
+ */
+@RunWith(Parameterized.class)
+public class LiteralHandlingModeTest extends BaseUnitTest {
+	@Parameterized.Parameters(name = "{0}")
+	public static List<Object[]> modes() {
+		return Arrays.asList(
+				new Object[] { LiteralHandlingMode.AUTO },
+				new Object[] { LiteralHandlingMode.BIND },
+				new Object[] { LiteralHandlingMode.INLINE }
+		);
+	}
+
+	private final LiteralHandlingMode literalHandlingMode;
+
+	public LiteralHandlingModeTest(LiteralHandlingMode literalHandlingMode) {
+		this.literalHandlingMode = literalHandlingMode;
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder serviceRegistryBuilder) {
+		super.applySettings( serviceRegistryBuilder );
+		serviceRegistryBuilder.applySetting( QuerySettings.LITERAL_HANDLING_MODE, literalHandlingMode.name() );
+	}
+
+	@Test
+	public void testNumericLiteral() {
+		assertRendering( new QueryLiteral( 20, StandardBasicTypes.INTEGER ), isInlinable() ? "20" : "?" );
+		assertRendering( new QueryLiteral( 20L, StandardBasicTypes.LONG ), isInlinable() ? "20" : "?" );
+	}
+
+	@Test
+	public void testBooleanLiteral() {
+		final QueryLiteral literal = new QueryLiteral( true, StandardBasicTypes.BOOLEAN );
+		final SqlTreeWalker walker = render( literal );
+
+		// the rendering of true is up to the Dialect
+		assertThat( walker.getSql().equals( "?" ), is( !isInlinable() ) );
+		assertThat( walker.getParameterBinders().size(), is( isInlinable() ? 0 : 1 ) );
+	}
+
+	@Test
+	public void testFixedFormatLiteral() {
+		// inlined only when asked to inline literals wherever possible
+		final boolean inline = literalHandlingMode == LiteralHandlingMode.INLINE;
+		assertRendering(
+				new QueryLiteral( LocalDate.of( 2016, 1, 31 ), LocalDateType.INSTANCE ),
+				inline ? "{d '2016-01-31'}" : "?"
+		);
+		assertRendering(
+				new QueryLiteral( Duration.ofSeconds( 2 ), DurationType.INSTANCE ),
+				inline ? "2000000000" : "?"
+		);
+		final UUID uuid = UUID.fromString( "0584b81a-9efa-4b43-829b-3886912f7790" );
+		assertRendering(
+				new QueryLiteral( uuid, StandardBasicTypes.UUID_CHAR ),
+				inline ? "'0584b81a-9efa-4b43-829b-3886912f7790'" : "?"
+		);
+	}
+
+	@Test
+	public void testNonFiniteLiteralAlwaysBound() {
+		assertRendering( new QueryLiteral( Double.NaN, StandardBasicTypes.DOUBLE ), "?" );
+		assertRendering( new QueryLiteral( Float.POSITIVE_INFINITY, StandardBasicTypes.FLOAT ), "?" );
+	}
+
+	@Test
+	public void testCharacterLiteralAlwaysBound() {
+		// would need escaping if rendered inline
+		assertRendering( new QueryLiteral( "O'Brien", StandardBasicTypes.STRING ), "?" );
+		assertRendering( new QueryLiteral( '\'', StandardBasicTypes.CHARACTER ), "?" );
+	}
+
+	private boolean isInlinable() {
+		return literalHandlingMode != LiteralHandlingMode.BIND;
+	}
+
+	private void assertRendering(QueryLiteral literal, String expectedSql) {
+		final SqlTreeWalker walker = render( literal );
+		assertThat( walker.getSql(), is( expectedSql ) );
+		assertThat( walker.getParameterBinders().size(), is( "?".equals( expectedSql ) ? 1 : 0 ) );
+	}
+
+	private SqlTreeWalker render(QueryLiteral literal) {
+		final SqlTreeWalker walker = new SqlTreeWalker(
+				getSessionFactory(),
+				QueryParameterBindingsImpl.from(
+						new ParameterMetadataImpl( null, null ),
+						new QueryParameterBindingTypeResolver() {
+							@Override
+							public Type resolveParameterBindType(Object bindValue) {
+								return null;
+							}
+
+							@Override
+							public Type resolveParameterBindType(Class clazz) {
+								return null;
+							}
+						}
+				)
+		);
+		walker.visitQueryLiteral( literal );
+		return walker;
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.gen;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.proposed.QuerySettings;
+import org.hibernate.query.proposed.internal.ParameterMetadataImpl;
+import org.hibernate.query.proposed.internal.QueryParameterBindingsImpl;
+import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.sql.ExecutionContextTestImpl;
+import org.hibernate.sql.QueryParameterBindingTypeResolverImpl;
+import org.hibernate.sql.convert.spi.NotYetImplementedException;
+import org.hibernate.sql.convert.spi.SqlNonSelectInterpretation;
+import org.hibernate.sql.exec.internal.PreparedStatementCreatorStandardImpl;
+import org.hibernate.sql.exec.internal.SqlTreeExecutorImpl;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests the execution of rendered INSERT, UPDATE and DELETE statements, with DML batching
+ * enabled
+ *
+ * @author Steve Ebersole
+ */
+public class NonSelectExecutionTest extends BaseUnitTest {
+	private static final SqlNonSelectInterpretation UPDATE_AGE = new SqlNonSelectInterpretation(
+			"update Person set age = ? where id = ?",
+			Arrays.asList(
+					(statement, position, bindings, session) -> {
+						statement.setInt( position, 21 );
+						return 1;
+					},
+					(statement, position, bindings, session) -> {
+						statement.setInt( position, 1 );
+						return 1;
+					}
+			)
+	);
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder serviceRegistryBuilder) {
+		super.applySettings( serviceRegistryBuilder );
+		serviceRegistryBuilder.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+		serviceRegistryBuilder.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, 10 );
+		serviceRegistryBuilder.applySetting( QuerySettings.BATCH_DML_QUERIES, true );
+	}
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( Person.class );
+	}
+
+	@Before
+	public void insertRow() {
+		Session session = getSessionFactory().openSession();
+		session.beginTransaction();
+		session.persist( new Person( 1, "Steve", 20 ) );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testExecuteUpdate() {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+		try {
+			assertThat(
+					new SqlTreeExecutorImpl().executeUpdate(
+							UPDATE_AGE,
+							PreparedStatementCreatorStandardImpl.INSTANCE,
+							queryOptions(),
+							parameterBindings(),
+							session,
+							new ExecutionContextTestImpl( session )
+					),
+					is( 1 )
+			);
+		}
+		finally {
+			session.close();
+		}
+		assertThat( selectAge(), is( 21 ) );
+	}
+
+	@Test(expected = NotYetImplementedException.class)
+	public void testExecuteUpdateOfSqlAst() {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+		try {
+			new SqlTreeExecutorImpl().executeUpdate(
+					interpretSelectQuery( "select p.name from Person p" ),
+					PreparedStatementCreatorStandardImpl.INSTANCE,
+					queryOptions(),
+					parameterBindings(),
+					session,
+					new ExecutionContextTestImpl( session )
+			);
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Test
+	public void testImmediateExecutionOutsideOfTransaction() {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+		try {
+			// nothing would be sure to execute a batch outside of a transaction
+			assertThat( executeUpdateAge( session ), is( 1 ) );
+		}
+		finally {
+			session.close();
+		}
+		assertThat( selectAge(), is( 21 ) );
+	}
+
+	@Test
+	public void testBatchExecutedBeforeCommit() {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+		try {
+			// the commit does not flush the session, yet the batch gets executed
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			session.beginTransaction();
+			assertThat( executeUpdateAge( session ), is( Statement.SUCCESS_NO_INFO ) );
+			assertThat( executeUpdateAge( session ), is( Statement.SUCCESS_NO_INFO ) );
+			session.getTransaction().commit();
+		}
+		finally {
+			session.close();
+		}
+		assertThat( selectAge(), is( 21 ) );
+	}
+
+	@Test
+	public void testBatchDiscardedOnRollback() {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+		try {
+			session.beginTransaction();
+			assertThat( executeUpdateAge( session ), is( Statement.SUCCESS_NO_INFO ) );
+			session.getTransaction().rollback();
+		}
+		finally {
+			session.close();
+		}
+		assertThat( selectAge(), is( 20 ) );
+	}
+
+	@Test
+	public void testBatchExecutedBeforeCommitOfLaterTransaction() {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+		try {
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			session.beginTransaction();
+			assertThat( executeUpdateAge( session ), is( Statement.SUCCESS_NO_INFO ) );
+			session.getTransaction().rollback();
+
+			// the batch is still executed before the commit of the session's next transaction
+			session.beginTransaction();
+			assertThat( executeUpdateAge( session ), is( Statement.SUCCESS_NO_INFO ) );
+			session.getTransaction().commit();
+		}
+		finally {
+			session.close();
+		}
+		assertThat( selectAge(), is( 21 ) );
+	}
+
+	private int executeUpdateAge(SharedSessionContractImplementor session) {
+		return new SqlTreeExecutorImpl().executeNonSelect(
+				UPDATE_AGE,
+				PreparedStatementCreatorStandardImpl.INSTANCE,
+				queryOptions(),
+				parameterBindings(),
+				session,
+				new ExecutionContextTestImpl( session )
+		);
+	}
+
+	private QueryParameterBindings parameterBindings() {
+		return QueryParameterBindingsImpl.from(
+				new ParameterMetadataImpl( null, null ),
+				new QueryParameterBindingTypeResolverImpl( getSessionFactory() )
+		);
+	}
+
+	private int selectAge() {
+		final Session session = getSessionFactory().openSession();
+		try {
+			return session.doReturningWork(
+					connection -> {
+						try ( PreparedStatement ps = connection.prepareStatement( "select age from Person where id = 1" ) ) {
+							try ( ResultSet resultSet = ps.executeQuery() ) {
+								resultSet.next();
+								return resultSet.getInt( 1 );
+							}
+						}
+					}
+			);
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Entity(name="Person")
+	@SuppressWarnings({"WeakerAccess", "unused"})
+	public static class Person {
+		@Id
+		Integer id;
+		String name;
+		int age;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name, int age) {
+			this.id = id;
+			this.name = name;
+			this.age = age;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.gen;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.PreparedStatementRecorder;
+import org.hibernate.sql.exec.spi.PreparedStatementCache;
+import org.hibernate.sql.exec.spi.PreparedStatementCreator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+public class PreparedStatementCacheTest extends BaseUnitTest {
+	private final List<PreparedStatementRecorder> recorders = new ArrayList<>();
+	private final PreparedStatementCreator statementCreator = (connection, sql) -> {
+		final PreparedStatementRecorder recorder = new PreparedStatementRecorder( sql );
+		recorders.add( recorder );
+		return recorder.getStatement();
+	};
+
+	private SharedSessionContractImplementor session;
+
+	@Before
+	public void openSession() {
+		session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+	}
+
+	@After
+	public void closeSession() {
+		session.close();
+	}
+
+	@Test
+	public void testReuse() throws SQLException {
+		final PreparedStatementCache cache = new PreparedStatementCache( 2 );
+
+		final PreparedStatement first = cache.prepare( statementCreator, "select a", session );
+		// a checked out statement is never handed out twice
+		final PreparedStatement concurrent = cache.prepare( statementCreator, "select a", session );
+		assertThat( concurrent, not( sameInstance( first ) ) );
+		cache.release( concurrent, session );
+		cache.release( first, session );
+
+		assertThat( cache.prepare( statementCreator, "select a", session ), sameInstance( first ) );
+		assertThat( cache.prepare( statementCreator, "select b", session ), not( sameInstance( first ) ) );
+		// another creator produces statements with another ResultSet type
+		assertThat(
+				cache.prepare( (connection, sql) -> statementCreator.create( connection, sql ), "select a", session ),
+				not( sameInstance( first ) )
+		);
+
+		// the first statement was kept in place of the concurrently used one
+		assertThat( recorders.get( 0 ).isClosed(), is( false ) );
+		assertThat( recorders.get( 1 ).isClosed(), is( true ) );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction() throws SQLException {
+		final PreparedStatementCache cache = new PreparedStatementCache( 2 );
+
+		executeAndRelease( cache, "select a" );
+		executeAndRelease( cache, "select b" );
+		// makes "select b" the least recently used statement
+		executeAndRelease( cache, "select a" );
+		executeAndRelease( cache, "select c" );
+
+		assertThat( recorders.size(), is( 3 ) );
+		assertThat( cache.size(), is( 2 ) );
+		assertThat( recorders.get( 0 ).isClosed(), is( false ) );
+		assertThat( recorders.get( 1 ).isClosed(), is( true ) );
+		assertThat( recorders.get( 2 ).isClosed(), is( false ) );
+	}
+
+	@Test
+	public void testStatementResetOnRelease() throws SQLException {
+		final PreparedStatementCache cache = new PreparedStatementCache( 2 );
+
+		final PreparedStatement ps = cache.prepare( statementCreator, "select a", session );
+		ps.setFetchSize( 50 );
+		ps.setMaxRows( 10 );
+		ps.setQueryTimeout( 5 );
+		ps.setInt( 1, 1 );
+		cache.release( ps, session );
+
+		final PreparedStatementRecorder recorder = recorders.get( 0 );
+		assertThat( recorder.isClosed(), is( false ) );
+		// back to the options the statement was prepared with
+		assertThat( ps.getFetchSize(), is( 0 ) );
+		assertThat( ps.getMaxRows(), is( 0 ) );
+		assertThat( ps.getQueryTimeout(), is( 0 ) );
+		assertThat( recorder.getBoundValues().isEmpty(), is( true ) );
+	}
+
+	@Test
+	public void testDisabledCache() throws SQLException {
+		final PreparedStatementCache cache = new PreparedStatementCache( 0 );
+
+		executeAndRelease( cache, "select a" );
+		executeAndRelease( cache, "select a" );
+
+		assertThat( recorders.size(), is( 2 ) );
+		assertThat( cache.size(), is( 0 ) );
+		assertThat( recorders.get( 0 ).isClosed(), is( true ) );
+		assertThat( recorders.get( 1 ).isClosed(), is( true ) );
+	}
+
+	private void executeAndRelease(PreparedStatementCache cache, String sql) throws SQLException {
+		cache.release( cache.prepare( statementCreator, sql, session ), session );
+	}
+}
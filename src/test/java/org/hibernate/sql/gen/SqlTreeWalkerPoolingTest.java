@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.gen;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.proposed.QuerySettings;
+import org.hibernate.sql.ast.SelectQuery;
+import org.hibernate.sql.ast.expression.Expression;
+import org.hibernate.sql.ast.expression.QueryLiteral;
+import org.hibernate.sql.ast.predicate.Junction;
+import org.hibernate.sql.ast.predicate.RelationalPredicate;
+import org.hibernate.sql.convert.spi.SqlSelectInterpretation;
+import org.hibernate.sql.convert.spi.SqlTreeWalker;
+import org.hibernate.sql.exec.results.spi.ReturnReader;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that the per-thread pooled SqlTreeWalker renders the same SQL after a rendering
+ * failed midway as it did before
+ *
+ * @author Steve Ebersole
+ */
+public class SqlTreeWalkerPoolingTest extends BaseUnitTest {
+	private static final String QUERY = "select p.name from Person p where p.age = 20";
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder serviceRegistryBuilder) {
+		super.applySettings( serviceRegistryBuilder );
+		serviceRegistryBuilder.applySetting( QuerySettings.POOL_SQL_TREE_WALKERS, true );
+	}
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( Person.class );
+	}
+
+	@Test
+	public void testReuseAfterFailedRendering() {
+		// pools the walker
+		final SqlSelectInterpretation expected = render( interpretSelectQuery( QUERY ) );
+
+		// the pooled walker fails after having rendered the select clause and a bound literal
+		final SelectQuery failingQuery = interpretSelectQuery( QUERY );
+		final Junction restrictions = new Junction( Junction.Nature.CONJUNCTION );
+		restrictions.add( failingQuery.getQuerySpec().getWhereClauseRestrictions() );
+		restrictions.add(
+				new RelationalPredicate(
+						RelationalPredicate.Operator.EQUAL,
+						new QueryLiteral( 1, StandardBasicTypes.INTEGER ),
+						new FailingExpression()
+				)
+		);
+		failingQuery.getQuerySpec().setWhereClauseRestrictions( restrictions );
+		try {
+			render( failingQuery );
+			fail( "Expecting the rendering to fail" );
+		}
+		catch (RenderingFailure expectedFailure) {
+		}
+
+		// none of the failed rendering's SQL or binders leak into the following ones, whether
+		// rendered by a new walker or by the one it pooled in turn
+		for ( int i = 0; i < 2; i++ ) {
+			final SqlSelectInterpretation interpretation = render( interpretSelectQuery( QUERY ) );
+			assertThat( interpretation.getSql(), is( expected.getSql() ) );
+			assertThat( interpretation.getParameterBinders().size(), is( expected.getParameterBinders().size() ) );
+		}
+	}
+
+	private SqlSelectInterpretation render(SelectQuery selectQuery) {
+		return SqlTreeWalker.interpret(
+				selectQuery,
+				getSessionFactory(),
+				queryOptions(),
+				buildQueryParameterBindings( interpret( QUERY ) )
+		);
+	}
+
+	private static class RenderingFailure extends RuntimeException {
+	}
+
+	private static class FailingExpression implements Expression {
+		@Override
+		public Type getType() {
+			return StandardBasicTypes.INTEGER;
+		}
+
+		@Override
+		public ReturnReader getReturnReader(int startPosition, boolean shallow, SessionFactoryImplementor sessionFactory) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void accept(SqlTreeWalker sqlTreeWalker) {
+			throw new RenderingFailure();
+		}
+	}
+
+	@Entity(name="Person")
+	@SuppressWarnings({"WeakerAccess", "unused"})
+	public static class Person {
+		@Id
+		Integer id;
+		String name;
+		int age;
+	}
+}
@@ -6,30 +6,32 @@
  */
 package org.hibernate.sql.gen;
 
+import java.sql.SQLException;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.boot.MetadataSources;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
-import org.hibernate.query.proposed.QueryParameter;
-import org.hibernate.query.proposed.internal.ParameterMetadataImpl;
-import org.hibernate.query.proposed.internal.QueryParameterBindingsImpl;
-import org.hibernate.query.proposed.internal.QueryParameterNamedImpl;
-import org.hibernate.query.proposed.internal.QueryParameterPositionalImpl;
-import org.hibernate.sql.QueryParameterBindingTypeResolverImpl;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.proposed.QueryOptions;
+import org.hibernate.sql.PreparedStatementRecorder;
+import org.hibernate.sql.ast.QuerySpec;
 import org.hibernate.sql.ast.SelectQuery;
 import org.hibernate.query.proposed.spi.QueryParameterBindings;
+import org.hibernate.sql.ast.expression.CountStarFunction;
+import org.hibernate.sql.ast.expression.QueryLiteral;
+import org.hibernate.sql.ast.predicate.RelationalPredicate;
 import org.hibernate.sql.convert.spi.SelectStatementInterpreter;
+import org.hibernate.sql.convert.spi.SqlSelectInterpretation;
 import org.hibernate.sql.convert.spi.SqlTreeWalker;
+import org.hibernate.sql.spi.ParameterBinder;
 import org.hibernate.sqm.query.SqmSelectStatement;
-import org.hibernate.sqm.query.SqmStatement;
+import org.hibernate.type.StandardBasicTypes;
 
 import org.junit.Test;
 
@@ -74,42 +76,6 @@ public class SqlTreeWalkerSmokeTest extends BaseUnitTest {
 		assertThat( sqlTreeWalker.getReturns().size(), is(1) );
 	}
 
-	private QueryParameterBindings buildQueryParameterBindings(SqmSelectStatement statement) {
-		return QueryParameterBindingsImpl.from(
-				buildParameterMetadata( statement ),
-				new QueryParameterBindingTypeResolverImpl( getSessionFactory() )
-		);
-	}
-
-
-	private static ParameterMetadataImpl buildParameterMetadata(SqmStatement sqm) {
-		Map<String, QueryParameter> namedQueryParameters = null;
-		Map<Integer, QueryParameter> positionalQueryParameters = null;
-
-		for ( org.hibernate.sqm.query.Parameter parameter : sqm.getQueryParameters() ) {
-			if ( parameter.getName() != null ) {
-				if ( namedQueryParameters == null ) {
-					namedQueryParameters = new HashMap<>();
-				}
-				namedQueryParameters.put(
-						parameter.getName(),
-						QueryParameterNamedImpl.fromSqm( parameter )
-				);
-			}
-			else if ( parameter.getPosition() != null ) {
-				if ( positionalQueryParameters == null ) {
-					positionalQueryParameters = new HashMap<>();
-				}
-				positionalQueryParameters.put(
-						parameter.getPosition(),
-						QueryParameterPositionalImpl.fromSqm( parameter )
-				);
-			}
-		}
-
-		return new ParameterMetadataImpl( namedQueryParameters, positionalQueryParameters );
-	}
-
 	@Test
 	public void testSqlTreeWalking2() {
 		final String qryStr = "select p.name, p2.name from Person p, Person p2";
@@ -386,6 +352,159 @@ public class SqlTreeWalkerSmokeTest extends BaseUnitTest {
 		assertThat( sqlTreeWalker.getSql(), containsString( "r1.description" ) );
 	}
 
+	@Test
+	public void testSqlSelectInterpretationReuse() {
+		final String qryStr = "select p.name from Person p where p.age = :age";
+		final SqmSelectStatement statement = (SqmSelectStatement) interpret( qryStr );
+		final SelectQuery sqlTree = SelectStatementInterpreter.interpret(
+				statement,
+				getSessionFactory(),
+				getConsumerContext().getDomainMetamodel(),
+				queryOptions(),
+				callBack()
+		);
+
+		final QueryParameterBindings parameterBindings = buildQueryParameterBindings( statement );
+		parameterBindings.getBinding( "age" ).setBindValue( 20 );
+
+		final SqlSelectInterpretation interpretation = SqlTreeWalker.interpret(
+				sqlTree,
+				getSessionFactory(),
+				queryOptions(),
+				parameterBindings
+		);
+
+		assertThat( interpretation.getSql(), containsString( "?" ) );
+		assertThat( interpretation.getParameterBinders().size(), is(1) );
+		assertThat( interpretation.getReturns().size(), is(1) );
+
+		// re-binding a value of the same type does not change the rendered SQL
+		parameterBindings.getBinding( "age" ).setBindValue( 39 );
+		assertThat( interpretation.isCompatibleWith( queryOptions(), parameterBindings, getSessionFactory() ), is(true) );
+	}
+
+	@Test
+	public void testOrderByRendering() {
+		final String qryStr = "select p.name from Person p order by p.name desc";
+		final SqmSelectStatement statement = (SqmSelectStatement) interpret( qryStr );
+		final SelectQuery sqlTree = SelectStatementInterpreter.interpret(
+				statement,
+				getSessionFactory(),
+				getConsumerContext().getDomainMetamodel(),
+				queryOptions(),
+				callBack()
+		);
+		assertThat( sqlTree.getSortSpecifications().size(), is(1) );
+
+		SqlTreeWalker sqlTreeWalker = new SqlTreeWalker(
+				getSessionFactory(),
+				buildQueryParameterBindings( statement )
+		);
+		sqlTreeWalker.visitSelectQuery( sqlTree );
+
+		System.out.println( FormatStyle.BASIC.getFormatter().format( sqlTreeWalker.getSql() ) );
+
+		assertThat( sqlTreeWalker.getSql(), containsString( " order by " ) );
+		assertThat( sqlTreeWalker.getSql(), containsString( " desc" ) );
+	}
+
+	@Test
+	public void testGroupByAndHavingRendering() throws SQLException {
+		final SqmSelectStatement statement = (SqmSelectStatement) interpret(
+				"select p.age from Person p where p.name = :name"
+		);
+		final SelectQuery sqlTree = SelectStatementInterpreter.interpret(
+				statement,
+				getSessionFactory(),
+				getConsumerContext().getDomainMetamodel(),
+				queryOptions(),
+				callBack()
+		);
+
+		// SQM does not model group-by/having yet, so add them to the SQL AST by hand
+		final QuerySpec querySpec = sqlTree.getQuerySpec();
+		querySpec.addGroupByExpression( querySpec.getSelectClause().getSelections().get( 0 ).getSelectExpression() );
+		querySpec.setHavingClauseRestrictions(
+				new RelationalPredicate(
+						RelationalPredicate.Operator.GT,
+						new CountStarFunction( false, StandardBasicTypes.LONG ),
+						new QueryLiteral( 1L, StandardBasicTypes.LONG )
+				)
+		);
+
+		final QueryParameterBindings parameterBindings = buildQueryParameterBindings( statement );
+		parameterBindings.getBinding( "name" ).setBindValue( "Steve" );
+
+		final SqlSelectInterpretation interpretation = SqlTreeWalker.interpret(
+				sqlTree,
+				getSessionFactory(),
+				queryOptions(),
+				parameterBindings
+		);
+
+		System.out.println( FormatStyle.BASIC.getFormatter().format( interpretation.getSql() ) );
+
+		final String sql = interpretation.getSql();
+		assertThat( sql, containsString( " group by " ) );
+		assertThat( sql, containsString( " having count(*)>?" ) );
+		assertThat( sql.indexOf( " where " ) < sql.indexOf( " group by " ), is(true) );
+		assertThat( sql.indexOf( " group by " ) < sql.indexOf( " having " ), is(true) );
+
+		// the where-clause parameter is bound before the having-clause literal
+		assertThat( interpretation.getParameterBinders().size(), is(2) );
+		final PreparedStatementRecorder recorder = new PreparedStatementRecorder( sql );
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) getSessionFactory().openSession();
+		try {
+			int position = 1;
+			for ( ParameterBinder parameterBinder : interpretation.getParameterBinders() ) {
+				position += parameterBinder.bindParameterValue( recorder.getStatement(), position, parameterBindings, session );
+			}
+		}
+		finally {
+			session.close();
+		}
+		assertThat( recorder.getBoundValues().get( 1 ), is( (Object) "Steve" ) );
+		assertThat( recorder.getBoundValues().get( 2 ), is( (Object) 1L ) );
+	}
+
+	@Test
+	public void testLimitRendering() {
+		final SqmSelectStatement statement = (SqmSelectStatement) interpret( "select p.name from Person p" );
+		final SelectQuery sqlTree = SelectStatementInterpreter.interpret(
+				statement,
+				getSessionFactory(),
+				getConsumerContext().getDomainMetamodel(),
+				queryOptions(),
+				callBack()
+		);
+		final QueryParameterBindings parameterBindings = buildQueryParameterBindings( statement );
+
+		final QueryOptions queryOptions = queryOptions();
+		queryOptions.getLimit().setFirstRow( 50 );
+		queryOptions.getLimit().setMaxRows( 25 );
+
+		final SqlSelectInterpretation interpretation = SqlTreeWalker.interpret(
+				sqlTree,
+				getSessionFactory(),
+				queryOptions,
+				parameterBindings
+		);
+
+		System.out.println( FormatStyle.BASIC.getFormatter().format( interpretation.getSql() ) );
+
+		// the limit values are bound, so another page renders the same SQL
+		assertThat( interpretation.getSql(), containsString( "limit ?" ) );
+		assertThat( interpretation.determineRowsToSkip( queryOptions ), is(0) );
+
+		final QueryOptions nextPageOptions = queryOptions();
+		nextPageOptions.getLimit().setFirstRow( 75 );
+		nextPageOptions.getLimit().setMaxRows( 25 );
+		assertThat( interpretation.isCompatibleWith( nextPageOptions, parameterBindings, getSessionFactory() ), is(true) );
+
+		// but not a query without a limit
+		assertThat( interpretation.isCompatibleWith( queryOptions(), parameterBindings, getSessionFactory() ), is(false) );
+	}
+
 	@Entity(name="Person")
 	@SuppressWarnings({"WeakerAccess", "unused"})
 	public static class Person {
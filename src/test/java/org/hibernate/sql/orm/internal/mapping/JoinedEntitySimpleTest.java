@@ -22,6 +22,7 @@ import org.hibernate.sql.ast.from.TableBinding;
 import org.hibernate.sql.convert.internal.FromClauseIndex;
 import org.hibernate.sql.convert.internal.SqlAliasBaseManager;
 import org.hibernate.sql.gen.BaseUnitTest;
+import org.hibernate.sqm.query.JoinType;
 import org.hibernate.sqm.query.SqmSelectStatement;
 
 import org.junit.Test;
@@ -29,6 +30,7 @@ import org.junit.Test;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 /**
@@ -80,6 +82,11 @@ public class JoinedEntitySimpleTest extends BaseUnitTest {
 		final TableBinding secondSubclassTableBinding = result.getTableJoins().get( 1 ).getJoinedTableBinding();
 		assertThat( secondSubclassTableBinding.getTable().getTableExpression(), equalTo( "joined_entity_leaf" ) );
 		assertThat( secondSubclassTableBinding.getIdentificationVariable(), equalTo( "j1_1" ) );
+
+		// subclass tables are only joined when referenced
+		assertThat( result.getRequiredTableJoins().size(), equalTo( 0 ) );
+		assertThat( result.getTableJoins().get( 0 ).getJoinType(), equalTo( JoinType.LEFT ) );
+		assertThat( result.getTableJoins().get( 1 ).getJoinType(), equalTo( JoinType.LEFT ) );
 	}
 
 	@Test
@@ -127,6 +134,12 @@ public class JoinedEntitySimpleTest extends BaseUnitTest {
 		final TableBinding secondSubclassTableBinding = result.getTableJoins().get( 1 ).getJoinedTableBinding();
 		assertThat( secondSubclassTableBinding.getTable().getTableExpression(), equalTo( "joined_entity_leaf" ) );
 		assertThat( secondSubclassTableBinding.getIdentificationVariable(), equalTo( "j1_1" ) );
+
+		// the superclass table is always joined, the subclass table only when referenced
+		assertThat( result.getRequiredTableJoins().size(), equalTo( 1 ) );
+		assertThat( result.getRequiredTableJoins().get( 0 ).getJoinedTableBinding(), sameInstance( firstSubclassTableBinding ) );
+		assertThat( result.getTableJoins().get( 0 ).getJoinType(), equalTo( JoinType.INNER ) );
+		assertThat( result.getTableJoins().get( 1 ).getJoinType(), equalTo( JoinType.LEFT ) );
 	}
 
 	@Test
@@ -174,6 +187,12 @@ public class JoinedEntitySimpleTest extends BaseUnitTest {
 		final TableBinding secondSubclassTableBinding = result.getTableJoins().get( 1 ).getJoinedTableBinding();
 		assertThat( secondSubclassTableBinding.getTable().getTableExpression(), equalTo( "joined_entity_base" ) );
 		assertThat( secondSubclassTableBinding.getIdentificationVariable(), equalTo( "j1_1" ) );
+
+		// superclass tables are always joined
+		assertThat( result.getRequiredTableJoins().size(), equalTo( 2 ) );
+		assertThat( result.getTableJoins().get( 0 ).getJoinType(), equalTo( JoinType.INNER ) );
+		assertThat( result.getTableJoins().get( 1 ).getJoinType(), equalTo( JoinType.INNER ) );
+		assertThat( result.getTableJoins().get( 1 ).getJoinPredicate(), notNullValue() );
 	}
 
 